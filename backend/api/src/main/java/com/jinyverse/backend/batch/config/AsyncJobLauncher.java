@@ -0,0 +1,125 @@
+package com.jinyverse.backend.batch.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 오래 걸리는 배치(썸네일/이미지 변형 백필 등)를 별도 스레드에서 실행.
+ * 관리자 요청은 시작만 하고 바로 반환한다. 같은 잡이 이미 실행 중이면 새로 시작하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncJobLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+
+    /** 실행 중(STARTED) 기록이 이 시간 넘게 갱신되지 않으면 프로세스 종료로 남은 것으로 보고 FAILED 처리 */
+    @Value("${app.batch.stale-execution-minutes:30}")
+    private long staleExecutionMinutes;
+
+    @Async
+    public void launch(Job job) {
+        if (isRunning(job)) return;
+        runNew(job);
+    }
+
+    /**
+     * 마지막 실행이 실패/중단됐으면 같은 파라미터로 재시작해 이어서 처리하고(완료된 스텝/파티션은 건너뜀),
+     * 아니면 새로 실행한다.
+     */
+    @Async
+    public void launchOrRestart(Job job) {
+        try {
+            if (isRunning(job)) return;
+            JobInstance instance = jobExplorer.getLastJobInstance(job.getName());
+            JobExecution last = instance != null ? jobExplorer.getLastJobExecution(instance) : null;
+            if (last != null && (last.getStatus() == BatchStatus.FAILED || last.getStatus() == BatchStatus.STOPPED)) {
+                log.info("AsyncJobLauncher: {} 재시작 (이전 실행 {} {})", job.getName(), last.getId(), last.getStatus());
+                jobLauncher.run(job, last.getJobParameters());
+                return;
+            }
+        } catch (Exception e) {
+            log.error("AsyncJobLauncher: {} 재시작 실패 - {}", job.getName(), e.getMessage(), e);
+            return;
+        }
+        // 이 클래스 안의 호출은 프록시를 거치지 않으므로 @Async launch 대신 같은 스레드에서 바로 실행
+        runNew(job);
+    }
+
+    private void runNew(Job job) {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("runAt", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(job, params);
+        } catch (Exception e) {
+            log.error("AsyncJobLauncher: {} 실행 실패 - {}", job.getName(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 같은 잡의 실행 중 기록이 있으면 true (다른 인스턴스 포함).
+     * 오래 갱신되지 않은 기록은 비정상 종료로 남은 것이므로 FAILED로 바꿔 재시작할 수 있게 한다.
+     */
+    private boolean isRunning(Job job) {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(staleExecutionMinutes);
+        boolean running = false;
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(job.getName())) {
+            if (lastActivity(execution).isBefore(staleBefore)) {
+                log.warn("AsyncJobLauncher: {} 실행 {} 이 {}분 넘게 갱신되지 않아 FAILED 처리",
+                        job.getName(), execution.getId(), staleExecutionMinutes);
+                markFailed(execution);
+            } else {
+                log.info("AsyncJobLauncher: {} 이미 실행 중 (실행 {}), 시작하지 않음", job.getName(), execution.getId());
+                running = true;
+            }
+        }
+        return running;
+    }
+
+    private static LocalDateTime lastActivity(JobExecution execution) {
+        LocalDateTime last = Objects.requireNonNullElse(execution.getLastUpdated(), execution.getCreateTime());
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getLastUpdated() != null && step.getLastUpdated().isAfter(last)) {
+                last = step.getLastUpdated();
+            }
+        }
+        return last;
+    }
+
+    private void markFailed(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getStatus().isRunning()) {
+                step.setStatus(BatchStatus.FAILED);
+                step.setExitStatus(ExitStatus.FAILED);
+                step.setEndTime(now);
+                jobRepository.update(step);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED);
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+    }
+}
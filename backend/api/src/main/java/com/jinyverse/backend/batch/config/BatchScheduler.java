@@ -1,7 +1,9 @@
 package com.jinyverse.backend.batch.config;
 
+import com.jinyverse.backend.batch.job.BoardCascadeDeleteJobConfig;
 import com.jinyverse.backend.batch.job.CleanupIdempotencyRecordsJobConfig;
 import com.jinyverse.backend.batch.job.CleanupOrphanFilesJobConfig;
+import com.jinyverse.backend.batch.job.TopicCommentStatsReconcileJobConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -25,6 +27,12 @@ public class BatchScheduler {
     @Qualifier(CleanupIdempotencyRecordsJobConfig.JOB_NAME)
     private final Job cleanupIdempotencyRecordsJob;
 
+    @Qualifier(BoardCascadeDeleteJobConfig.JOB_NAME)
+    private final Job boardCascadeDeleteJob;
+
+    @Qualifier(TopicCommentStatsReconcileJobConfig.JOB_NAME)
+    private final Job topicCommentStatsReconcileJob;
+
     @Scheduled(cron = "0 0 0 * * *")
     public void runCleanupOrphanFiles() {
         try {
@@ -50,4 +58,32 @@ public class BatchScheduler {
             log.error("BatchScheduler: cleanupIdempotencyRecordsJob 실행 실패 - {}", e.getMessage(), e);
         }
     }
+
+    /** 삭제된 게시판에 남은 게시글 정리 (백그라운드 cascade 실패/중단분) */
+    @Scheduled(cron = "0 30 0 * * *")
+    public void runBoardCascadeDelete() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("runAt", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(boardCascadeDeleteJob, params);
+            log.info("BatchScheduler: boardCascadeDeleteJob 실행 시작");
+        } catch (Exception e) {
+            log.error("BatchScheduler: boardCascadeDeleteJob 실행 실패 - {}", e.getMessage(), e);
+        }
+    }
+
+    /** 게시글 댓글 수/마지막 댓글 일시 정합성 보정 */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void runTopicCommentStatsReconcile() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("runAt", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(topicCommentStatsReconcileJob, params);
+            log.info("BatchScheduler: topicCommentStatsReconcileJob 실행 시작");
+        } catch (Exception e) {
+            log.error("BatchScheduler: topicCommentStatsReconcileJob 실행 실패 - {}", e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.jinyverse.backend.batch.config;
+
+import com.jinyverse.backend.batch.job.BoardCascadeDeleteJobConfig;
+import com.jinyverse.backend.batch.tasklet.BoardCascadeDeleteTasklet;
+import com.jinyverse.backend.domain.board.event.BoardCascadeDeleteRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시판 삭제가 커밋된 뒤 별도 스레드에서 boardCascadeDeleteJob 실행.
+ * 실패해도 게시판 삭제는 유지되며, BatchScheduler의 정기 실행이 남은 게시글을 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCascadeDeleteLauncher {
+
+    private final JobLauncher jobLauncher;
+
+    @Qualifier(BoardCascadeDeleteJobConfig.JOB_NAME)
+    private final Job boardCascadeDeleteJob;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardDeleted(BoardCascadeDeleteRequestedEvent event) {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString(BoardCascadeDeleteTasklet.BOARD_ID_PARAM, event.getBoardId().toString())
+                    .addLong("runAt", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(boardCascadeDeleteJob, params);
+        } catch (Exception e) {
+            log.error("BoardCascadeDeleteLauncher: boardId={} 실행 실패 - {}", event.getBoardId(), e.getMessage(), e);
+        }
+    }
+}
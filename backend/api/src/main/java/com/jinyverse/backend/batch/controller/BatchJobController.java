@@ -1,10 +1,20 @@
 package com.jinyverse.backend.batch.controller;
 
+import com.jinyverse.backend.batch.config.AsyncJobLauncher;
 import com.jinyverse.backend.batch.job.CleanupOrphanFilesJobConfig;
+import com.jinyverse.backend.batch.job.ImageMetadataBackfillJobConfig;
+import com.jinyverse.backend.batch.job.ImageVariantBackfillJobConfig;
+import com.jinyverse.backend.batch.job.SearchReindexJobConfig;
 import com.jinyverse.backend.batch.job.ThumbnailBackfillJobConfig;
+import com.jinyverse.backend.batch.job.TopicCommentStatsReconcileJobConfig;
+import com.jinyverse.backend.batch.step.ThumbnailBackfillProgress;
 import com.jinyverse.backend.domain.common.util.Channel;
 import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.file.dto.ThumbnailCacheStatsDto;
+import com.jinyverse.backend.domain.file.dto.ThumbnailQueueStatsDto;
 import com.jinyverse.backend.domain.file.repository.CommonFileRepository;
+import com.jinyverse.backend.domain.file.service.ThumbnailAsyncService;
+import com.jinyverse.backend.domain.file.service.ThumbnailByteCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -36,13 +46,30 @@ public class BatchJobController {
     @Qualifier(ThumbnailBackfillJobConfig.JOB_NAME)
     private final Job thumbnailBackfillJob;
 
+    @Qualifier(ImageVariantBackfillJobConfig.JOB_NAME)
+    private final Job imageVariantBackfillJob;
+
+    @Qualifier(ImageMetadataBackfillJobConfig.JOB_NAME)
+    private final Job imageMetadataBackfillJob;
+
+    @Qualifier(SearchReindexJobConfig.JOB_NAME)
+    private final Job searchReindexJob;
+
+    @Qualifier(TopicCommentStatsReconcileJobConfig.JOB_NAME)
+    private final Job topicCommentStatsReconcileJob;
+
     private final CommonFileRepository commonFileRepository;
+    private final AsyncJobLauncher asyncJobLauncher;
+    private final ThumbnailAsyncService thumbnailAsyncService;
+    private final ThumbnailByteCache thumbnailByteCache;
+    private final ThumbnailBackfillProgress thumbnailBackfillProgress;
 
     private static final List<String> RESIZABLE_TYPES =
             List.of("image/jpeg", "image/jpg", "image/png", "image/webp");
 
+    /** 썸네일 보유 현황 + 마지막 백필 실행의 진행 상황(backfill) */
     @GetMapping("/thumbnail-status")
-    public ResponseEntity<Map<String, Long>> getThumbnailStatus(
+    public ResponseEntity<Map<String, Object>> getThumbnailStatus(
             @RequestHeader(value = "X-Channel", required = false) String channel,
             @RequestHeader(value = "X-Role", required = false) String role) {
         RequestContext ctx = RequestContext.fromHeaders(channel, role);
@@ -54,7 +81,8 @@ public class BatchJobController {
         return ResponseEntity.ok(Map.of(
                 "total", total,
                 "withThumbnail", withThumbnail,
-                "withoutThumbnail", total - withThumbnail
+                "withoutThumbnail", total - withThumbnail,
+                "backfill", thumbnailBackfillProgress.snapshot()
         ));
     }
 
@@ -89,15 +117,99 @@ public class BatchJobController {
         if (ctx.getChannel() == null || !Channel.INTERNAL.equals(ctx.getChannel()) || !ctx.isAdmin()) {
             return ResponseEntity.status(403).build();
         }
+        // 큐 상황에 따라 오래 걸리므로 비동기 실행, 진행 상황은 /thumbnail-queue 로 확인
+        asyncJobLauncher.launchOrRestart(thumbnailBackfillJob);
+        return ResponseEntity.accepted().body(Map.of("status", "started", "job", ThumbnailBackfillJobConfig.JOB_NAME));
+    }
+
+    @PostMapping("/image-variant-backfill")
+    public ResponseEntity<Map<String, String>> runImageVariantBackfill(
+            @RequestHeader(value = "X-Channel", required = false) String channel,
+            @RequestHeader(value = "X-Role", required = false) String role) {
+        RequestContext ctx = RequestContext.fromHeaders(channel, role);
+        if (ctx.getChannel() == null || !Channel.INTERNAL.equals(ctx.getChannel()) || !ctx.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+        asyncJobLauncher.launch(imageVariantBackfillJob);
+        return ResponseEntity.accepted().body(Map.of("status", "started", "job", ImageVariantBackfillJobConfig.JOB_NAME));
+    }
+
+    /** 썸네일은 있으나 이미지 메타데이터(크기, 대표 색, BlurHash)가 없는 기존 파일 채우기 */
+    @PostMapping("/image-metadata-backfill")
+    public ResponseEntity<Map<String, String>> runImageMetadataBackfill(
+            @RequestHeader(value = "X-Channel", required = false) String channel,
+            @RequestHeader(value = "X-Role", required = false) String role) {
+        RequestContext ctx = RequestContext.fromHeaders(channel, role);
+        if (ctx.getChannel() == null || !Channel.INTERNAL.equals(ctx.getChannel()) || !ctx.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+        asyncJobLauncher.launchOrRestart(imageMetadataBackfillJob);
+        return ResponseEntity.accepted().body(Map.of("status", "started", "job", ImageMetadataBackfillJobConfig.JOB_NAME));
+    }
+
+    @GetMapping("/thumbnail-queue")
+    public ResponseEntity<ThumbnailQueueStatsDto> getThumbnailQueue(
+            @RequestHeader(value = "X-Channel", required = false) String channel,
+            @RequestHeader(value = "X-Role", required = false) String role) {
+        RequestContext ctx = RequestContext.fromHeaders(channel, role);
+        if (ctx.getChannel() == null || !Channel.INTERNAL.equals(ctx.getChannel()) || !ctx.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(thumbnailAsyncService.getStats());
+    }
+
+    /** 썸네일 메모리 캐시 적중률/사용량 (요청을 받은 인스턴스 기준) */
+    @GetMapping("/thumbnail-cache")
+    public ResponseEntity<ThumbnailCacheStatsDto> getThumbnailCache(
+            @RequestHeader(value = "X-Channel", required = false) String channel,
+            @RequestHeader(value = "X-Role", required = false) String role) {
+        RequestContext ctx = RequestContext.fromHeaders(channel, role);
+        if (ctx.getChannel() == null || !Channel.INTERNAL.equals(ctx.getChannel()) || !ctx.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+        return ResponseEntity.ok(thumbnailByteCache.getStats());
+    }
+
+    @PostMapping("/search-reindex")
+    public ResponseEntity<Map<String, String>> runSearchReindex(
+            @RequestHeader(value = "X-Channel", required = false) String channel,
+            @RequestHeader(value = "X-Role", required = false) String role) {
+        RequestContext ctx = RequestContext.fromHeaders(channel, role);
+        if (ctx.getChannel() == null || !Channel.INTERNAL.equals(ctx.getChannel()) || !ctx.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("runAt", System.currentTimeMillis())
+                    .toJobParameters();
+            jobLauncher.run(searchReindexJob, params);
+            return ResponseEntity.ok(Map.of("status", "started", "job", SearchReindexJobConfig.JOB_NAME));
+        } catch (Exception e) {
+            log.error("search-reindex 실행 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("status", "error", "message",
+                            e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+        }
+    }
+
+    @PostMapping("/topic-comment-stats")
+    public ResponseEntity<Map<String, String>> runTopicCommentStatsReconcile(
+            @RequestHeader(value = "X-Channel", required = false) String channel,
+            @RequestHeader(value = "X-Role", required = false) String role) {
+        RequestContext ctx = RequestContext.fromHeaders(channel, role);
+        if (ctx.getChannel() == null || !Channel.INTERNAL.equals(ctx.getChannel()) || !ctx.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
 
         try {
             JobParameters params = new JobParametersBuilder()
                     .addLong("runAt", System.currentTimeMillis())
                     .toJobParameters();
-            jobLauncher.run(thumbnailBackfillJob, params);
-            return ResponseEntity.ok(Map.of("status", "started", "job", ThumbnailBackfillJobConfig.JOB_NAME));
+            jobLauncher.run(topicCommentStatsReconcileJob, params);
+            return ResponseEntity.ok(Map.of("status", "started", "job", TopicCommentStatsReconcileJobConfig.JOB_NAME));
         } catch (Exception e) {
-            log.error("thumbnail-backfill 실행 실패", e);
+            log.error("topic-comment-stats 실행 실패", e);
             return ResponseEntity.internalServerError()
                     .body(Map.of("status", "error", "message",
                             e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
@@ -0,0 +1,38 @@
+package com.jinyverse.backend.batch.job;
+
+import com.jinyverse.backend.batch.tasklet.BoardCascadeDeleteTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class BoardCascadeDeleteJobConfig {
+
+    public static final String JOB_NAME = "boardCascadeDeleteJob";
+    private static final String STEP_NAME = "boardCascadeDeleteStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BoardCascadeDeleteTasklet boardCascadeDeleteTasklet;
+
+    @Bean(JOB_NAME)
+    public Job boardCascadeDeleteJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(boardCascadeDeleteStep())
+                .build();
+    }
+
+    @Bean(STEP_NAME)
+    public Step boardCascadeDeleteStep() {
+        return new StepBuilder(STEP_NAME, jobRepository)
+                .tasklet(boardCascadeDeleteTasklet, transactionManager)
+                .build();
+    }
+}
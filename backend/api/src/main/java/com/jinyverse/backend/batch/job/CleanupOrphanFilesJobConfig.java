@@ -1,38 +1,103 @@
 package com.jinyverse.backend.batch.job;
 
-import com.jinyverse.backend.batch.tasklet.CleanupOrphanFilesTasklet;
+import com.jinyverse.backend.batch.step.OrphanFile;
+import com.jinyverse.backend.batch.step.OrphanFileItemProcessor;
+import com.jinyverse.backend.batch.step.OrphanFileItemWriter;
+import com.jinyverse.backend.batch.tasklet.CleanupExpiredChunkedUploadsTasklet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
 @Configuration
 @RequiredArgsConstructor
 public class CleanupOrphanFilesJobConfig {
 
     public static final String JOB_NAME = "cleanupOrphanFilesJob";
     private static final String STEP_NAME = "cleanupOrphanFilesStep";
+    private static final String CHUNKED_STEP_NAME = "cleanupExpiredChunkedUploadsStep";
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final CleanupOrphanFilesTasklet cleanupOrphanFilesTasklet;
+    private final DataSource dataSource;
+    private final OrphanFileItemProcessor orphanFileItemProcessor;
+    private final OrphanFileItemWriter orphanFileItemWriter;
+    private final CleanupExpiredChunkedUploadsTasklet cleanupExpiredChunkedUploadsTasklet;
+
+    @Value("${app.batch.orphan-files.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.batch.orphan-files.age-hours:24}")
+    private int ageHours;
 
     @Bean(JOB_NAME)
     public Job cleanupOrphanFilesJob() {
         return new JobBuilder(JOB_NAME, jobRepository)
                 .start(cleanupOrphanFilesStep())
+                .next(cleanupExpiredChunkedUploadsStep())
                 .build();
     }
 
+    /**
+     * 참조가 없는(ref_count = 0) 오래된 파일 삭제. 청크마다 커밋하며, 읽기 위치(id)가 실행 컨텍스트에 저장되어
+     * 실패한 실행을 재시작하면 이어서 진행한다.
+     */
     @Bean(STEP_NAME)
     public Step cleanupOrphanFilesStep() {
         return new StepBuilder(STEP_NAME, jobRepository)
-                .tasklet(cleanupOrphanFilesTasklet, transactionManager)
+                .<OrphanFile, OrphanFile>chunk(chunkSize, transactionManager)
+                .reader(orphanFileReader(null))
+                .processor(orphanFileItemProcessor)
+                .writer(orphanFileItemWriter)
+                .build();
+    }
+
+    /** id keyset 페이징 (삭제된 행이 있어도 다음 페이지가 밀리지 않음). 기준 시각은 실행 파라미터 runAt 기준 */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<OrphanFile> orphanFileReader(
+            @Value("#{jobParameters['runAt']}") Long runAt) {
+        Instant startedAt = runAt != null ? Instant.ofEpochMilli(runAt) : Instant.now();
+        Timestamp before = Timestamp.from(startedAt.minus(Duration.ofHours(ageHours)));
+        return new JdbcPagingItemReaderBuilder<OrphanFile>()
+                .name("orphanFileReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id, file_path, thumbnail_path, content_hash")
+                .fromClause("FROM common_file")
+                .whereClause("WHERE ref_count = 0 AND created_at < :before")
+                .parameterValues(Map.of("before", before))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> new OrphanFile(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("file_path"),
+                        rs.getString("thumbnail_path"),
+                        rs.getString("content_hash")))
+                .build();
+    }
+
+    /** 완료/취소되지 않고 만료된 분할 업로드의 조립 중 파일 정리 */
+    @Bean(CHUNKED_STEP_NAME)
+    public Step cleanupExpiredChunkedUploadsStep() {
+        return new StepBuilder(CHUNKED_STEP_NAME, jobRepository)
+                .tasklet(cleanupExpiredChunkedUploadsTasklet, transactionManager)
                 .build();
     }
 }
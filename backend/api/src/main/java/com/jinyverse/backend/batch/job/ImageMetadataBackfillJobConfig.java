@@ -0,0 +1,38 @@
+package com.jinyverse.backend.batch.job;
+
+import com.jinyverse.backend.batch.tasklet.ImageMetadataBackfillTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class ImageMetadataBackfillJobConfig {
+
+    public static final String JOB_NAME = "imageMetadataBackfillJob";
+    private static final String STEP_NAME = "imageMetadataBackfillStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ImageMetadataBackfillTasklet imageMetadataBackfillTasklet;
+
+    @Bean(JOB_NAME)
+    public Job imageMetadataBackfillJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(imageMetadataBackfillStep())
+                .build();
+    }
+
+    @Bean(STEP_NAME)
+    public Step imageMetadataBackfillStep() {
+        return new StepBuilder(STEP_NAME, jobRepository)
+                .tasklet(imageMetadataBackfillTasklet, transactionManager)
+                .build();
+    }
+}
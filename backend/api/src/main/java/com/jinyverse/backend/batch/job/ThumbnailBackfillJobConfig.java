@@ -1,26 +1,64 @@
 package com.jinyverse.backend.batch.job;
 
-import com.jinyverse.backend.batch.tasklet.ThumbnailBackfillTasklet;
+import com.jinyverse.backend.batch.step.ThumbnailBackfillItemWriter;
+import com.jinyverse.backend.batch.step.ThumbnailBackfillPartitioner;
+import com.jinyverse.backend.batch.step.ThumbnailBackfillThrottle;
+import com.jinyverse.backend.batch.step.ThumbnailTarget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 썸네일 백필: 업로드 날짜 구간으로 파티션을 나누고(ThumbnailBackfillPartitioner), 파티션마다
+ * id keyset 페이징으로 읽어 작업 큐에 등록한다. 청크마다 커밋되며 읽기 위치가 저장되므로,
+ * 실패/중단된 실행을 다시 시작하면 완료된 파티션은 건너뛰고 나머지는 마지막 처리 id 다음부터 이어간다.
+ */
 @Configuration
 @RequiredArgsConstructor
 public class ThumbnailBackfillJobConfig {
 
     public static final String JOB_NAME = "thumbnailBackfillJob";
     private static final String STEP_NAME = "thumbnailBackfillStep";
+    public static final String WORKER_STEP_NAME = "thumbnailBackfillWorkerStep";
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final ThumbnailBackfillTasklet thumbnailBackfillTasklet;
+    private final DataSource dataSource;
+    private final ThumbnailBackfillPartitioner thumbnailBackfillPartitioner;
+    private final ThumbnailBackfillItemWriter thumbnailBackfillItemWriter;
+    private final ThumbnailBackfillThrottle thumbnailBackfillThrottle;
+
+    @Value("${app.batch.thumbnail-backfill.batch-size:200}")
+    private int chunkSize;
+
+    @Value("${app.batch.thumbnail-backfill.grid-size:8}")
+    private int gridSize;
+
+    @Value("${app.batch.thumbnail-backfill.concurrency:2}")
+    private int concurrency;
 
     @Bean(JOB_NAME)
     public Job thumbnailBackfillJob() {
@@ -31,8 +69,54 @@ public class ThumbnailBackfillJobConfig {
 
     @Bean(STEP_NAME)
     public Step thumbnailBackfillStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("thumbnail-backfill-");
+        taskExecutor.setConcurrencyLimit(Math.max(1, concurrency));
         return new StepBuilder(STEP_NAME, jobRepository)
-                .tasklet(thumbnailBackfillTasklet, transactionManager)
+                .partitioner(WORKER_STEP_NAME, thumbnailBackfillPartitioner)
+                .step(thumbnailBackfillWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    /** 청크 반복마다 트랜잭션 시작 전에 ThumbnailBackfillThrottle이 대기한다 */
+    @Bean(WORKER_STEP_NAME)
+    public Step thumbnailBackfillWorkerStep() {
+        RepeatTemplate chunkRepeat = new RepeatTemplate();
+        chunkRepeat.registerListener(thumbnailBackfillThrottle);
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+                .<ThumbnailTarget, ThumbnailTarget>chunk(chunkSize, transactionManager)
+                .reader(thumbnailBackfillReader(null, null))
+                .writer(thumbnailBackfillItemWriter)
+                .stepOperations(chunkRepeat)
+                .build();
+    }
+
+    /** 파티션의 날짜 구간 [fromDay 00:00, toDay 다음날 00:00) 안에서 썸네일이 없는 이미지 */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<ThumbnailTarget> thumbnailBackfillReader(
+            @Value("#{stepExecutionContext['" + ThumbnailBackfillPartitioner.FROM_DAY + "']}") String fromDay,
+            @Value("#{stepExecutionContext['" + ThumbnailBackfillPartitioner.TO_DAY + "']}") String toDay) {
+        String mimeTypes = ThumbnailBackfillPartitioner.RESIZABLE_TYPES.stream()
+                .map(type -> "'" + type + "'")
+                .collect(Collectors.joining(", "));
+        return new JdbcPagingItemReaderBuilder<ThumbnailTarget>()
+                .name("thumbnailBackfillReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id, file_path, mime_type")
+                .fromClause("FROM common_file")
+                .whereClause("WHERE thumbnail_path IS NULL AND mime_type IN (" + mimeTypes + ")"
+                        + " AND created_at >= :from AND created_at < :to")
+                .parameterValues(Map.of(
+                        "from", Timestamp.valueOf(LocalDate.parse(fromDay, DAY_FORMAT).atStartOfDay()),
+                        "to", Timestamp.valueOf(LocalDate.parse(toDay, DAY_FORMAT).plusDays(1).atStartOfDay())))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> new ThumbnailTarget(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("file_path"),
+                        rs.getString("mime_type")))
                 .build();
     }
 }
@@ -0,0 +1,38 @@
+package com.jinyverse.backend.batch.job;
+
+import com.jinyverse.backend.batch.tasklet.TopicCommentStatsReconcileTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class TopicCommentStatsReconcileJobConfig {
+
+    public static final String JOB_NAME = "topicCommentStatsReconcileJob";
+    private static final String STEP_NAME = "topicCommentStatsReconcileStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TopicCommentStatsReconcileTasklet topicCommentStatsReconcileTasklet;
+
+    @Bean(JOB_NAME)
+    public Job topicCommentStatsReconcileJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(topicCommentStatsReconcileStep())
+                .build();
+    }
+
+    @Bean(STEP_NAME)
+    public Step topicCommentStatsReconcileStep() {
+        return new StepBuilder(STEP_NAME, jobRepository)
+                .tasklet(topicCommentStatsReconcileTasklet, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.jinyverse.backend.batch.step;
+
+import java.util.UUID;
+
+/** 고아 파일 정리 대상 (ref_count = 0인 common_file 행) */
+public record OrphanFile(UUID id, String filePath, String thumbnailPath, String contentHash) {
+}
@@ -0,0 +1,61 @@
+package com.jinyverse.backend.batch.step;
+
+import com.jinyverse.backend.domain.common.util.TransactionUtil;
+import com.jinyverse.backend.domain.file.service.FileBlobService;
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 고아 파일의 저장소 파일을 삭제한다. 읽은 뒤 다시 연결됐을 수 있으므로 행을 잠그고 ref_count를 재확인하며,
+ * 잠금은 청크 커밋까지 유지되어 그 사이 연결 트리거는 대기한다. 연결된 파일은 null(건너뜀).
+ * 공유 blob은 참조만 해제하고, 마지막 참조일 때만 FileBlobService가 물리 파일을 지운다.
+ * 물리 파일 삭제는 모두 청크 커밋 후에 일어난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanFileItemProcessor implements ItemProcessor<OrphanFile, OrphanFile> {
+
+    private static final String LOCK_SQL = "SELECT ref_count FROM common_file WHERE id = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileStorage fileStorage;
+    private final FileBlobService fileBlobService;
+
+    @Override
+    public OrphanFile process(OrphanFile file) {
+        List<Integer> refCount = jdbcTemplate.queryForList(LOCK_SQL, Integer.class, file.id());
+        if (refCount.isEmpty() || refCount.get(0) > 0) {
+            return null;
+        }
+
+        if (file.contentHash() != null) {
+            fileBlobService.release(file.contentHash());
+            return file;
+        }
+        // 청크가 롤백되면 행이 남으므로 파일 삭제는 커밋 후에 한다
+        TransactionUtil.runAfterCommit(() -> {
+            deleteQuietly(file.filePath());
+            deleteQuietly(file.thumbnailPath());
+            fileBlobService.deleteVariants(file.filePath());
+        });
+        return file;
+    }
+
+    private void deleteQuietly(String relativePath) {
+        if (relativePath == null) return;
+        try {
+            if (fileStorage.exists(relativePath)) {
+                fileStorage.delete(relativePath);
+            }
+        } catch (Exception e) {
+            log.warn("CleanupOrphanFiles: failed to delete storage file {} - {}", relativePath, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jinyverse.backend.batch.step;
+
+import com.jinyverse.backend.domain.file.service.FileAclCache;
+import com.jinyverse.backend.domain.file.service.ThumbnailByteCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/** 저장소 정리가 끝난 고아 파일 행을 청크 단위로 한 번에 삭제한다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanFileItemWriter implements ItemWriter<OrphanFile> {
+
+    private static final String DELETE_SQL = "DELETE FROM common_file WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileAclCache fileAclCache;
+    private final ThumbnailByteCache thumbnailByteCache;
+
+    @Override
+    public void write(Chunk<? extends OrphanFile> chunk) {
+        List<UUID> ids = chunk.getItems().stream().map(OrphanFile::id).toList();
+        if (ids.isEmpty()) return;
+        int deleted = jdbcTemplate.update(DELETE_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())));
+        fileAclCache.invalidateFiles(ids);
+        thumbnailByteCache.invalidateFiles(ids);
+        log.info("CleanupOrphanFiles: deleted {} orphan file(s)", deleted);
+    }
+}
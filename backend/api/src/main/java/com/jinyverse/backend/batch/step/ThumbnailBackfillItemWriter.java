@@ -0,0 +1,25 @@
+package com.jinyverse.backend.batch.step;
+
+import com.jinyverse.backend.domain.file.service.ThumbnailAsyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 작업 큐에 등록한다. 대기 작업 상한과 초당 등록 건수 제한은 청크 트랜잭션 밖에서
+ * ThumbnailBackfillThrottle이 처리하므로 여기서는 기다리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ThumbnailBackfillItemWriter implements ItemWriter<ThumbnailTarget> {
+
+    private final ThumbnailAsyncService thumbnailAsyncService;
+
+    @Override
+    public void write(Chunk<? extends ThumbnailTarget> chunk) {
+        for (ThumbnailTarget target : chunk) {
+            thumbnailAsyncService.generateAndSave(target.id(), target.filePath(), target.mimeType());
+        }
+    }
+}
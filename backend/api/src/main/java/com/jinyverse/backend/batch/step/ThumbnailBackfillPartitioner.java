@@ -0,0 +1,74 @@
+package com.jinyverse.backend.batch.step;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 썸네일 백필을 업로드 날짜(yyyy/MM/dd) 구간으로 나눈다.
+ * 업로드 파일은 업로드 날짜 디렉터리에 저장되므로(blob 경로는 날짜가 없어 created_at 기준) 파티션 하나는
+ * 연속된 날짜 디렉터리 묶음이고, 대상 건수가 고르게 gridSize개로 나뉘도록 날짜를 이어 붙인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ThumbnailBackfillPartitioner implements Partitioner {
+
+    /** 파티션 실행 컨텍스트 키: 시작/끝 날짜(yyyy/MM/dd, 끝 포함), 분할 시점의 대상 건수 */
+    public static final String FROM_DAY = "fromDay";
+    public static final String TO_DAY = "toDay";
+    public static final String EXPECTED = "expected";
+
+    public static final List<String> RESIZABLE_TYPES = List.of("image/jpeg", "image/jpg", "image/png", "image/webp");
+
+    private static final String DAY_COUNTS_SQL = """
+            SELECT to_char(created_at, 'YYYY/MM/DD') AS day, COUNT(*) AS cnt
+              FROM common_file
+             WHERE thumbnail_path IS NULL AND mime_type = ANY(?)
+             GROUP BY 1
+             ORDER BY 1
+            """;
+
+    private record DayCount(String day, long count) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<DayCount> days = jdbcTemplate.query(DAY_COUNTS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", RESIZABLE_TYPES.toArray())),
+                (rs, rowNum) -> new DayCount(rs.getString("day"), rs.getLong("cnt")));
+        return split(days.stream().map(DayCount::day).toList(),
+                days.stream().mapToLong(DayCount::count).toArray(), gridSize);
+    }
+
+    /** 날짜 순서를 유지하며 누적 건수가 목표(total / gridSize)에 이를 때마다 파티션을 끊는다. */
+    static Map<String, ExecutionContext> split(List<String> days, long[] counts, int gridSize) {
+        long total = 0;
+        for (long count : counts) total += count;
+        long target = Math.max(1, (total + Math.max(1, gridSize) - 1) / Math.max(1, gridSize));
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        int start = 0;
+        long accumulated = 0;
+        for (int i = 0; i < days.size(); i++) {
+            accumulated += counts[i];
+            if (accumulated >= target || i == days.size() - 1) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString(FROM_DAY, days.get(start));
+                context.putString(TO_DAY, days.get(i));
+                context.putLong(EXPECTED, accumulated);
+                partitions.put("partition" + partitions.size(), context);
+                start = i + 1;
+                accumulated = 0;
+            }
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,61 @@
+package com.jinyverse.backend.batch.step;
+
+import com.jinyverse.backend.batch.job.ThumbnailBackfillJobConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마지막 썸네일 백필 실행의 진행 상황. 재시작된 실행은 이전 실행에서 완료된 파티션을 다시 돌리지 않으므로
+ * 같은 Job 인스턴스의 모든 실행을 합쳐 파티션별 최신 상태와 누적 등록 건수를 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ThumbnailBackfillProgress {
+
+    private final JobExplorer jobExplorer;
+
+    public Map<String, Object> snapshot() {
+        JobInstance instance = jobExplorer.getLastJobInstance(ThumbnailBackfillJobConfig.JOB_NAME);
+        if (instance == null) {
+            return Map.of("status", "NONE");
+        }
+        List<JobExecution> executions = jobExplorer.getJobExecutions(instance);
+        JobExecution last = jobExplorer.getLastJobExecution(instance);
+
+        Map<String, StepExecution> latest = new LinkedHashMap<>();
+        long enqueued = 0;
+        for (JobExecution execution : executions) {
+            for (StepExecution step : execution.getStepExecutions()) {
+                if (!step.getStepName().startsWith(ThumbnailBackfillJobConfig.WORKER_STEP_NAME + ":")) continue;
+                enqueued += step.getWriteCount();
+                latest.merge(step.getStepName(), step,
+                        (a, b) -> a.getId() != null && b.getId() != null && a.getId() > b.getId() ? a : b);
+            }
+        }
+
+        long expected = 0;
+        int completed = 0;
+        for (StepExecution step : latest.values()) {
+            expected += step.getExecutionContext().getLong(ThumbnailBackfillPartitioner.EXPECTED, 0L);
+            if (step.getStatus() == BatchStatus.COMPLETED) completed++;
+        }
+
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("status", last != null ? last.getStatus().name() : "UNKNOWN");
+        progress.put("startTime", last != null ? last.getStartTime() : null);
+        progress.put("partitions", latest.size());
+        progress.put("completedPartitions", completed);
+        progress.put("expected", expected);
+        progress.put("enqueued", enqueued);
+        return progress;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jinyverse.backend.batch.step;
+
+import com.jinyverse.backend.domain.file.service.ThumbnailAsyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 썸네일 백필 청크 사이의 대기. 워커 스텝의 청크 반복(stepOperations)에 등록되어 청크 트랜잭션이 시작되기 전에 실행되므로
+ * 기다리는 동안 DB 커넥션을 잡지 않는다. (ChunkListener.beforeChunk는 트랜잭션 안에서 호출된다)
+ * 대기 작업이 high-water 이상이면 줄어들 때까지 멈추고(업로드 썸네일이 백필에 밀리지 않도록),
+ * 모든 파티션이 함께 쓰는 초당 등록 건수(files-per-second)를 넘지 않도록 청크 크기만큼의 허용량을 미리 받아 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailBackfillThrottle implements RepeatListener {
+
+    private final ThumbnailAsyncService thumbnailAsyncService;
+
+    @Value("${app.batch.thumbnail-backfill.high-water:500}")
+    private long highWater;
+
+    @Value("${app.batch.thumbnail-backfill.files-per-second:50}")
+    private int filesPerSecond;
+
+    @Value("${app.batch.thumbnail-backfill.batch-size:200}")
+    private int chunkSize;
+
+    /** 다음 청크가 허용되는 시각 (System.nanoTime 기준) */
+    private long nextPermitNanos;
+
+    @Override
+    public void before(RepeatContext context) {
+        try {
+            while (!thumbnailAsyncService.awaitBacklogBelow(highWater, Duration.ofSeconds(10))) {
+                log.debug("ThumbnailBackfill: 대기 작업이 {}건 이상, 등록 보류", highWater);
+            }
+            throttle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // 스텝을 실패로 끝내 재시작 시 이어가게 한다
+            throw new IllegalStateException("ThumbnailBackfill: 대기 중 인터럽트", e);
+        }
+    }
+
+    private void throttle() throws InterruptedException {
+        if (filesPerSecond <= 0) return;
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitAt + TimeUnit.SECONDS.toNanos(1) * Math.max(1, chunkSize) / filesPerSecond;
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.jinyverse.backend.batch.step;
+
+import java.util.UUID;
+
+/** 썸네일 백필 대상 (썸네일이 없는 이미지 파일) */
+public record ThumbnailTarget(UUID id, String filePath, String mimeType) {
+}
@@ -0,0 +1,63 @@
+package com.jinyverse.backend.batch.tasklet;
+
+import com.jinyverse.backend.domain.topic.service.TopicCascadeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 삭제된 게시판에 남아 있는 게시글을 chunk 단위로 삭제.
+ * 한 번의 execute = chunkSize건 = 한 트랜잭션. 처리한 게시글은 더 이상 조회되지 않으므로 재시작/재실행해도 이어서 진행된다.
+ * boardId 파라미터가 없으면 삭제된 모든 게시판을 대상으로 한다 (정기 실행 시 누락분 정리).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCascadeDeleteTasklet implements Tasklet {
+
+    public static final String BOARD_ID_PARAM = "boardId";
+
+    private static final String SELECT_BY_BOARD_SQL = """
+            SELECT t.id FROM topic t JOIN board b ON b.id = t.board_id
+            WHERE b.id = ? AND b.deleted_at IS NOT NULL AND t.deleted_at IS NULL
+            LIMIT ?
+            """;
+
+    private static final String SELECT_ALL_SQL = """
+            SELECT t.id FROM topic t JOIN board b ON b.id = t.board_id
+            WHERE b.deleted_at IS NOT NULL AND t.deleted_at IS NULL
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TopicCascadeService topicCascadeService;
+
+    @Value("${app.batch.board-cascade-delete.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        String boardId = (String) chunkContext.getStepContext().getJobParameters().get(BOARD_ID_PARAM);
+        List<UUID> topicIds = boardId != null
+                ? jdbcTemplate.queryForList(SELECT_BY_BOARD_SQL, UUID.class, UUID.fromString(boardId), chunkSize)
+                : jdbcTemplate.queryForList(SELECT_ALL_SQL, UUID.class, chunkSize);
+        if (topicIds.isEmpty()) {
+            log.info("BoardCascadeDelete: completed (boardId={})", boardId);
+            return RepeatStatus.FINISHED;
+        }
+        int deleted = topicCascadeService.deleteTopics(topicIds, LocalDateTime.now());
+        contribution.incrementWriteCount(deleted);
+        log.info("BoardCascadeDelete: deleted {} topic(s) (boardId={})", deleted, boardId);
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,28 @@
+package com.jinyverse.backend.batch.tasklet;
+
+import com.jinyverse.backend.domain.file.service.ChunkedUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CleanupExpiredChunkedUploadsTasklet implements Tasklet {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDateTime now = LocalDateTime.now();
+        int count = chunkedUploadService.deleteExpired(now);
+        log.info("CleanupExpiredChunkedUploads: deleted {} unfinished upload(s) (expired before {})", count, now);
+        return RepeatStatus.FINISHED;
+    }
+}
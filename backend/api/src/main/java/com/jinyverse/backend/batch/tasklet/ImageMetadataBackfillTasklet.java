@@ -0,0 +1,101 @@
+package com.jinyverse.backend.batch.tasklet;
+
+import com.jinyverse.backend.domain.file.dto.ImageMetadata;
+import com.jinyverse.backend.domain.file.service.FileBlobService;
+import com.jinyverse.backend.domain.file.service.ImageResizeService;
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 썸네일은 있지만 이미지 메타데이터(원본 크기, 대표 색, BlurHash)가 없는 기존 파일을 채운다.
+ * 원본은 헤더만 읽고 자리표시 값은 이미 있는 썸네일에서 계산하므로 원본을 다시 디코딩하지 않는다.
+ * id 기준 keyset으로 batchSize씩 처리하며, 같은 blob(file_path)은 한 번만 계산해 공유 행 전체에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageMetadataBackfillTasklet implements Tasklet {
+
+    private static final String LAST_ID_KEY = "imageMetadataBackfill.lastId";
+
+    private static final String[] RESIZABLE_TYPES = {"image/jpeg", "image/jpg", "image/png", "image/webp"};
+
+    private static final String SELECT_SQL = """
+            SELECT id, file_path, thumbnail_path FROM common_file
+            WHERE blur_hash IS NULL AND thumbnail_path IS NOT NULL
+              AND mime_type = ANY(?) AND id > ?
+            ORDER BY id LIMIT ?
+            """;
+
+    private record Target(UUID id, String filePath, String thumbnailPath) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileStorage fileStorage;
+    private final ImageResizeService imageResizeService;
+    private final FileBlobService fileBlobService;
+
+    @Value("${app.batch.image-metadata-backfill.batch-size:200}")
+    private int batchSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        String lastIdValue = stepContext.getString(LAST_ID_KEY, null);
+        UUID lastId = lastIdValue != null ? UUID.fromString(lastIdValue) : new UUID(0L, 0L);
+
+        List<Target> targets = jdbcTemplate.query(SELECT_SQL,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", RESIZABLE_TYPES));
+                    ps.setObject(2, lastId);
+                    ps.setInt(3, batchSize);
+                },
+                (rs, rowNum) -> new Target(rs.getObject("id", UUID.class), rs.getString("file_path"),
+                        rs.getString("thumbnail_path")));
+        if (targets.isEmpty()) {
+            log.info("ImageMetadataBackfill: completed");
+            return RepeatStatus.FINISHED;
+        }
+
+        Set<String> done = new HashSet<>();
+        int failed = 0;
+        for (Target t : targets) {
+            if (!done.add(t.filePath())) continue;
+            try {
+                Resource original = fileStorage.getResource(t.filePath());
+                Resource thumbnail = fileStorage.getResource(t.thumbnailPath());
+                if (original == null || !original.exists() || thumbnail == null || !thumbnail.exists()) {
+                    failed++;
+                    log.warn("ImageMetadataBackfill: 원본 또는 썸네일 없음 fileId={}", t.id());
+                    continue;
+                }
+                ImageMetadata metadata = imageResizeService.describe(
+                        original.getFile().toPath(), thumbnail.getFile().toPath());
+                fileBlobService.attachThumbnail(t.filePath(), t.thumbnailPath(), metadata);
+            } catch (Exception e) {
+                failed++;
+                log.warn("ImageMetadataBackfill: fileId={} 계산 실패 - {}", t.id(), e.getMessage());
+            }
+        }
+        for (int i = 0; i < targets.size(); i++) contribution.incrementReadCount();
+        contribution.incrementWriteCount(targets.size());
+        stepContext.putString(LAST_ID_KEY, targets.get(targets.size() - 1).id().toString());
+        log.info("ImageMetadataBackfill: {}개 파일 처리 (실패 {}건)", targets.size(), failed);
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,95 @@
+package com.jinyverse.backend.batch.tasklet;
+
+import com.jinyverse.backend.domain.file.service.ImageVariantService;
+import com.jinyverse.backend.domain.file.util.ImageVariants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 자주 쓰는 크기의 이미지 변형을 미리 생성한다 (목록/모바일 화면 첫 요청 지연 방지).
+ * id 기준 keyset으로 batchSize씩 처리하며, 이미 있는 변형은 건너뛴다.
+ * 생성은 요청 경로와 같은 ImageVariantService를 거치므로 동시 생성 수 제한을 함께 따른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantBackfillTasklet implements Tasklet {
+
+    private static final String LAST_ID_KEY = "imageVariantBackfill.lastId";
+
+    private static final String[] RESIZABLE_TYPES = {"image/jpeg", "image/jpg", "image/png", "image/webp"};
+
+    private static final String SELECT_SQL = """
+            SELECT id, file_path FROM common_file
+            WHERE mime_type = ANY(?) AND id > ?
+            ORDER BY id LIMIT ?
+            """;
+
+    private record Target(UUID id, String filePath) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageVariantService imageVariantService;
+
+    @Value("${app.batch.image-variant-backfill.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.batch.image-variant-backfill.widths:320,640}")
+    private List<Integer> widths;
+
+    @Value("${app.batch.image-variant-backfill.formats:jpeg}")
+    private List<String> formats;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        String lastIdValue = stepContext.getString(LAST_ID_KEY, null);
+        UUID lastId = lastIdValue != null ? UUID.fromString(lastIdValue) : new UUID(0L, 0L);
+
+        List<Target> targets = jdbcTemplate.query(SELECT_SQL,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", RESIZABLE_TYPES));
+                    ps.setObject(2, lastId);
+                    ps.setInt(3, batchSize);
+                },
+                (rs, rowNum) -> new Target(rs.getObject("id", UUID.class), rs.getString("file_path")));
+        if (targets.isEmpty()) {
+            log.info("ImageVariantBackfill: completed");
+            return RepeatStatus.FINISHED;
+        }
+
+        int failed = 0;
+        for (Target t : targets) {
+            for (int width : widths) {
+                if (!ImageVariants.isAllowedWidth(width)) continue;
+                for (String format : formats) {
+                    String fmt = ImageVariants.normalizeFormat(format);
+                    if (fmt == null) continue;
+                    try {
+                        imageVariantService.ensureVariant(t.filePath(), width, fmt);
+                    } catch (Exception e) {
+                        failed++;
+                        log.warn("ImageVariantBackfill: fileId={} w{} {} 생성 실패 - {}",
+                                t.id(), width, fmt, e.getMessage());
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < targets.size(); i++) contribution.incrementReadCount();
+        contribution.incrementWriteCount(targets.size());
+        stepContext.putString(LAST_ID_KEY, targets.get(targets.size() - 1).id().toString());
+        log.info("ImageVariantBackfill: {}개 파일 처리 (실패 {}건)", targets.size(), failed);
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,68 @@
+package com.jinyverse.backend.batch.tasklet;
+
+import com.jinyverse.backend.domain.search.dto.SearchDocument;
+import com.jinyverse.backend.domain.search.service.SearchIndexService;
+import com.jinyverse.backend.domain.topic.entity.Topic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 전체 재색인.
+ * id 기준 keyset으로 batchSize씩 읽어 upsert 하며, 한 번의 execute = 한 배치 = 한 트랜잭션이다.
+ * 마지막 id를 step ExecutionContext에 저장하므로 실패 후 재시작하면 이어서 진행한다.
+ * 모든 배치가 끝나면 삭제된 게시글의 색인 행을 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchReindexTasklet implements Tasklet {
+
+    private static final String LAST_ID_KEY = "searchReindex.lastId";
+
+    private static final String SELECT_SQL =
+            "SELECT id, title, content FROM topic WHERE deleted_at IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndexService searchIndexService;
+
+    @Value("${app.batch.search-reindex.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        String lastIdValue = stepContext.getString(LAST_ID_KEY, null);
+        UUID lastId = lastIdValue != null ? UUID.fromString(lastIdValue) : new UUID(0L, 0L);
+
+        List<SearchDocument> documents = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> SearchDocument.builder()
+                        .targetId(rs.getObject("id", UUID.class))
+                        .primary(rs.getString("title"))
+                        .secondary(rs.getString("content"))
+                        .build(),
+                lastId, batchSize);
+
+        if (documents.isEmpty()) {
+            int purged = searchIndexService.purgeStale(Topic.SEARCH_TARGET_TYPE, "topic");
+            log.info("SearchReindex: completed, purged {} stale entr(ies)", purged);
+            return RepeatStatus.FINISHED;
+        }
+
+        searchIndexService.indexAll(Topic.SEARCH_TARGET_TYPE, documents);
+        contribution.incrementWriteCount(documents.size());
+        stepContext.putString(LAST_ID_KEY, documents.get(documents.size() - 1).getTargetId().toString());
+        log.info("SearchReindex: indexed {} topic(s)", documents.size());
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jinyverse.backend.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 댓글 수(comment_count)/마지막 댓글 일시(last_commented_at) 정합성 보정.
+ * CommentService 의 증감이 어긋난 경우(직접 SQL 수정, 중간 실패 등)를 comment 테이블 기준으로 다시 맞춘다.
+ * id 기준 keyset으로 batchSize씩 처리하며, 한 번의 execute = 한 배치 = 한 트랜잭션이다.
+ * 값이 다른 행만 UPDATE 하므로 정상 상태에서는 쓰기가 발생하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicCommentStatsReconcileTasklet implements Tasklet {
+
+    private static final String LAST_ID_KEY = "topicCommentStatsReconcile.lastId";
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT id FROM topic WHERE deleted_at IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String RECONCILE_SQL = """
+            UPDATE topic t
+            SET comment_count = s.cnt,
+                last_commented_at = s.last_at
+            FROM (
+                SELECT ids.id,
+                       COUNT(c.id)::int AS cnt,
+                       MAX(c.created_at) AS last_at
+                FROM unnest(?) AS ids(id)
+                LEFT JOIN comment c ON c.topic_id = ids.id AND c.deleted_at IS NULL
+                GROUP BY ids.id
+            ) s
+            WHERE t.id = s.id
+              AND (t.comment_count <> s.cnt OR t.last_commented_at IS DISTINCT FROM s.last_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.batch.topic-comment-stats.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        String lastIdValue = stepContext.getString(LAST_ID_KEY, null);
+        UUID lastId = lastIdValue != null ? UUID.fromString(lastIdValue) : new UUID(0L, 0L);
+
+        List<UUID> ids = jdbcTemplate.queryForList(SELECT_IDS_SQL, UUID.class, lastId, batchSize);
+        if (ids.isEmpty()) {
+            log.info("TopicCommentStatsReconcile: completed");
+            return RepeatStatus.FINISHED;
+        }
+
+        UUID[] idArray = ids.toArray(UUID[]::new);
+        int fixed = jdbcTemplate.update(RECONCILE_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", idArray)));
+        // StepContribution에는 건수를 받는 incrementReadCount가 없어 읽은 행 수만큼 올린다
+        for (int i = 0; i < ids.size(); i++) contribution.incrementReadCount();
+        contribution.incrementWriteCount(fixed);
+        stepContext.putString(LAST_ID_KEY, ids.get(ids.size() - 1).toString());
+        if (fixed > 0) {
+            log.info("TopicCommentStatsReconcile: fixed {} of {} topic(s)", fixed, ids.size());
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,105 @@
+package com.jinyverse.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * 공개 GET 응답의 ETag / If-None-Match(304) 처리.
+ * ETag는 DTO를 만들기 전에 버전 값(updated_at, 건수 등)만으로 계산하고,
+ * 일치하면 본문 조회·하이드레이션·JSON 직렬화 없이 304를 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EtagSupport {
+
+    /** 브라우저는 저장하되 매번 재검증. 사용자/권한별로 본문이 다르므로 공유 캐시는 사용하지 않는다. */
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 컬렉션 버전: 테이블별 MAX(updated_at)과 COUNT(*)(삭제 행 포함)를 한 번의 쿼리로 읽는다.
+     * 수정·soft delete는 updated_at, hard delete는 건수로 드러난다. 테이블명은 호출부 상수만 사용한다.
+     */
+    public String tableVersion(String... tables) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", "");
+        for (String table : tables) {
+            select.add("(SELECT MAX(updated_at) FROM \"" + table + "\")::text");
+            select.add("(SELECT COUNT(*) FROM \"" + table + "\")::text");
+        }
+        return jdbcTemplate.query(select.toString(), rs -> {
+            StringJoiner version = new StringJoiner("|");
+            if (rs.next()) {
+                for (int i = 1; i <= tables.length * 2; i++) {
+                    version.add(String.valueOf(rs.getString(i)));
+                }
+            }
+            return version.toString();
+        });
+    }
+
+    /** 강한 ETag: 값이 같으면 응답 바이트도 같은 경우에 사용 */
+    public String strong(Object... parts) {
+        return "\"" + hash(parts) + "\"";
+    }
+
+    /** 약한 ETag: 조회수처럼 버전에 포함하지 않는 값이 본문에 있는 경우에 사용 */
+    public String weak(Object... parts) {
+        return "W/" + strong(parts);
+    }
+
+    /** If-None-Match 비교 (RFC 9110 weak comparison, "*" 포함) */
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) return false;
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || opaque.equals(opaque(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+    }
+
+    public <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CACHE_CONTROL).body(body);
+    }
+
+    /** ETag가 일치하면 304, 아니면 body를 그때 만들어 200 */
+    public <T> ResponseEntity<T> respond(String ifNoneMatch, String etag, Supplier<T> body) {
+        return matches(ifNoneMatch, etag) ? notModified(etag) : ok(etag, body.get());
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String hash(Object... parts) {
+        StringJoiner joined = new StringJoiner("\u0000");
+        for (Object part : parts) {
+            joined.add(String.valueOf(part));
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(joined.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
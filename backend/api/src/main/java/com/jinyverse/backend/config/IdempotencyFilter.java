@@ -44,7 +44,9 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             return true;
         }
         String path = request.getRequestURI();
-        return PATH_MATCHER.match("/api/auth/**", path);
+        // 분할 업로드 청크 PUT은 offset 기준으로 멱등이며, 본문(수 MB)을 메모리에 캐시하지 않도록 제외
+        return PATH_MATCHER.match("/api/auth/**", path)
+                || ("PUT".equals(method) && PATH_MATCHER.match("/api/files/uploads/*/chunks", path));
     }
 
     @Override
@@ -103,11 +103,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (path.startsWith("/api/boards/") && path.indexOf('/', 12) < 0) return true; // /api/boards/{id} 단건만
         if (path.equals("/api/topics")) return true;
         if (path.startsWith("/api/topics/") && path.indexOf('/', 12) < 0) return true; // /api/topics/{id} 단건만
-        if (path.equals("/api/comments")) return true;
+        if (path.equals("/api/comments") || path.equals("/api/comments/tree")) return true;
         if (path.equals("/api/landing/sections")) return true;
         if (path.equals("/api/health")) return true;
         if (path.matches("/api/files/[^/]+/download")) return true;
         if (path.matches("/api/files/[^/]+/thumbnail")) return true;
+        if (path.matches("/api/files/[^/]+/image")) return true;
+        if (path.matches("/api/topics/[^/]+/files\\.zip")) return true;
         if (path.equals("/api/auth/check-username")) return true;
         return false;
     }
@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.board.controller;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.board.dto.BoardRequestDto;
 import com.jinyverse.backend.domain.board.dto.BoardResponseDto;
 import com.jinyverse.backend.domain.board.service.BoardService;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +25,7 @@ import java.util.UUID;
 public class BoardController {
 
     private final BoardService boardService;
+    private final EtagSupport etagSupport;
 
     @PostMapping
     public ResponseEntity<BoardResponseDto> create(
@@ -37,10 +40,11 @@ public class BoardController {
     public ResponseEntity<Page<BoardResponseDto>> getAll(
             @RequestParam Map<String, Object> filter,
             Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             RequestContext ctx
     ) {
-        Page<BoardResponseDto> responses = boardService.getAll(filter, pageable, ctx);
-        return ResponseEntity.ok(responses);
+        String etag = boardService.getAllEtag(filter, pageable, ctx);
+        return etagSupport.respond(ifNoneMatch, etag, () -> boardService.getAll(filter, pageable, ctx));
     }
 
     @GetMapping("/count")
@@ -0,0 +1,15 @@
+package com.jinyverse.backend.domain.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/** 게시글이 많은 게시판 삭제 시, 커밋 후 백그라운드 cascade 삭제를 요청하는 이벤트 */
+@Getter
+@AllArgsConstructor
+public class BoardCascadeDeleteRequestedEvent {
+
+    /** 삭제된 게시판 ID */
+    private final UUID boardId;
+}
@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.board.service;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
 import com.jinyverse.backend.domain.board.dto.BoardRequestDto;
 import com.jinyverse.backend.domain.board.dto.BoardResponseDto;
@@ -8,13 +9,14 @@ import com.jinyverse.backend.domain.board.repository.BoardRepository;
 import com.jinyverse.backend.domain.common.util.Channel;
 import com.jinyverse.backend.domain.common.util.CommonSpecifications;
 import com.jinyverse.backend.domain.common.util.RequestContext;
-import com.jinyverse.backend.domain.topic.entity.Topic;
-import com.jinyverse.backend.domain.topic.repository.RelTopicFileRepository;
-import com.jinyverse.backend.domain.topic.repository.RelTopicTagRepository;
+import com.jinyverse.backend.domain.board.event.BoardCascadeDeleteRequestedEvent;
 import com.jinyverse.backend.domain.topic.repository.TopicRepository;
+import com.jinyverse.backend.domain.topic.service.TopicCascadeService;
 import com.jinyverse.backend.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -23,8 +25,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import static com.jinyverse.backend.domain.common.util.CommonSpecifications.PAGINATION_KEYS;
@@ -38,8 +40,13 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final AuditLogHelper auditLogHelper;
     private final TopicRepository topicRepository;
-    private final RelTopicFileRepository relTopicFileRepository;
-    private final RelTopicTagRepository relTopicTagRepository;
+    private final TopicCascadeService topicCascadeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EtagSupport etagSupport;
+
+    /** 이 수 이하의 게시글은 게시판 삭제 트랜잭션 안에서 바로 삭제 */
+    @Value("${app.board.delete.sync-max-topics:1000}")
+    private long syncDeleteMaxTopics;
 
     @Transactional
     public BoardResponseDto create(BoardRequestDto requestDto, RequestContext ctx) {
@@ -63,6 +70,12 @@ public class BoardService {
         return boardRepository.findAll(spec(ctx, filter), pageable).map(Board::toResponseDto);
     }
 
+    /** 목록 ETag: board 테이블 버전 + 요청 파라미터 + 채널/권한(공개 게시판 필터 분기) */
+    public String getAllEtag(Map<String, Object> filter, Pageable pageable, RequestContext ctx) {
+        return etagSupport.strong("boards", etagSupport.tableVersion("board"), new TreeMap<>(filter), pageable,
+                ctx != null ? ctx.getChannel() : null, ctx != null ? ctx.getRole() : null);
+    }
+
     public long count() {
         return boardRepository.countByDeletedAtIsNull();
     }
@@ -93,13 +106,14 @@ public class BoardService {
 
         BoardResponseDto before = board.toResponseDto();
         LocalDateTime now = LocalDateTime.now();
-        List<Topic> topics = topicRepository.findByBoardIdAndDeletedAtIsNull(id);
-        for (Topic topic : topics) {
-            relTopicFileRepository.deleteByTopicId(topic.getId());
-            relTopicTagRepository.deleteByTopicId(topic.getId());
-            topic.setDeletedAt(now);
+        long topicCount = topicRepository.countByBoardIdAndDeletedAtIsNull(id);
+        if (topicCount <= syncDeleteMaxTopics) {
+            topicCascadeService.deleteTopics(topicRepository.findIdsByBoardId(id), now);
+        } else {
+            // 게시글이 많으면 게시판만 먼저 삭제하고, 게시글 cascade는 커밋 후 배치 잡에서 chunk 단위로 처리
+            log.info("BoardService: board {} has {} topic(s), cascading in background", id, topicCount);
+            eventPublisher.publishEvent(new BoardCascadeDeleteRequestedEvent(id));
         }
-        topicRepository.saveAll(topics);
         board.setDeletedAt(now);
         boardRepository.save(board);
         auditLogHelper.log("BOARD", id, "DELETE", before, null);
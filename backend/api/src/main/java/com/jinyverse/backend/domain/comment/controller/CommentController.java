@@ -2,6 +2,7 @@ package com.jinyverse.backend.domain.comment.controller;
 
 import com.jinyverse.backend.domain.comment.dto.CommentRequestDto;
 import com.jinyverse.backend.domain.comment.dto.CommentResponseDto;
+import com.jinyverse.backend.domain.comment.dto.CommentTreeDto;
 import com.jinyverse.backend.domain.comment.service.CommentService;
 import com.jinyverse.backend.domain.common.util.RequestContext;
 import com.jinyverse.backend.domain.menu.dto.CreateGroup;
@@ -14,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -43,6 +45,12 @@ public class CommentController {
         return ResponseEntity.ok(responses);
     }
 
+    /** 게시글 댓글 트리 (중첩 replies, depth 포함) */
+    @GetMapping("/tree")
+    public ResponseEntity<List<CommentTreeDto>> getTree(@RequestParam("topicId") UUID topicId) {
+        return ResponseEntity.ok(commentService.getTree(topicId));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CommentResponseDto> getById(@PathVariable UUID id) {
         CommentResponseDto response = commentService.getById(id);
@@ -4,11 +4,15 @@ import com.jinyverse.backend.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,5 +28,25 @@ public interface CommentRepository extends JpaRepository<Comment, UUID>, JpaSpec
 
     List<Comment> findByTopicId(UUID topicId);
 
-    List<Comment> findByUpperCommentIdAndDeletedAtIsNull(UUID upperCommentId);
+    /** 게시글의 댓글 전체를 다른 게시글로 이동 (초안 승격) */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Comment c SET c.topicId = :toTopicId WHERE c.topicId = :fromTopicId")
+    int moveToTopic(@Param("fromTopicId") UUID fromTopicId, @Param("toTopicId") UUID toTopicId);
+
+    /**
+     * 댓글과 모든 하위 댓글을 재귀 CTE 한 번으로 소프트 삭제.
+     * 순환 참조 데이터 방어로 트리 조회와 같은 최대 깊이(maxDepth)까지만 내려간다. @return 삭제된 댓글 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            WITH RECURSIVE subtree AS (
+                SELECT c.id, 0 AS depth FROM comment c WHERE c.id = :id AND c.deleted_at IS NULL
+                UNION ALL
+                SELECT c.id, s.depth + 1 FROM comment c JOIN subtree s ON c.upper_comment_id = s.id
+                WHERE c.deleted_at IS NULL AND s.depth < :maxDepth
+            )
+            UPDATE comment SET deleted_at = :now, updated_at = :now
+            WHERE id IN (SELECT id FROM subtree)
+            """, nativeQuery = true)
+    int softDeleteSubtree(@Param("id") UUID id, @Param("now") LocalDateTime now, @Param("maxDepth") int maxDepth);
 }
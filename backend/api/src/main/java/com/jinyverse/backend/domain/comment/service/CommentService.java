@@ -3,21 +3,28 @@ package com.jinyverse.backend.domain.comment.service;
 import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
 import com.jinyverse.backend.domain.comment.dto.CommentRequestDto;
 import com.jinyverse.backend.domain.comment.dto.CommentResponseDto;
+import com.jinyverse.backend.domain.comment.dto.CommentTreeDto;
 import com.jinyverse.backend.domain.comment.entity.Comment;
 import com.jinyverse.backend.domain.comment.repository.CommentRepository;
 import com.jinyverse.backend.domain.common.util.CommonSpecifications;
 import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.topic.repository.TopicRepository;
+import com.jinyverse.backend.domain.user.dto.UserJoinDto;
 import com.jinyverse.backend.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import com.jinyverse.backend.exception.ForbiddenException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,8 +38,36 @@ import static com.jinyverse.backend.domain.common.util.CommonSpecifications.PAGI
 @Transactional(readOnly = true)
 public class CommentService {
 
+    /** 부모가 항상 자식보다 먼저 오도록 (depth, created_at, id) 순 */
+    private static final String TREE_SQL = """
+            WITH RECURSIVE thread AS (
+                SELECT c.id, c.topic_id, c.user_id, c.upper_comment_id, c.content, c.is_deleted,
+                       c.created_at, c.updated_at, 0 AS depth
+                FROM comment c
+                WHERE c.topic_id = ? AND c.upper_comment_id IS NULL AND c.deleted_at IS NULL
+                UNION ALL
+                SELECT c.id, c.topic_id, c.user_id, c.upper_comment_id, c.content, c.is_deleted,
+                       c.created_at, c.updated_at, t.depth + 1
+                FROM comment c JOIN thread t ON c.upper_comment_id = t.id
+                WHERE c.deleted_at IS NULL AND t.depth < ?
+            )
+            SELECT th.*, u.nickname
+            FROM thread th LEFT JOIN "user" u ON u.id = th.user_id
+            ORDER BY th.depth, th.created_at, th.id
+            """;
+
     private final CommentRepository commentRepository;
     private final AuditLogHelper auditLogHelper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TopicRepository topicRepository;
+
+    /** 트리 조회/하위 삭제 최대 깊이 (순환 참조 데이터 방어) */
+    private int treeMaxDepth;
+
+    @Value("${app.comment.tree.max-depth:50}")
+    void setTreeMaxDepth(int treeMaxDepth) {
+        this.treeMaxDepth = treeMaxDepth;
+    }
 
     @Transactional
     public CommentResponseDto create(CommentRequestDto requestDto, RequestContext ctx) {
@@ -44,6 +79,7 @@ public class CommentService {
             comment.setUserId(ctx.getCurrentUserId());
         }
         Comment saved = commentRepository.save(comment);
+        topicRepository.incrementCommentCount(saved.getTopicId(), LocalDateTime.now());
         CommentResponseDto dto = saved.toResponseDto();
         auditLogHelper.log("COMMENT", saved.getId(), "CREATE", null, dto);
         return dto;
@@ -59,6 +95,41 @@ public class CommentService {
         return commentRepository.findAll(spec(ctx, filter), pageable).map(Comment::toResponseDto);
     }
 
+    /**
+     * 게시글 댓글 트리. WITH RECURSIVE로 최상위 댓글부터 내려가며 (depth, 작성순) 정렬된 행을 읽고 중첩 구조로 조립한다.
+     * 삭제된 댓글 아래의 댓글은 포함하지 않는다.
+     */
+    public List<CommentTreeDto> getTree(UUID topicId) {
+        List<CommentTreeDto> rows = jdbcTemplate.query(TREE_SQL, (rs, rowNum) -> {
+            UUID userId = rs.getObject("user_id", UUID.class);
+            String nickname = rs.getString("nickname");
+            return CommentTreeDto.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .topicId(rs.getObject("topic_id", UUID.class))
+                    .author(nickname != null ? UserJoinDto.builder().id(userId).nickname(nickname).build() : null)
+                    .upperCommentId(rs.getObject("upper_comment_id", UUID.class))
+                    .content(rs.getString("content"))
+                    .isDeleted(rs.getBoolean("is_deleted"))
+                    .depth(rs.getInt("depth"))
+                    .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                    .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                    .build();
+        }, topicId, treeMaxDepth);
+
+        Map<UUID, CommentTreeDto> byId = new HashMap<>();
+        List<CommentTreeDto> roots = new ArrayList<>();
+        for (CommentTreeDto node : rows) {
+            byId.put(node.getId(), node);
+            CommentTreeDto parent = node.getUpperCommentId() != null ? byId.get(node.getUpperCommentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
     @Transactional
     public CommentResponseDto update(UUID id, CommentRequestDto requestDto, RequestContext ctx) {
         if (ctx == null || !ctx.hasRole()) {
@@ -90,19 +161,11 @@ public class CommentService {
             throw new ForbiddenException("Comment delete allowed only for author or ADMIN");
         }
         CommentResponseDto before = comment.toResponseDto();
-        cascadeSoftDelete(comment);
+        int removed = commentRepository.softDeleteSubtree(id, LocalDateTime.now(), treeMaxDepth);
+        topicRepository.decrementCommentCount(comment.getTopicId(), removed);
         auditLogHelper.log("COMMENT", id, "DELETE", before, null);
     }
 
-    private void cascadeSoftDelete(Comment comment) {
-        comment.setDeletedAt(LocalDateTime.now());
-        commentRepository.save(comment);
-        List<Comment> children = commentRepository.findByUpperCommentIdAndDeletedAtIsNull(comment.getId());
-        for (Comment child : children) {
-            cascadeSoftDelete(child);
-        }
-    }
-
     private Specification<Comment> spec(RequestContext ctx, Map<String, Object> filter) {
         Specification<Comment> s = CommonSpecifications.notDeleted();
         // q(검색)는 Comment 도메인에서 미지원 - 스킵 (eq 필드가 없음)
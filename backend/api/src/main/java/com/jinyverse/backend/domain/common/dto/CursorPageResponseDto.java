@@ -0,0 +1,27 @@
+package com.jinyverse.backend.domain.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/** 커서(keyset) 기반 목록 응답. count 쿼리 없이 다음 페이지 존재 여부만 판단한다. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponseDto<T> {
+
+    /** 목록 */
+    private List<T> content;
+    /** 요청한 페이지 크기 */
+    private Integer size;
+    /** 다음 페이지 존재 여부 */
+    private Boolean hasNext;
+    /** 다음 페이지 조회용 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+}
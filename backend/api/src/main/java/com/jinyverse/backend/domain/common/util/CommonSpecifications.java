@@ -1,10 +1,20 @@
 package com.jinyverse.backend.domain.common.util;
 
+import com.jinyverse.backend.domain.search.entity.SearchIndex;
+import com.jinyverse.backend.domain.search.util.SearchFunctionContributor;
+import com.jinyverse.backend.domain.search.util.SearchIndexed;
+import com.jinyverse.backend.domain.search.util.SearchTokenizer;
 import org.springframework.data.jpa.domain.Specification;
 
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -14,7 +24,7 @@ public final class CommonSpecifications {
     private CommonSpecifications() {}
 
     /** 쿼리 파라미터 중 엔티티 필터가 아닌 것 (spec에 넣지 않음) */
-    public static final Set<String> PAGINATION_KEYS = Set.of("page", "size", "sort");
+    public static final Set<String> PAGINATION_KEYS = Set.of("page", "size", "sort", "cursor");
 
     public static <T> Specification<T> and(Specification<T> left, Specification<T> right) {
         if (left == null) return right;
@@ -73,15 +83,57 @@ public final class CommonSpecifications {
         return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(field), value);
     }
 
+    /**
+     * 키워드 검색.
+     * 엔티티가 {@link SearchIndexed}이고 검색 필드가 색인 필드 안에 있으면 search_index(tsvector, 한글 bigram)를 사용하고,
+     * 그 외(색인 없는 엔티티, 토큰이 없는 키워드)는 LIKE '%keyword%'로 처리한다.
+     * 색인 검색에서 한글/한자/가나는 bigram이라 부분 일치가 유지되지만, 영문/숫자 단어는 접두 일치다
+     * (예: "spring"은 "springboot"에 걸리지만 "boot"는 걸리지 않는다). fts_match는 {@link SearchFunctionContributor} 참고.
+     */
     public static <T> Specification<T> keywordLikeAny(String keyword, String... fields) {
         if (keyword == null || keyword.isBlank()) return null;
         if (fields == null || fields.length == 0) return null;
         String pattern = "%" + keyword.trim() + "%";
-        return (root, query, cb) -> cb.or(
-                Arrays.stream(fields)
-                        .map(f -> cb.like(root.get(f), pattern))
-                        .toArray(jakarta.persistence.criteria.Predicate[]::new)
-        );
+        String tsQuery = SearchTokenizer.toTsQuery(keyword);
+        return (root, query, cb) -> {
+            SearchIndexed indexed = root.getJavaType().getAnnotation(SearchIndexed.class);
+            if (tsQuery != null && indexed != null && SearchTokenizer.covers(indexed.fields(), fields)) {
+                Subquery<UUID> sq = query.subquery(UUID.class);
+                Root<SearchIndex> si = sq.from(SearchIndex.class);
+                sq.select(si.get("targetId")).where(
+                        cb.equal(si.get("targetType"), indexed.type()),
+                        cb.isTrue(cb.function("fts_match", Boolean.class, si.get("searchVector"), cb.literal(tsQuery))));
+                return root.get("id").in(sq);
+            }
+            return cb.or(
+                    Arrays.stream(fields)
+                            .map(f -> cb.like(root.get(f), pattern))
+                            .toArray(Predicate[]::new)
+            );
+        };
+    }
+
+    /**
+     * 검색 관련도 순 정렬 (ts_rank 내림차순, 이후 thenBy 순).
+     * 색인 대상이 아니거나 토큰이 없으면 null → 호출부 기본 정렬 사용. count 쿼리에는 정렬을 넣지 않는다.
+     */
+    public static <T> Specification<T> orderByRelevance(Class<T> type, String keyword, String... thenByDesc) {
+        SearchIndexed indexed = type.getAnnotation(SearchIndexed.class);
+        String tsQuery = SearchTokenizer.toTsQuery(keyword);
+        if (indexed == null || tsQuery == null) return null;
+        return (root, query, cb) -> {
+            if (Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType())) {
+                return null;
+            }
+            List<Order> orders = new ArrayList<>();
+            orders.add(cb.desc(cb.function("fts_rank", Float.class,
+                    cb.literal(indexed.type()), root.get("id"), cb.literal(tsQuery))));
+            for (String field : thenByDesc) {
+                orders.add(cb.desc(root.get(field)));
+            }
+            query.orderBy(orders);
+            return null;
+        };
     }
 
     /**
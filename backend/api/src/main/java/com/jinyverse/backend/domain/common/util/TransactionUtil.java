@@ -0,0 +1,36 @@
+package com.jinyverse.backend.domain.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 커밋 이후 작업 등록. 롤백되면 되돌릴 수 없는 일(파일 삭제, 메모리 캐시 갱신)은 커밋된 뒤에만 한다.
+ */
+public final class TransactionUtil {
+    private TransactionUtil() {}
+
+    /** 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 실행 */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 지금 실행하고, 트랜잭션 안이면 커밋된 뒤에 한 번 더 실행한다.
+     * 캐시 무효화처럼 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있는 경우에 쓴다.
+     */
+    public static void runNowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            runAfterCommit(action);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.jinyverse.backend.domain.file.controller;
+
+import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.file.dto.ChunkedUploadInitRequestDto;
+import com.jinyverse.backend.domain.file.dto.ChunkedUploadStatusDto;
+import com.jinyverse.backend.domain.file.dto.CommonFileResponseDto;
+import com.jinyverse.backend.domain.file.service.ChunkedUploadService;
+import com.jinyverse.backend.exception.ApiErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 재개 가능한 분할 업로드 (대용량 파일).
+ * 청크 PUT 본문은 application/octet-stream 원본 바이트이며, X-Chunk-Sha256 헤더로 청크 체크섬(hex)을 보낸다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/files/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    public static final String CHUNK_SHA256_HEADER = "X-Chunk-Sha256";
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<ChunkedUploadStatusDto> init(
+            @Valid @RequestBody ChunkedUploadInitRequestDto requestDto,
+            RequestContext ctx) {
+        if (!ctx.isAuthenticated() || ctx.getCurrentUserId() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ChunkedUploadStatusDto status = chunkedUploadService.init(requestDto, ctx.getCurrentUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(status);
+    }
+
+    @PutMapping("/{uploadId}/chunks")
+    public ResponseEntity<?> putChunk(
+            @PathVariable UUID uploadId,
+            @RequestParam long offset,
+            @RequestHeader(value = CHUNK_SHA256_HEADER, required = false) String sha256,
+            HttpServletRequest request,
+            RequestContext ctx) {
+        if (!ctx.isAuthenticated() || ctx.getCurrentUserId() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            ChunkedUploadStatusDto status = chunkedUploadService.putChunk(uploadId, ctx.getCurrentUserId(), offset,
+                    request.getContentLengthLong(), sha256, request.getInputStream());
+            return ResponseEntity.ok(status);
+        } catch (IOException e) {
+            log.error("Chunk upload failed for {} at {}: {}", uploadId, offset, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiErrorResponse("FILE_UPLOAD_FAILED",
+                            "청크 저장 중 오류가 발생했습니다: " + e.getClass().getSimpleName()));
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ChunkedUploadStatusDto> getStatus(@PathVariable UUID uploadId, RequestContext ctx) {
+        if (!ctx.isAuthenticated() || ctx.getCurrentUserId() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId, ctx.getCurrentUserId()));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<?> complete(@PathVariable UUID uploadId, RequestContext ctx) {
+        if (!ctx.isAuthenticated() || ctx.getCurrentUserId() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            CommonFileResponseDto response = chunkedUploadService.complete(uploadId, ctx.getCurrentUserId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IOException e) {
+            log.error("Chunked upload complete failed for {}: {}", uploadId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiErrorResponse("FILE_UPLOAD_FAILED",
+                            "파일 조립 중 오류가 발생했습니다: " + e.getClass().getSimpleName()));
+        }
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(@PathVariable UUID uploadId, RequestContext ctx) {
+        if (!ctx.isAuthenticated() || ctx.getCurrentUserId() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        chunkedUploadService.abort(uploadId, ctx.getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,26 +3,33 @@ package com.jinyverse.backend.domain.file.controller;
 import com.jinyverse.backend.domain.common.util.RequestContext;
 import com.jinyverse.backend.domain.file.dto.CommonFileRequestDto;
 import com.jinyverse.backend.domain.file.dto.CommonFileResponseDto;
+import com.jinyverse.backend.domain.file.dto.FileStreamSource;
 import com.jinyverse.backend.domain.file.dto.UploadSessionResponseDto;
+import com.jinyverse.backend.domain.file.entity.CommonFile;
 import com.jinyverse.backend.domain.file.service.CommonFileService;
+import com.jinyverse.backend.domain.file.service.ImageVariantService;
 import com.jinyverse.backend.exception.ApiErrorResponse;
+import com.jinyverse.backend.exception.BadRequestException;
 import com.jinyverse.backend.domain.file.service.UploadSessionService;
+import com.jinyverse.backend.domain.file.util.FileStreamWriter;
+import com.jinyverse.backend.domain.file.util.MultipartUploadReader;
+import com.jinyverse.backend.domain.setting.service.SystemSettingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
+import org.apache.commons.fileupload2.core.FileUploadException;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
 
@@ -34,6 +41,10 @@ public class CommonFileController {
 
     private final CommonFileService commonFileService;
     private final UploadSessionService uploadSessionService;
+    private final FileStreamWriter fileStreamWriter;
+    private final MultipartUploadReader multipartUploadReader;
+    private final SystemSettingService systemSettingService;
+    private final ImageVariantService imageVariantService;
 
     @PostMapping("/upload-session")
     public ResponseEntity<UploadSessionResponseDto> createUploadSession(RequestContext ctx) {
@@ -44,72 +55,139 @@ public class CommonFileController {
         return ResponseEntity.status(HttpStatus.CREATED).body(dto);
     }
 
+    /**
+     * 요청 본문을 스트리밍으로 파싱해 파일 파트를 저장소에 바로 기록한다 (임시 파일 없음).
+     * sessionId는 쿼리 파라미터 또는 파일 파트보다 앞선 form 필드로 전달한다.
+     */
     @PostMapping("/upload")
     public ResponseEntity<?> upload(
-            @RequestParam("file") MultipartFile file,
-            @RequestParam(value = "sessionId", required = false) String sessionId,
+            @RequestParam(value = "sessionId", required = false) String sessionIdParam,
+            HttpServletRequest request,
             RequestContext ctx) {
-        if (sessionId != null && !sessionId.isBlank()) {
-            if (!ctx.isAuthenticated() || ctx.getCurrentUserId() == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-            uploadSessionService.validate(sessionId, ctx.getCurrentUserId());
-        }
         try {
-            CommonFileResponseDto response = commonFileService.uploadFromMultipart(file, sessionId);
+            CommonFileResponseDto response = multipartUploadReader.read(request, "file",
+                    (fields, filename, contentType, content) -> {
+                        String sessionId = sessionIdParam != null ? sessionIdParam : fields.get("sessionId");
+                        if (sessionId != null && !sessionId.isBlank()) {
+                            if (!ctx.isAuthenticated() || ctx.getCurrentUserId() == null) {
+                                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+                            }
+                            uploadSessionService.validate(sessionId, ctx.getCurrentUserId());
+                        }
+                        return commonFileService.upload(content, filename, contentType, sessionId);
+                    });
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (FileUploadSizeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(new ApiErrorResponse("FILE_TOO_LARGE", "파일 크기 제한을 초과했습니다."));
+        } catch (FileUploadException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiErrorResponse("INVALID_MULTIPART", "잘못된 multipart 요청입니다."));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(new ApiErrorResponse("FILE_STORAGE_NOT_CONFIGURED",
                             e.getMessage() != null && !e.getMessage().isBlank() ? e.getMessage()
                                     : "파일 저장 경로가 설정되지 않았습니다. 관리자 설정에서 파일 저장소 경로를 입력하세요."));
         } catch (IOException e) {
-            log.error("File upload failed for '{}': {}", file.getOriginalFilename(), e.getMessage(), e);
+            log.error("File upload failed: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ApiErrorResponse("FILE_UPLOAD_FAILED",
                             "파일 업로드 중 오류가 발생했습니다: " + e.getClass().getSimpleName()));
         }
     }
 
+    /**
+     * Range/If-Range(206), If-None-Match/If-Modified-Since(304) 지원. 본문은 sendfile/transferTo로 전송.
+     * 접근 검사와 메타데이터 조회는 getAccessibleFile 한 번(DB 쿼리 1회)으로 처리한다.
+     * 설정의 다운로드 방식이 nginx면 접근 검사/메타데이터 조회만 하고 X-Accel-Redirect로 nginx에 위임한다.
+     * gzip 압축 저장 파일은 Accept-Encoding에 따라 그대로/풀어서 보내야 하므로 항상 앱이 직접 보낸다.
+     */
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> download(@PathVariable UUID id, RequestContext ctx) {
+    public void download(@PathVariable UUID id, RequestContext ctx,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String accelPrefix = systemSettingService.getAccelRedirectPrefix();
+        FileStreamSource source;
         try {
-            commonFileService.checkDownloadAccess(id, ctx);
-
-            CommonFileResponseDto meta = commonFileService.getById(id);
-            Resource resource = commonFileService.getResourceForDownload(id);
-            String filename = meta.getOriginalName() != null ? meta.getOriginalName() : meta.getStoredName();
-            String encoded = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(
-                            meta.getMimeType() != null ? meta.getMimeType() : "application/octet-stream"))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded)
-                    .body(resource);
-        } catch (org.springframework.web.server.ResponseStatusException e) {
-            return ResponseEntity.status(e.getStatusCode()).build();
-        } catch (IOException e) {
-            return ResponseEntity.notFound().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            CommonFile file = commonFileService.getAccessibleFile(id, ctx);
+            if (accelPrefix != null && !CommonFileService.isAccelEligible(file)) {
+                accelPrefix = null;
+            }
+            source = accelPrefix != null
+                    ? commonFileService.getDownloadRedirect(file)
+                    : commonFileService.getDownloadSource(file,
+                            FileStreamWriter.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+        } catch (ResponseStatusException e) {
+            response.setStatus(e.getStatusCode().value());
+            return;
+        } catch (IOException | RuntimeException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
         }
+        write(source, accelPrefix, request, response);
     }
 
+    /**
+     * 권한과 썸네일 바이트가 메모리 캐시에 있으면 DB 조회/파일 열기 없이 응답한다.
+     * nginx 모드에서는 nginx가 파일을 직접 보내므로 메모리 캐시를 쓰지 않는다.
+     */
     @GetMapping("/{id}/thumbnail")
-    public ResponseEntity<Resource> thumbnail(@PathVariable UUID id, RequestContext ctx) {
+    public void thumbnail(@PathVariable UUID id, RequestContext ctx,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String accelPrefix = systemSettingService.getAccelRedirectPrefix();
+        FileStreamSource source;
         try {
-            commonFileService.checkDownloadAccess(id, ctx);
-            Resource resource = commonFileService.getResourceForThumbnail(id);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.IMAGE_JPEG)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                    .body(resource);
-        } catch (org.springframework.web.server.ResponseStatusException e) {
-            return ResponseEntity.status(e.getStatusCode()).build();
-        } catch (IOException e) {
-            return ResponseEntity.notFound().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            source = accelPrefix == null ? commonFileService.getCachedThumbnailSource(id, ctx) : null;
+            if (source == null) {
+                CommonFile file = commonFileService.getAccessibleFile(id, ctx);
+                source = accelPrefix != null
+                        ? commonFileService.getThumbnailRedirect(file)
+                        : commonFileService.getThumbnailSource(file);
+            }
+        } catch (ResponseStatusException e) {
+            response.setStatus(e.getStatusCode().value());
+            return;
+        } catch (IOException | RuntimeException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        write(source, accelPrefix, request, response);
+    }
+
+    /**
+     * 허용 목록의 너비(w)/형식(fmt=jpeg|webp) 변형 이미지. 없으면 요청 시 생성해 디스크에 캐시한다.
+     * 내용이 바뀌지 않으므로 immutable 캐시 헤더로 응답한다.
+     */
+    @GetMapping("/{id}/image")
+    public void image(@PathVariable UUID id,
+                      @RequestParam("w") int width,
+                      @RequestParam(value = "fmt", required = false) String format,
+                      RequestContext ctx, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String accelPrefix = systemSettingService.getAccelRedirectPrefix();
+        FileStreamSource source;
+        try {
+            CommonFile file = commonFileService.getAccessibleFile(id, ctx);
+            source = imageVariantService.getVariantSource(file, width, format);
+        } catch (BadRequestException e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        } catch (ResponseStatusException e) {
+            response.setStatus(e.getStatusCode().value());
+            return;
+        } catch (IOException | RuntimeException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        write(source, accelPrefix, request, response);
+    }
+
+    private void write(FileStreamSource source, String accelPrefix,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (source) {
+            if (accelPrefix != null) {
+                fileStreamWriter.writeAccelRedirect(source, accelPrefix, response);
+            } else {
+                fileStreamWriter.write(source, request, response);
+            }
         }
     }
 
@@ -0,0 +1,38 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChunkedUploadInitRequestDto {
+
+    /** 업로드 세션 ID (POST /api/files/upload-session 으로 발급) */
+    @NotBlank(message = "업로드 세션 ID는 필수입니다")
+    @Size(max = 64, message = "세션 ID는 64자 이하여야 합니다")
+    private String sessionId;
+
+    /** 원본 파일명 */
+    @NotBlank(message = "파일명은 필수입니다")
+    @Size(max = 255, message = "파일명은 255자 이하여야 합니다")
+    private String filename;
+
+    /** 클라이언트가 선언한 MIME 타입 (완료 시 내용으로 다시 판별) */
+    @Size(max = 100, message = "MIME 타입은 100자 이하여야 합니다")
+    private String contentType;
+
+    /** 전체 파일 크기 (byte) */
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long totalSize;
+}
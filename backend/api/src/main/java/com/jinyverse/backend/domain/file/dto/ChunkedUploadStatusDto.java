@@ -0,0 +1,28 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/** 분할 업로드 진행 상태. 클라이언트는 receivedChunks에 없는 청크만 (재)전송한다. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChunkedUploadStatusDto {
+    private UUID uploadId;
+    private Long totalSize;
+    private Integer chunkSize;
+    private Integer totalChunks;
+    /** 체크섬 검증까지 끝난 청크 index (오름차순) */
+    private List<Integer> receivedChunks;
+    private Long receivedBytes;
+    private LocalDateTime expiresAt;
+}
@@ -34,6 +34,13 @@ public class CommonFileResponseDto {
     private String fileExt;
     /** 썸네일 저장 경로 (이미지 파일인 경우에만 존재) */
     private String thumbnailPath;
+    /** 이미지 원본 가로/세로 (px, 이미지가 아니거나 아직 계산 전이면 null) */
+    private Integer imageWidth;
+    private Integer imageHeight;
+    /** 이미지 대표 색 (#rrggbb) */
+    private String dominantColor;
+    /** 이미지 BlurHash (로딩 전 자리표시) */
+    private String blurHash;
     /** 업로드 일시 */
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,36 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import com.jinyverse.backend.domain.common.util.RequestContext;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 파일 하나의 유효 접근 권한. 파일을 첨부한 게시글들의 공개 여부/작성자로부터 계산한다.
+ * 첨부된 게시글이 없으면 제한 없음, 삭제되지 않은 공개(임시저장 아님) 게시글이 하나라도 있으면 공개.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class FileAcl {
+    /** 어떤 게시글에도 첨부되지 않음 */
+    private final boolean unrestricted;
+    /** 삭제되지 않은 공개 게시글에 첨부됨 */
+    private final boolean publicAccess;
+    /** 삭제되지 않은 게시글에 하나 이상 첨부됨 (관리자 접근 조건) */
+    private final boolean attachedToLiveTopic;
+    /** 삭제되지 않은 첨부 게시글의 작성자 */
+    private final Set<UUID> ownerIds;
+    /** 첨부 게시글 전체 (게시글 단위 캐시 무효화용) */
+    private final Set<UUID> topicIds;
+
+    public boolean allows(RequestContext ctx) {
+        if (unrestricted || publicAccess) return true;
+        if (ctx == null || !ctx.isAuthenticated()) return false;
+        if (ctx.isAdmin()) return attachedToLiveTopic;
+        return ctx.getCurrentUserId() != null && ownerIds.contains(ctx.getCurrentUserId());
+    }
+}
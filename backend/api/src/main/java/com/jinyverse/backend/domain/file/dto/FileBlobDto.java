@@ -0,0 +1,26 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 업로드 결과로 참조하게 된 blob */
+@Getter
+@AllArgsConstructor
+@Builder
+public class FileBlobDto {
+    /** 내용 SHA-256 (hex) */
+    private String hash;
+    /** 저장소 상대 경로 */
+    private String filePath;
+    /** 원본(압축 전) 바이트 수 */
+    private long fileSize;
+    /** 저장 형식: gzip이면 압축 저장, null이면 원본 그대로 */
+    private String contentEncoding;
+    /** blob 썸네일 경로 (아직 없으면 null) */
+    private String thumbnailPath;
+    /** blob 이미지 메타데이터 (썸네일 생성 전이거나 이미지가 아니면 null) */
+    private ImageMetadata imageMetadata;
+    /** 이번 업로드로 새로 저장된 blob이면 true, 기존 blob 재사용이면 false */
+    private boolean created;
+}
@@ -0,0 +1,49 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import com.jinyverse.backend.domain.file.util.OffHeapByteCache;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 스트리밍 응답 대상. 검증자(ETag, Last-Modified)는 CommonFile 메타데이터에서 만든다.
+ * nginx(X-Accel-Redirect) 모드에서는 디스크를 읽지 않으므로 relativePath/contentType/contentDisposition만 채운다.
+ * 메모리 캐시에서 응답할 때는 path 대신 body를 채우며, 응답 후 close로 캐시 참조를 반환한다.
+ * gzip으로 압축 저장된 파일은 클라이언트가 받을 수 있으면 contentEncoding(그대로 전송),
+ * 아니면 decodeGzip(풀면서 전송)을 채운다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class FileStreamSource implements AutoCloseable {
+    /** 저장소 기준 상대 경로 (X-Accel-Redirect 대상) */
+    private String relativePath;
+    /** 디스크상의 실제 파일 (sendfile 대상) */
+    private Path path;
+    /** 파일 크기 (byte) */
+    private long length;
+    private String contentType;
+    /** Content-Disposition 헤더 값 (attachment/inline) */
+    private String contentDisposition;
+    /** 강한 ETag (따옴표 포함) */
+    private String etag;
+    /** Last-Modified (epoch millis) */
+    private long lastModified;
+    /** Cache-Control 헤더 값. null이면 매번 재검증(private, no-cache) */
+    private String cacheControl;
+    /** Content-Encoding 헤더 값. 압축 저장 파일을 그대로 보낼 때 gzip (length/ETag는 압축된 표현 기준) */
+    private String contentEncoding;
+    /** 압축 저장 파일을 풀면서 보낸다 (length는 원본 크기, Range 미지원) */
+    private boolean decodeGzip;
+    /** 메모리 캐시의 본문 (있으면 path 대신 사용) */
+    private OffHeapByteCache.Lease body;
+
+    @Override
+    public void close() {
+        if (body != null) {
+            body.close();
+        }
+    }
+}
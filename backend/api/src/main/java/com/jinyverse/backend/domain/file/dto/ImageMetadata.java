@@ -0,0 +1,19 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** 이미지 원본 크기와 로딩 전 자리표시 값 (썸네일 생성 시 함께 계산) */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ImageMetadata {
+    /** 원본 가로/세로 (px) */
+    private Integer width;
+    private Integer height;
+    /** 대표 색 (#rrggbb) */
+    private String dominantColor;
+    /** BlurHash (https://blurha.sh) */
+    private String blurHash;
+}
@@ -0,0 +1,30 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 썸네일 메모리 캐시 지표 (이 인스턴스 기준, 기동 이후 누적) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThumbnailCacheStatsDto {
+    /** capacity-mb가 0이면 false, 나머지 값은 비어 있음 */
+    private Boolean enabled;
+    /** 슬랩 전체 크기 / 사용 중인 페이지 크기 (byte) */
+    private Long capacityBytes;
+    private Long usedBytes;
+    private Integer entries;
+    private Long hits;
+    private Long misses;
+    /** hits / (hits + misses) */
+    private Double hitRate;
+    /** 디스크에서 읽어 넣은 횟수 / 자리를 위해 내보낸 횟수 / 크기·입장 정책으로 넣지 않은 횟수 */
+    private Long loads;
+    private Long evictions;
+    private Long rejections;
+}
@@ -0,0 +1,34 @@
+package com.jinyverse.backend.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 썸네일 작업 큐 모니터링 지표. 건수는 전체(DB), 워커/누적 지표는 이 인스턴스 기준. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThumbnailQueueStatsDto {
+    /** 대기 중 (재시도 대기 포함) */
+    private Long queued;
+    /** 처리 중 (모든 인스턴스) */
+    private Long running;
+    /** 최대 시도 후 실패 */
+    private Long failed;
+    /** 워커 수 / 로컬 대기열 용량 */
+    private Integer workers;
+    private Integer localQueueCapacity;
+    /** 현재 생성 중인 워커 수 / 로컬 대기열에 올라온 작업 수 */
+    private Integer activeWorkers;
+    private Integer localQueued;
+    /** 기동 이후 누적: 완료 / 최종 실패 / 재시도 */
+    private Long processedTotal;
+    private Long failedTotal;
+    private Long retriedTotal;
+    /** 최근 1분간 완료 건수 */
+    private Long processedLastMinute;
+}
@@ -0,0 +1,68 @@
+package com.jinyverse.backend.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "chunked_upload")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ChunkedUpload {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "id", columnDefinition = "UUID", nullable = false)
+    private UUID id;
+
+    @Column(name = "session_id", length = 64, nullable = false)
+    private String sessionId;
+
+    @Column(name = "user_id", columnDefinition = "UUID", nullable = false)
+    private UUID userId;
+
+    @Column(name = "original_name", length = 255, nullable = false)
+    private String originalName;
+
+    @Column(name = "mime_type", length = 100)
+    private String mimeType;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "part_path", columnDefinition = "TEXT", nullable = false)
+    private String partPath;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** 전체 청크 수 */
+    public int totalChunks() {
+        return (int) ((totalSize + chunkSize - 1) / chunkSize);
+    }
+
+    /** index 번째 청크의 기대 크기 (마지막 청크만 작을 수 있음) */
+    public long chunkLength(int index) {
+        return Math.min(chunkSize, totalSize - (long) index * chunkSize);
+    }
+}
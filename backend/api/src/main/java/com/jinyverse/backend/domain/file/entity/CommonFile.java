@@ -32,6 +32,29 @@ public class CommonFile extends BaseFileEntity {
     @Column(name = "thumbnail_path", length = 500)
     private String thumbnailPath;
 
+    /** 참조하는 file_blob 해시 (SHA-256). null이면 내용 주소 저장소 도입 전 개별 저장된 파일 */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /** 저장 형식. gzip이면 압축 저장(file_size는 원본 크기), null이면 원본 그대로 */
+    @Column(name = "content_encoding", length = 10)
+    private String contentEncoding;
+
+    /** 이미지 원본 가로/세로 (px). 업로드 시 헤더에서 읽고, 썸네일 생성 시 함께 채운다 */
+    @Column(name = "image_width")
+    private Integer imageWidth;
+
+    @Column(name = "image_height")
+    private Integer imageHeight;
+
+    /** 이미지 대표 색 (#rrggbb, 썸네일 생성 시 계산) */
+    @Column(name = "dominant_color", length = 7)
+    private String dominantColor;
+
+    /** 이미지 BlurHash (썸네일 생성 시 계산) */
+    @Column(name = "blur_hash", length = 100)
+    private String blurHash;
+
     public static CommonFile fromRequestDto(CommonFileRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("CommonFileRequestDto is null");
         CommonFile commonFile = new CommonFile();
@@ -79,6 +102,10 @@ public class CommonFile extends BaseFileEntity {
                 .mimeType(this.getMimeType())
                 .fileExt(this.getFileExt())
                 .thumbnailPath(this.thumbnailPath)
+                .imageWidth(this.imageWidth)
+                .imageHeight(this.imageHeight)
+                .dominantColor(this.dominantColor)
+                .blurHash(this.blurHash)
                 .createdAt(this.getCreatedAt())
                 .build();
     }
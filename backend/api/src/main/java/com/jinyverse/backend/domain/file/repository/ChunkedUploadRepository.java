@@ -0,0 +1,15 @@
+package com.jinyverse.backend.domain.file.repository;
+
+import com.jinyverse.backend.domain.file.entity.ChunkedUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ChunkedUploadRepository extends JpaRepository<ChunkedUpload, UUID> {
+
+    List<ChunkedUpload> findByExpiresAtBefore(LocalDateTime before);
+}
@@ -0,0 +1,257 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.common.util.TransactionUtil;
+import com.jinyverse.backend.domain.file.dto.ChunkedUploadInitRequestDto;
+import com.jinyverse.backend.domain.file.dto.ChunkedUploadStatusDto;
+import com.jinyverse.backend.domain.file.dto.CommonFileResponseDto;
+import com.jinyverse.backend.domain.file.entity.ChunkedUpload;
+import com.jinyverse.backend.domain.file.repository.ChunkedUploadRepository;
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import com.jinyverse.backend.exception.BadRequestException;
+import com.jinyverse.backend.exception.ConflictException;
+import com.jinyverse.backend.exception.ForbiddenException;
+import com.jinyverse.backend.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 재개 가능한 분할 업로드.
+ * init → PUT chunk(offset) 반복 → status(재개 시 누락 청크 확인) → complete 순서로 진행한다.
+ * 청크는 .uploads/{uuid}.part 의 offset 위치에 직접 기록하고(순서 무관, 재전송 시 같은 구간 덮어쓰기),
+ * SHA-256 검증을 통과한 청크만 upload_chunk 에 기록한다 (재전송 중에는 기록을 지웠다가 검증 후 다시 기록). 완료 시 조립본을 복사 없이 blob으로 이동한다.
+ * 완료/중단/만료 정리는 chunked_upload 행 잠금으로 직렬화하고, 조립본 파일은 행 삭제가 커밋된 뒤에 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChunkedUploadService {
+
+    private static final String PART_DIR = ".uploads";
+
+    private static final String RECORD_CHUNK_SQL = """
+            INSERT INTO upload_chunk (upload_id, chunk_index, chunk_size, sha256)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (upload_id, chunk_index) DO UPDATE
+               SET chunk_size = EXCLUDED.chunk_size, sha256 = EXCLUDED.sha256, created_at = NOW()
+            """;
+
+    /**
+     * 받은 청크 기록을 지우고 업로드가 아직 있는지 돌려준다. 진행 상태 행을 공유 잠금하므로
+     * complete가 행을 잠그고 등록 중이면 끝날 때까지 기다렸다가 빈 결과를 받는다 (이동 중인 조립본에 쓰지 않도록).
+     */
+    private static final String UNRECORD_CHUNK_SQL = """
+            WITH upload AS (SELECT id FROM chunked_upload WHERE id = ? FOR SHARE),
+                 removed AS (DELETE FROM upload_chunk WHERE upload_id IN (SELECT id FROM upload) AND chunk_index = ?)
+            SELECT id FROM upload
+            """;
+
+    private static final String LOCK_UPLOAD_SQL = "SELECT id FROM chunked_upload WHERE id = ? FOR UPDATE";
+
+    /** 청크 순번과 체크섬. 해시 계산 전후로 비교해 그 사이 다시 기록된 청크를 찾는다 */
+    private static final String CHUNK_FINGERPRINT_SQL =
+            "SELECT chunk_index || ':' || sha256 FROM upload_chunk WHERE upload_id = ? ORDER BY chunk_index";
+
+    private final ChunkedUploadRepository chunkedUploadRepository;
+    private final UploadSessionService uploadSessionService;
+    private final CommonFileService commonFileService;
+    private final FileStorage fileStorage;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.file.upload.chunked.chunk-size:8MB}")
+    private DataSize chunkSize;
+
+    @Value("${app.file.upload.chunked.max-file-size:2GB}")
+    private DataSize maxFileSize;
+
+    @Value("${app.file.upload.chunked.ttl-hours:24}")
+    private int ttlHours;
+
+    @Transactional
+    public ChunkedUploadStatusDto init(ChunkedUploadInitRequestDto dto, UUID userId) {
+        uploadSessionService.validate(dto.getSessionId(), userId);
+        if (dto.getTotalSize() > maxFileSize.toBytes()) {
+            throw new BadRequestException("FILE_TOO_LARGE", "파일 크기 제한을 초과했습니다. (최대 " + maxFileSize + ")");
+        }
+        commonFileService.validateUploadRequest(dto.getFilename(), dto.getContentType());
+
+        ChunkedUpload upload = ChunkedUpload.builder()
+                .sessionId(dto.getSessionId())
+                .userId(userId)
+                .originalName(dto.getFilename())
+                .mimeType(dto.getContentType())
+                .totalSize(dto.getTotalSize())
+                .chunkSize((int) chunkSize.toBytes())
+                .partPath(PART_DIR + "/" + UUID.randomUUID() + ".part")
+                .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                .build();
+        return toStatus(chunkedUploadRepository.save(upload), List.of());
+    }
+
+    /**
+     * offset 위치에 청크 하나를 기록한다. offset은 청크 경계여야 하고, 길이는 해당 청크 크기와 같아야 한다.
+     * 본문을 읽는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChunkedUploadStatusDto putChunk(UUID uploadId, UUID userId, long offset, long contentLength,
+                                           String sha256, InputStream body) throws IOException {
+        ChunkedUpload upload = getOwned(uploadId, userId);
+        if (offset < 0 || offset >= upload.getTotalSize() || offset % upload.getChunkSize() != 0) {
+            throw new BadRequestException("CHUNK_OFFSET_INVALID", "청크 offset이 올바르지 않습니다: " + offset);
+        }
+        int index = (int) (offset / upload.getChunkSize());
+        long expected = upload.chunkLength(index);
+        if (contentLength != expected) {
+            throw new BadRequestException("CHUNK_SIZE_MISMATCH",
+                    "청크 크기가 올바르지 않습니다. (기대값 " + expected + ", 요청 " + contentLength + ")");
+        }
+        if (sha256 == null || !sha256.matches("[0-9a-fA-F]{64}")) {
+            throw new BadRequestException("CHUNK_CHECKSUM_REQUIRED", "청크 SHA-256 체크섬(hex)이 필요합니다.");
+        }
+
+        // 덮어쓰기 전에 받은 청크 기록부터 지운다. 재전송이 실패하면 이전에 검증된 내용도 이미 덮였을 수 있다
+        if (jdbcTemplate.queryForList(UNRECORD_CHUNK_SQL, UUID.class, uploadId, index).isEmpty()) {
+            throw new ResourceNotFoundException("ChunkedUpload", uploadId);
+        }
+        MessageDigest digest = sha256();
+        long written = fileStorage.writeAt(upload.getPartPath(), offset, new DigestInputStream(body, digest), expected);
+        if (written != expected) {
+            throw new BadRequestException("CHUNK_INCOMPLETE", "청크 본문이 중간에 끊겼습니다.");
+        }
+        // 불일치 구간은 기록하지 않는다 (재전송 시 같은 위치에 덮어씀)
+        String actual = HexFormat.of().formatHex(digest.digest());
+        if (!actual.equals(sha256.toLowerCase(Locale.ROOT))) {
+            throw new BadRequestException("CHUNK_CHECKSUM_MISMATCH", "청크 체크섬이 일치하지 않습니다.");
+        }
+        try {
+            jdbcTemplate.update(RECORD_CHUNK_SQL, uploadId, index, (int) expected, actual);
+        } catch (DataIntegrityViolationException e) {
+            // 쓰는 사이 중단/만료 정리로 행이 지워짐: 방금 다시 만든 조립본 파일도 지운다
+            deletePart(upload);
+            throw new ResourceNotFoundException("ChunkedUpload", uploadId);
+        }
+        return toStatus(upload, receivedChunks(uploadId));
+    }
+
+    public ChunkedUploadStatusDto getStatus(UUID uploadId, UUID userId) {
+        ChunkedUpload upload = getOwned(uploadId, userId);
+        return toStatus(upload, receivedChunks(uploadId));
+    }
+
+    /**
+     * 모든 청크가 검증됐으면 조립본을 common_file 로 등록하고 진행 상태를 삭제한다.
+     * 조립본(최대 max-file-size) 해시 계산은 트랜잭션 밖에서 하고, 등록 트랜잭션에서 진행 상태 행을 잠근 뒤
+     * 행이 그대로이고 그 사이 다시 기록된 청크가 없을 때만 등록한다. 동시에 들어온 complete/abort는 한쪽만 성공한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommonFileResponseDto complete(UUID uploadId, UUID userId) throws IOException {
+        ChunkedUpload upload = getOwned(uploadId, userId);
+        List<String> chunks = chunkFingerprints(uploadId);
+        if (chunks.size() != upload.totalChunks()) {
+            throw new ConflictException("UPLOAD_INCOMPLETE",
+                    "아직 받지 못한 청크가 있습니다. (" + chunks.size() + "/" + upload.totalChunks() + ")");
+        }
+        return commonFileService.uploadFromStoredPart(
+                upload.getPartPath(), upload.getOriginalName(), upload.getMimeType(), upload.getSessionId(), () -> {
+                    if (jdbcTemplate.queryForList(LOCK_UPLOAD_SQL, UUID.class, uploadId).isEmpty()) {
+                        throw new ResourceNotFoundException("ChunkedUpload", uploadId);
+                    }
+                    if (!chunkFingerprints(uploadId).equals(chunks)) {
+                        throw new ConflictException("UPLOAD_CHANGED",
+                                "완료 처리 중 청크가 다시 기록되었습니다. 다시 시도해 주세요.");
+                    }
+                    jdbcTemplate.update("DELETE FROM chunked_upload WHERE id = ?", uploadId);
+                    // 압축 저장이면 조립본이 남는다 (이동됐으면 없는 파일이라 무시됨)
+                    TransactionUtil.runAfterCommit(() -> deletePart(upload));
+                });
+    }
+
+    @Transactional
+    public void abort(UUID uploadId, UUID userId) {
+        ChunkedUpload upload = getOwned(uploadId, userId);
+        chunkedUploadRepository.delete(upload);
+        TransactionUtil.runAfterCommit(() -> deletePart(upload));
+    }
+
+    /** 만료된 분할 업로드와 조립 중 파일 정리. 삭제 건수 반환 */
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        List<ChunkedUpload> expired = chunkedUploadRepository.findByExpiresAtBefore(now);
+        for (ChunkedUpload upload : expired) {
+            chunkedUploadRepository.delete(upload);
+            TransactionUtil.runAfterCommit(() -> deletePart(upload));
+        }
+        return expired.size();
+    }
+
+    private ChunkedUpload getOwned(UUID uploadId, UUID userId) {
+        ChunkedUpload upload = chunkedUploadRepository.findById(uploadId)
+                .orElseThrow(() -> new ResourceNotFoundException("ChunkedUpload", uploadId));
+        if (!upload.getUserId().equals(userId)) {
+            throw new ForbiddenException("해당 업로드에 접근할 권한이 없습니다.");
+        }
+        if (LocalDateTime.now().isAfter(upload.getExpiresAt())) {
+            throw new BadRequestException("UPLOAD_EXPIRED", "분할 업로드가 만료되었습니다.");
+        }
+        return upload;
+    }
+
+    private List<Integer> receivedChunks(UUID uploadId) {
+        return jdbcTemplate.queryForList(
+                "SELECT chunk_index FROM upload_chunk WHERE upload_id = ? ORDER BY chunk_index", Integer.class, uploadId);
+    }
+
+    private List<String> chunkFingerprints(UUID uploadId) {
+        return jdbcTemplate.queryForList(CHUNK_FINGERPRINT_SQL, String.class, uploadId);
+    }
+
+    private void deletePart(ChunkedUpload upload) {
+        try {
+            fileStorage.delete(upload.getPartPath());
+        } catch (IOException e) {
+            log.warn("ChunkedUploadService: 조립 중 파일 삭제 실패 {} - {}", upload.getPartPath(), e.getMessage());
+        }
+    }
+
+    private static ChunkedUploadStatusDto toStatus(ChunkedUpload upload, List<Integer> received) {
+        long receivedBytes = 0;
+        for (int index : received) {
+            receivedBytes += upload.chunkLength(index);
+        }
+        return ChunkedUploadStatusDto.builder()
+                .uploadId(upload.getId())
+                .totalSize(upload.getTotalSize())
+                .chunkSize(upload.getChunkSize())
+                .totalChunks(upload.totalChunks())
+                .receivedChunks(received)
+                .receivedBytes(receivedBytes)
+                .expiresAt(upload.getExpiresAt())
+                .build();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
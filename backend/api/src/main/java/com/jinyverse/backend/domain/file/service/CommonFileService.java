@@ -2,16 +2,19 @@ package com.jinyverse.backend.domain.file.service;
 
 import com.jinyverse.backend.domain.common.util.CommonSpecifications;
 import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.common.util.TransactionUtil;
 import com.jinyverse.backend.exception.ResourceNotFoundException;
 import com.jinyverse.backend.domain.file.dto.CommonFileRequestDto;
 import com.jinyverse.backend.domain.file.dto.CommonFileResponseDto;
+import com.jinyverse.backend.domain.file.dto.FileAcl;
+import com.jinyverse.backend.domain.file.dto.FileBlobDto;
+import com.jinyverse.backend.domain.file.dto.FileStreamSource;
+import com.jinyverse.backend.domain.file.dto.ImageMetadata;
 import com.jinyverse.backend.domain.file.entity.CommonFile;
 import com.jinyverse.backend.domain.file.repository.CommonFileRepository;
 import com.jinyverse.backend.domain.file.storage.FileStorage;
-import com.jinyverse.backend.domain.topic.entity.RelTopicFile;
-import com.jinyverse.backend.domain.topic.entity.Topic;
-import com.jinyverse.backend.domain.topic.repository.RelTopicFileRepository;
-import com.jinyverse.backend.domain.topic.repository.TopicRepository;
+import com.jinyverse.backend.domain.file.util.MimeSniffer;
+import com.jinyverse.backend.domain.file.util.OffHeapByteCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,14 +22,27 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import com.jinyverse.backend.exception.ForbiddenException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.time.LocalDate;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,12 +56,36 @@ import static com.jinyverse.backend.domain.common.util.CommonSpecifications.PAGI
 @Transactional(readOnly = true)
 public class CommonFileService {
 
+    /**
+     * 파일 메타데이터 + 유효 접근 권한을 한 번에 계산.
+     * 게시글 조건은 기존 접근 검사와 동일: 삭제되지 않은 게시글 중 공개이고 임시저장이 아니면 공개.
+     */
+    private static final String FILE_WITH_ACL_SQL = """
+            SELECT f.id, f.session_id, f.original_name, f.stored_name, f.file_path, f.file_size,
+                   f.mime_type, f.file_ext, f.created_at, f.thumbnail_path, f.content_hash,
+                   f.image_width, f.image_height, f.dominant_color, f.blur_hash, f.content_encoding,
+                   COUNT(r.topic_id) AS rel_count,
+                   COUNT(t.id) AS live_topics,
+                   COALESCE(BOOL_OR(t.is_public IS TRUE AND t.status IS DISTINCT FROM 'temporary'), FALSE)
+                       AS public_access,
+                   ARRAY_REMOVE(ARRAY_AGG(DISTINCT t.author_user_id), NULL) AS owner_ids,
+                   ARRAY_REMOVE(ARRAY_AGG(DISTINCT r.topic_id), NULL) AS topic_ids
+              FROM common_file f
+              LEFT JOIN rel__topic_file r ON r.file_id = f.id
+              LEFT JOIN topic t ON t.id = r.topic_id AND t.deleted_at IS NULL
+             WHERE f.id = ?
+             GROUP BY f.id
+            """;
+
     private final CommonFileRepository commonFileRepository;
     private final FileStorage fileStorage;
     private final ImageResizeService imageResizeService;
     private final ThumbnailAsyncService thumbnailAsyncService;
-    private final RelTopicFileRepository relTopicFileRepository;
-    private final TopicRepository topicRepository;
+    private final FileBlobService fileBlobService;
+    private final FileAclCache fileAclCache;
+    private final ThumbnailByteCache thumbnailByteCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     private static final Set<String> ALLOWED_MIME_PREFIXES = Set.of("image/", "video/", "audio/");
 
@@ -101,85 +141,319 @@ public class CommonFileService {
     public void delete(UUID id) {
         CommonFile commonFile = commonFileRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CommonFile", id));
+        thumbnailByteCache.invalidateFiles(List.of(id));
+        fileAclCache.invalidateFiles(List.of(id));
+        if (commonFile.getContentHash() != null) {
+            // 공유 blob: 마지막 참조일 때만 원본/썸네일이 삭제된다
+            commonFileRepository.delete(commonFile);
+            fileBlobService.release(commonFile.getContentHash());
+            return;
+        }
+        // 행 삭제가 롤백되면 파일이 남아야 하므로 물리 삭제는 커밋 후에 한다
+        commonFileRepository.delete(commonFile);
+        String filePath = commonFile.getFilePath();
+        String thumbnailPath = commonFile.getThumbnailPath();
+        TransactionUtil.runAfterCommit(() -> deleteLegacyFiles(filePath, thumbnailPath));
+    }
+
+    private void deleteLegacyFiles(String filePath, String thumbnailPath) {
         try {
-            if (commonFile.getFilePath() != null && fileStorage.exists(commonFile.getFilePath())) {
-                fileStorage.delete(commonFile.getFilePath());
+            if (filePath != null && fileStorage.exists(filePath)) {
+                fileStorage.delete(filePath);
             }
         } catch (IOException e) {
-            log.warn("CommonFileService.delete: 스토리지 파일 삭제 실패 {} - {}", commonFile.getFilePath(), e.getMessage());
+            log.warn("CommonFileService.delete: 스토리지 파일 삭제 실패 {} - {}", filePath, e.getMessage());
         }
-        if (commonFile.getThumbnailPath() != null) {
+        if (thumbnailPath != null) {
             try {
-                fileStorage.delete(commonFile.getThumbnailPath());
+                fileStorage.delete(thumbnailPath);
             } catch (IOException e) {
-                log.warn("CommonFileService.delete: 썸네일 삭제 실패 {} - {}", commonFile.getThumbnailPath(), e.getMessage());
+                log.warn("CommonFileService.delete: 썸네일 삭제 실패 {} - {}", thumbnailPath, e.getMessage());
             }
         }
-        commonFileRepository.delete(commonFile);
+        fileBlobService.deleteVariants(filePath);
     }
 
-    @Transactional
-    public CommonFileResponseDto uploadFromMultipart(MultipartFile file, String sessionId) throws IOException {
-        validateMimeType(file);
+    /**
+     * 업로드 스트림을 한 번만 읽어 저장한다. 선두 바이트로 형식을 판별(MIME sniffing)해 검증한 뒤
+     * 저장하면서 SHA-256/크기를 함께 계산한다. 크기 제한은 스트림을 넘겨주는 쪽에서 건다.
+     * 본문은 클라이언트 소켓에서 바로 읽으므로(요청 버퍼링 없음) 임시 저장까지는 트랜잭션 없이 하고,
+     * blob 등록과 파일 행 저장만 짧은 트랜잭션으로 묶는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommonFileResponseDto upload(InputStream content, String filename, String declaredContentType,
+                                        String sessionId) throws IOException {
+        String originalName = sanitizeFilename(filename != null && !filename.isBlank() ? filename : "file");
+        String ext = extractExt(originalName);
+        validateExtension(ext);
+
+        BufferedInputStream in = new BufferedInputStream(content);
+        in.mark(MimeSniffer.HEAD_BYTES);
+        byte[] head = in.readNBytes(MimeSniffer.HEAD_BYTES);
+        in.reset();
+        String resolvedType = MimeSniffer.resolve(head, declaredContentType);
+        validateMimeType(resolvedType);
+        String mimeType = resolvedType != null ? resolvedType : "application/octet-stream";
+
+        // 같은 내용은 blob 하나를 공유 (저장하면서 SHA-256 계산)
+        FileBlobService.StagedBlob staged = fileBlobService.stage(in, -1, mimeType);
+        try {
+            return transactionTemplate.execute(status -> {
+                try {
+                    return saveUploaded(fileBlobService.store(staged, ext, mimeType),
+                            originalName, ext, mimeType, sessionId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            fileBlobService.discard(staged);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            fileBlobService.discard(staged);
+            throw e;
+        }
+    }
+
+    /** 업로드 시작 전 검증 (분할 업로드 init). 파일명 확장자와 선언된 MIME 타입만 본다. */
+    public void validateUploadRequest(String filename, String declaredContentType) {
+        String originalName = sanitizeFilename(filename != null && !filename.isBlank() ? filename : "file");
+        validateExtension(extractExt(originalName));
+        validateMimeType(declaredContentType);
+    }
 
-        String originalName = sanitizeFilename(
-                file.getOriginalFilename() != null && !file.getOriginalFilename().isBlank()
-                        ? file.getOriginalFilename()
-                        : "file");
+    /**
+     * 저장소에 조립이 끝난 파일(분할 업로드)을 복사 없이 등록한다. 형식은 선두 바이트로 다시 판별해 검증한다.
+     * 큰 파일의 해시 계산은 트랜잭션 없이 하고, blob 등록과 파일 행 저장만 짧은 트랜잭션으로 묶는다.
+     * beforeRegister는 그 트랜잭션 안에서 등록 직전에 실행되며(진행 상태 잠금/삭제), 예외를 던지면 등록하지 않는다.
+     * 등록되면 조립본은 blob 경로로 옮겨지거나, 압축 저장된 경우 그대로 남으므로 호출부가 정리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommonFileResponseDto uploadFromStoredPart(String partPath, String filename, String declaredContentType,
+                                                      String sessionId, Runnable beforeRegister) throws IOException {
+        String originalName = sanitizeFilename(filename != null && !filename.isBlank() ? filename : "file");
         String ext = extractExt(originalName);
         validateExtension(ext);
 
-        String storedName = UUID.randomUUID().toString() + (ext != null ? ext : "");
-        LocalDate today = LocalDate.now();
-        String relativePath = String.format("%d/%02d/%02d/%s",
-                today.getYear(), today.getMonthValue(), today.getDayOfMonth(), storedName);
+        Resource part = fileStorage.getResource(partPath);
+        if (part == null) {
+            throw new IOException("File not found in storage: " + partPath);
+        }
+        byte[] head;
+        try (InputStream in = part.getInputStream()) {
+            head = in.readNBytes(MimeSniffer.HEAD_BYTES);
+        }
+        String resolvedType = MimeSniffer.resolve(head, declaredContentType);
+        validateMimeType(resolvedType);
+        String mimeType = resolvedType != null ? resolvedType : "application/octet-stream";
+
+        FileBlobService.StagedBlob staged = fileBlobService.stageStored(partPath, mimeType);
+        try {
+            return transactionTemplate.execute(status -> {
+                beforeRegister.run();
+                try {
+                    return saveUploaded(fileBlobService.store(staged, ext, mimeType),
+                            originalName, ext, mimeType, sessionId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            fileBlobService.discard(staged);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            fileBlobService.discard(staged);
+            throw e;
+        }
+    }
 
-        fileStorage.save(relativePath, file.getInputStream(), file.getSize());
+    private CommonFileResponseDto saveUploaded(FileBlobDto blob, String originalName, String ext, String mimeType,
+                                               String sessionId) {
+        String relativePath = blob.getFilePath();
+        String storedName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
 
         CommonFile entity = new CommonFile();
         entity.setSessionId(sessionId != null && !sessionId.isBlank() ? sessionId : null);
         entity.setOriginalName(originalName);
         entity.setStoredName(storedName);
         entity.setFilePath(relativePath);
-        entity.setFileSize(file.getSize());
-        entity.setMimeType(file.getContentType() != null && !file.getContentType().isBlank()
-                ? file.getContentType()
-                : "application/octet-stream");
+        entity.setFileSize(blob.getFileSize());
+        entity.setMimeType(mimeType);
         entity.setFileExt(ext);
+        entity.setContentHash(blob.getHash());
+        entity.setContentEncoding(blob.getContentEncoding());
+        entity.setThumbnailPath(blob.getThumbnailPath());
+        applyImageMetadata(entity, blob);
 
         try {
             CommonFile saved = commonFileRepository.save(entity);
-            // 이미지 파일인 경우 비동기로 썸네일 생성 (HTTP 스레드 블로킹 없음)
-            if (imageResizeService.isResizable(saved.getMimeType())) {
+            // 새 blob인 이미지만 비동기로 썸네일 생성 (기존 blob은 썸네일 공유/생성 중)
+            if (blob.isCreated() && imageResizeService.isResizable(saved.getMimeType())) {
                 thumbnailAsyncService.generateAndSave(saved.getId(), relativePath, saved.getMimeType());
             }
             return saved.toResponseDto();
         } catch (Exception e) {
-            try {
-                fileStorage.delete(relativePath);
-            } catch (IOException deleteEx) {
-                log.error("CommonFileService: DB 저장 실패 후 물리 파일 삭제도 실패 {} - {}", relativePath, deleteEx.getMessage());
+            // 참조 증가는 롤백되므로 이번에 새로 만든 blob 파일만 정리
+            if (blob.isCreated()) {
+                try {
+                    fileStorage.delete(relativePath);
+                } catch (IOException deleteEx) {
+                    log.error("CommonFileService: DB 저장 실패 후 물리 파일 삭제도 실패 {} - {}", relativePath, deleteEx.getMessage());
+                }
             }
             throw e;
         }
     }
 
-    public Resource getResourceForDownload(UUID id) throws IOException {
-        CommonFile file = commonFileRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("CommonFile", id));
+    /**
+     * 같은 내용의 blob에 계산된 값이 있으면 복사하고, 없으면(새 blob, 썸네일 생성 전) 원본 헤더에서 크기만 읽는다.
+     * 대표 색/BlurHash는 썸네일 생성이 끝나면 채워진다.
+     */
+    private void applyImageMetadata(CommonFile entity, FileBlobDto blob) {
+        if (!imageResizeService.isResizable(entity.getMimeType())) return;
+        ImageMetadata metadata = blob.getImageMetadata() != null
+                ? blob.getImageMetadata()
+                : readDimensions(blob.getFilePath());
+        if (metadata == null) return;
+        entity.setImageWidth(metadata.getWidth());
+        entity.setImageHeight(metadata.getHeight());
+        entity.setDominantColor(metadata.getDominantColor());
+        entity.setBlurHash(metadata.getBlurHash());
+    }
+
+    private ImageMetadata readDimensions(String relativePath) {
+        try {
+            Resource resource = fileStorage.getResource(relativePath);
+            return resource != null && resource.isFile()
+                    ? imageResizeService.readDimensions(resource.getFile().toPath())
+                    : null;
+        } catch (IOException e) {
+            log.debug("CommonFileService: 이미지 크기 읽기 실패 {} - {}", relativePath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 원본 다운로드 스트리밍 대상. 저장 파일은 id별로 불변이므로
+     * ETag는 id/크기/저장 경로, Last-Modified는 업로드 시각으로 만든다.
+     * gzip 압축 저장 파일은 acceptsGzip이면 압축된 그대로(ETag에 -gz), 아니면 풀면서 원본 크기로 보낸다.
+     */
+    public FileStreamSource getDownloadSource(CommonFile file, boolean acceptsGzip) throws IOException {
         Resource resource = fileStorage.getResource(file.getFilePath());
         if (resource == null || !resource.exists()) {
             throw new IOException("File not found in storage: " + file.getFilePath());
         }
-        return resource;
+        Path path = resource.getFile().toPath();
+        long length = Files.size(path);
+        boolean gzipStored = FileBlobService.GZIP.equals(file.getContentEncoding());
+        String etag = file.getId() + "-" + Long.toHexString(length)
+                + "-" + Integer.toHexString(file.getFilePath().hashCode());
+        return FileStreamSource.builder()
+                .relativePath(file.getFilePath())
+                .path(path)
+                .length(gzipStored && !acceptsGzip ? file.getFileSize() : length)
+                .contentType(downloadContentType(file))
+                .contentDisposition(downloadDisposition(file))
+                .contentEncoding(gzipStored && acceptsGzip ? FileBlobService.GZIP : null)
+                .decodeGzip(gzipStored && !acceptsGzip)
+                .etag("\"" + etag + (gzipStored && acceptsGzip ? "-gz" : "") + "\"")
+                .lastModified(file.getCreatedAt() != null
+                        ? file.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                        : Files.getLastModifiedTime(path).toMillis())
+                .build();
     }
 
-    /** 썸네일 리소스 반환. 썸네일이 없으면 404. 원본 파일을 fallback으로 반환하지 않음. */
-    @Transactional(readOnly = true)
-    public Resource getResourceForThumbnail(UUID id) throws IOException {
-        CommonFile file = commonFileRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("CommonFile", id));
+    /**
+     * 썸네일 스트리밍 대상. 썸네일은 비동기로 (재)생성되므로 검증자는 썸네일 파일 자체의 크기/수정시각으로 만든다.
+     * 메모리 캐시에 넣을 수 있으면 넣고 캐시 본문으로 응답한다 (다음 요청은 getCachedThumbnailSource로 적중).
+     */
+    public FileStreamSource getThumbnailSource(CommonFile file) throws IOException {
+        Path path = thumbnailResource(file).getFile().toPath();
+        long length = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        FileStreamSource source = FileStreamSource.builder()
+                .relativePath(file.getThumbnailPath())
+                .path(path)
+                .length(length)
+                .contentType(MediaType.IMAGE_JPEG_VALUE)
+                .contentDisposition("inline")
+                .etag("\"" + file.getId() + "-t-" + Long.toHexString(length)
+                        + "-" + Long.toHexString(lastModified) + "\"")
+                .lastModified(lastModified)
+                .build();
+        OffHeapByteCache.Lease cached = thumbnailByteCache.load(file.getId(), source);
+        return cached != null ? cachedThumbnailSource(file.getThumbnailPath(), cached) : source;
+    }
+
+    /**
+     * 권한과 썸네일 바이트가 모두 메모리 캐시에 있으면 DB/파일 접근 없이 응답 대상을 반환한다.
+     * 둘 중 하나라도 없으면 null (getAccessibleFile + getThumbnailSource 경로로). 권한이 없으면 ForbiddenException.
+     */
+    public FileStreamSource getCachedThumbnailSource(UUID fileId, RequestContext ctx) {
+        FileAcl acl = fileAclCache.get(fileId);
+        if (acl == null) {
+            return null;
+        }
+        if (!acl.allows(ctx)) {
+            throw new ForbiddenException("해당 파일에 접근할 권한이 없습니다.");
+        }
+        OffHeapByteCache.Lease cached = thumbnailByteCache.get(fileId);
+        return cached != null ? cachedThumbnailSource(null, cached) : null;
+    }
+
+    private static FileStreamSource cachedThumbnailSource(String relativePath, OffHeapByteCache.Lease cached) {
+        return FileStreamSource.builder()
+                .relativePath(relativePath)
+                .length(cached.length())
+                .contentType(MediaType.IMAGE_JPEG_VALUE)
+                .contentDisposition("inline")
+                .etag(cached.etag())
+                .lastModified(cached.lastModified())
+                .body(cached)
+                .build();
+    }
+
+    /**
+     * nginx(X-Accel-Redirect) 모드: 메타데이터만 사용하고 디스크는 읽지 않는다.
+     * nginx는 위임 응답에 Content-Encoding을 넘기지 않으므로 압축 저장 파일에는 쓰지 않는다 (isAccelEligible).
+     */
+    public FileStreamSource getDownloadRedirect(CommonFile file) {
+        return FileStreamSource.builder()
+                .relativePath(file.getFilePath())
+                .contentType(downloadContentType(file))
+                .contentDisposition(downloadDisposition(file))
+                .build();
+    }
+
+    /** 압축 저장 파일은 Content-Encoding/해제 처리를 위해 앱이 직접 보낸다 */
+    public static boolean isAccelEligible(CommonFile file) {
+        return file.getContentEncoding() == null;
+    }
+
+    /** nginx(X-Accel-Redirect) 모드의 썸네일. 썸네일 미생성이면 404 (원본 대용 금지는 동일). */
+    public FileStreamSource getThumbnailRedirect(CommonFile file) {
+        if (file.getThumbnailPath() == null) {
+            throw new ResourceNotFoundException("Thumbnail not found for file", file.getId());
+        }
+        return FileStreamSource.builder()
+                .relativePath(file.getThumbnailPath())
+                .contentType(MediaType.IMAGE_JPEG_VALUE)
+                .contentDisposition("inline")
+                .build();
+    }
 
+    private static String downloadContentType(CommonFile file) {
+        return file.getMimeType() != null ? file.getMimeType() : "application/octet-stream";
+    }
+
+    private static String downloadDisposition(CommonFile file) {
+        String filename = file.getOriginalName() != null ? file.getOriginalName() : file.getStoredName();
+        String encoded = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+        return "attachment; filename*=UTF-8''" + encoded;
+    }
+
+    private Resource thumbnailResource(CommonFile file) throws IOException {
+        UUID id = file.getId();
         if (file.getThumbnailPath() != null) {
             Resource thumb = fileStorage.getResource(file.getThumbnailPath());
             if (thumb != null && thumb.exists()) {
@@ -189,30 +463,85 @@ public class CommonFileService {
 
         // 썸네일 미생성 상태에서 원본 대용 서빙 금지:
         // 원본을 서빙하면 대용량 파일이 스트리밍되어 메모리/커넥션 슬롯을 점유하고,
-        // 동시에 @Async ImageMagick 프로세스를 중복 트리거해 PID 소진으로 이어진다.
-        // 업로드 시 이미 비동기 생성이 트리거되며, 기존 파일은 어드민 백필로 처리한다.
+        // 썸네일 생성은 업로드 시 작업 큐(thumbnail_job)에 등록되며, 기존 파일은 어드민 백필로 처리한다.
         throw new ResourceNotFoundException("Thumbnail not found for file", id);
     }
 
+    /** 접근 권한만 확인 (캐시 적중 시 DB 조회 없음). 권한이 없으면 ForbiddenException */
     public void checkDownloadAccess(UUID fileId, RequestContext ctx) {
-        List<RelTopicFile> fileRels = relTopicFileRepository.findByFileId(fileId);
-        if (fileRels.isEmpty())
-            return;
+        FileAcl acl = fileAclCache.get(fileId);
+        if (acl == null) {
+            acl = loadWithAcl(fileId).acl();
+        }
+        if (!acl.allows(ctx)) {
+            throw new ForbiddenException("해당 파일에 접근할 권한이 없습니다.");
+        }
+    }
 
-        for (RelTopicFile rel : fileRels) {
-            Topic topic = topicRepository.findByIdAndDeletedAtIsNull(rel.getTopicId()).orElse(null);
-            if (topic == null)
-                continue;
-            if (Boolean.TRUE.equals(topic.getIsPublic()) && !"temporary".equals(topic.getStatus())) {
-                return;
-            }
-            if (ctx != null && ctx.isAuthenticated()) {
-                if (ctx.isAdmin() || topic.getAuthorUserId().equals(ctx.getCurrentUserId())) {
-                    return;
-                }
+    /**
+     * 접근 권한을 확인하고 파일 메타데이터를 반환한다. 다운로드/썸네일 경로의 유일한 DB 조회:
+     * 권한이 캐시에 있으면 PK 조회 한 번, 없으면 메타데이터와 권한을 함께 계산하는 쿼리 한 번.
+     */
+    public CommonFile getAccessibleFile(UUID fileId, RequestContext ctx) {
+        FileAcl cached = fileAclCache.get(fileId);
+        if (cached != null) {
+            if (!cached.allows(ctx)) {
+                throw new ForbiddenException("해당 파일에 접근할 권한이 없습니다.");
             }
+            return commonFileRepository.findById(fileId)
+                    .orElseThrow(() -> new ResourceNotFoundException("CommonFile", fileId));
+        }
+        FileWithAcl loaded = loadWithAcl(fileId);
+        if (!loaded.acl().allows(ctx)) {
+            throw new ForbiddenException("해당 파일에 접근할 권한이 없습니다.");
         }
-        throw new ForbiddenException("해당 파일에 접근할 권한이 없습니다.");
+        return loaded.file();
+    }
+
+    private record FileWithAcl(CommonFile file, FileAcl acl) {
+    }
+
+    private FileWithAcl loadWithAcl(UUID fileId) {
+        long stamp = fileAclCache.stamp();
+        List<FileWithAcl> rows = jdbcTemplate.query(FILE_WITH_ACL_SQL, (rs, rowNum) -> {
+            CommonFile file = new CommonFile();
+            file.setId(rs.getObject("id", UUID.class));
+            file.setSessionId(rs.getString("session_id"));
+            file.setOriginalName(rs.getString("original_name"));
+            file.setStoredName(rs.getString("stored_name"));
+            file.setFilePath(rs.getString("file_path"));
+            file.setFileSize(rs.getLong("file_size"));
+            file.setMimeType(rs.getString("mime_type"));
+            file.setFileExt(rs.getString("file_ext"));
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            file.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+            file.setThumbnailPath(rs.getString("thumbnail_path"));
+            file.setContentHash(rs.getString("content_hash"));
+            file.setImageWidth(rs.getObject("image_width", Integer.class));
+            file.setImageHeight(rs.getObject("image_height", Integer.class));
+            file.setDominantColor(rs.getString("dominant_color"));
+            file.setBlurHash(rs.getString("blur_hash"));
+            file.setContentEncoding(rs.getString("content_encoding"));
+            FileAcl acl = FileAcl.builder()
+                    .unrestricted(rs.getInt("rel_count") == 0)
+                    .publicAccess(rs.getBoolean("public_access"))
+                    .attachedToLiveTopic(rs.getInt("live_topics") > 0)
+                    .ownerIds(uuidSet(rs.getArray("owner_ids")))
+                    .topicIds(uuidSet(rs.getArray("topic_ids")))
+                    .build();
+            return new FileWithAcl(file, acl);
+        }, fileId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("CommonFile", fileId);
+        }
+        FileWithAcl loaded = rows.get(0);
+        fileAclCache.put(fileId, loaded.acl(), stamp);
+        return loaded;
+    }
+
+    private static Set<UUID> uuidSet(Array array) throws SQLException {
+        if (array == null) return Set.of();
+        return Set.of((UUID[]) array.getArray());
     }
 
     public CommonFile getEntityById(UUID id) {
@@ -220,8 +549,7 @@ public class CommonFileService {
                 .orElseThrow(() -> new ResourceNotFoundException("CommonFile", id));
     }
 
-    private void validateMimeType(MultipartFile file) {
-        String mime = file.getContentType();
+    private void validateMimeType(String mime) {
         if (mime == null || mime.isBlank())
             return;
         String normalizedMime = mime.toLowerCase();
@@ -0,0 +1,94 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.common.util.TransactionUtil;
+import com.jinyverse.backend.domain.file.dto.FileAcl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 id → 접근 권한(FileAcl) 인메모리 캐시. 다운로드/썸네일 목록 요청마다 게시글 조인을 반복하지 않도록 한다.
+ * 게시글 첨부/공개 여부/삭제가 바뀌면 TopicFileService 등이 무효화하며, 커밋 직후 한 번 더 지운다
+ * (커밋 전 다른 요청이 옛 값을 다시 채우는 경우 방지). 다른 인스턴스의 변경은 TTL로만 반영된다.
+ */
+@Component
+public class FileAclCache {
+
+    private record Entry(FileAcl acl, long expiresAt) {
+    }
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 무효화마다 증가. 조회 시작 후 무효화가 있었다면 조회 결과를 캐시에 넣지 않는다. */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public FileAclCache(@Value("${app.file.acl-cache.ttl-seconds:60}") long ttlSeconds,
+                        @Value("${app.file.acl-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /** 캐시된 권한. 없거나 만료되었으면 null */
+    public FileAcl get(UUID fileId) {
+        Entry entry = entries.get(fileId);
+        if (entry == null) return null;
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(fileId, entry);
+            return null;
+        }
+        return entry.acl();
+    }
+
+    /** DB 조회 직전에 받아 두고 {@link #put}에 넘긴다. */
+    public long stamp() {
+        return generation.get();
+    }
+
+    public void put(UUID fileId, FileAcl acl, long stamp) {
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) entries.clear();
+        }
+        entries.put(fileId, new Entry(acl, System.currentTimeMillis() + ttlMillis));
+        // 조회 중 무효화가 있었다면 방금 넣은 값은 옛 값일 수 있음
+        if (generation.get() != stamp) {
+            entries.remove(fileId);
+        }
+    }
+
+    /** 첨부가 추가/삭제된 파일 */
+    public void invalidateFiles(Collection<UUID> fileIds) {
+        if (fileIds == null || fileIds.isEmpty()) return;
+        Set<UUID> ids = Set.copyOf(fileIds);
+        evictNowAndAfterCommit(() -> entries.keySet().removeAll(ids));
+    }
+
+    /** 공개 여부가 바뀌었거나 삭제된 게시글에 첨부된 파일 */
+    public void invalidateTopics(Collection<UUID> topicIds) {
+        if (topicIds == null || topicIds.isEmpty()) return;
+        Set<UUID> ids = Set.copyOf(topicIds);
+        evictNowAndAfterCommit(() -> entries.values().removeIf(
+                e -> e.acl().getTopicIds().stream().anyMatch(ids::contains)));
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        TransactionUtil.runNowAndAfterCommit(() -> {
+            generation.incrementAndGet();
+            eviction.run();
+        });
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> e.expiresAt() < now);
+    }
+}
@@ -0,0 +1,371 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.common.util.TransactionUtil;
+import com.jinyverse.backend.domain.file.dto.FileBlobDto;
+import com.jinyverse.backend.domain.file.dto.ImageMetadata;
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import com.jinyverse.backend.domain.file.util.GzipCompressingInputStream;
+import com.jinyverse.backend.domain.file.util.ImageVariants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 내용 주소(content-addressed) blob 저장소.
+ * 업로드 스트림을 임시 경로로 저장하면서 SHA-256을 함께 계산하고,
+ * 같은 해시는 {@code blobs/ab/cd/{hash}.ext} 하나만 두고 file_blob.ref_count로 참조 수를 관리한다.
+ * 마지막 참조가 해제되면 파일은 커밋된 뒤에 지운다 (롤백 시 행만 되살아나고 파일이 사라지지 않도록).
+ * 썸네일도 blob 단위로 한 번만 생성된다.
+ * 압축 효과가 큰 문서 형식(텍스트/CSV/JSON/구형 Office 등)은 저장하면서 gzip으로 압축하고 file_blob.content_encoding에 기록한다.
+ * 해시는 압축 전 내용으로 계산하므로 중복 제거는 압축 여부와 무관하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileBlobService {
+
+    private static final String BLOB_DIR = "blobs";
+    private static final String TMP_DIR = ".tmp";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    public static final String GZIP = "gzip";
+
+    /** 저장 시 gzip으로 압축하는 형식. Office XML(docx/xlsx/pptx), PDF는 이미 압축된 컨테이너라 제외 */
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "text/plain", "text/csv", "application/json", "application/x-tar",
+            "application/msword", "application/vnd.ms-excel", "application/vnd.ms-powerpoint");
+
+    /** 동시 업로드는 같은 hash 행 잠금으로 직렬화된다. xmax = 0 이면 이번에 새로 삽입된 행 */
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO file_blob (hash, file_path, file_size, mime_type, content_encoding, ref_count)
+            VALUES (?, ?, ?, ?, ?, 1)
+            ON CONFLICT (hash) DO UPDATE
+               SET ref_count = file_blob.ref_count + 1, updated_at = NOW()
+            RETURNING file_path, content_encoding, thumbnail_path,
+                      image_width, image_height, dominant_color, blur_hash, (xmax = 0) AS inserted
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE file_blob SET ref_count = ref_count - 1, updated_at = NOW()
+             WHERE hash = ?
+            RETURNING ref_count, file_path, thumbnail_path
+            """;
+
+    /**
+     * 같은 hash의 등록(register)과 커밋 후 파일 삭제(purge)를 직렬화한다.
+     * 마지막 참조 해제가 커밋된 뒤 같은 내용이 다시 올라와 같은 경로로 옮겨진 파일을 지우지 않기 위함이다.
+     */
+    private static final String HASH_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private static final TransactionDefinition PURGE_TX =
+            new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    private final FileStorage fileStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final ThumbnailByteCache thumbnailByteCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private boolean compressionEnabled;
+
+    /** 이보다 작은 파일은 압축하지 않는다 (gzip 헤더/디코딩 비용 대비 이득 없음). 크기를 모르면 압축 */
+    private long compressionMinBytes;
+
+    @Value("${app.file.compression.enabled:true}")
+    void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Value("${app.file.compression.min-bytes:1024}")
+    void setCompressionMinBytes(long compressionMinBytes) {
+        this.compressionMinBytes = compressionMinBytes;
+    }
+
+    /**
+     * stage 결과: 저장된 경로와 원본 기준 해시/크기, 저장 인코딩.
+     * inPlace이면 이미 저장소에 있던 파일을 그대로 가리키며(stageStored), discard해도 지우지 않는다.
+     */
+    public record StagedBlob(String path, String hash, long size, String contentEncoding, boolean inPlace) {
+        public StagedBlob(String path, String hash, long size, String contentEncoding) {
+            this(path, hash, size, contentEncoding, false);
+        }
+    }
+
+    /**
+     * 스트림을 임시 경로에 저장하면서 SHA-256과 크기를 함께 계산한다(size를 모르면 -1). 압축 대상이면 같은 읽기에서 압축한다.
+     * 트랜잭션 없이 실행되므로 클라이언트가 본문을 보내는 동안 DB 커넥션을 잡지 않는다. 등록은 store(StagedBlob)로 한다.
+     */
+    public StagedBlob stage(InputStream content, long size, String mimeType) throws IOException {
+        String tmpPath = TMP_DIR + "/" + UUID.randomUUID();
+        String encoding = shouldCompress(mimeType, size) ? GZIP : null;
+        MessageDigest digest = sha256();
+        CountingInputStream counted = new CountingInputStream(content);
+        try (InputStream in = encode(new DigestInputStream(counted, digest), encoding)) {
+            fileStorage.save(tmpPath, in, encoding != null ? -1 : size);
+        } catch (RuntimeException | IOException e) {
+            deleteQuietly(tmpPath);
+            throw e;
+        }
+        return new StagedBlob(tmpPath, HexFormat.of().formatHex(digest.digest()), counted.count, encoding);
+    }
+
+    /**
+     * stage한 파일을 blob으로 등록하고 참조를 하나 늘린다. 같은 내용이 이미 있으면 임시 파일은 버린다.
+     * 호출 트랜잭션이 롤백되면 참조 증가도 함께 롤백되므로, 새로 만든 blob 파일은 호출부가 정리한다.
+     */
+    @Transactional
+    public FileBlobDto store(StagedBlob staged, String ext, String mimeType) throws IOException {
+        try {
+            return register(staged.path(), staged.hash(), staged.size(), ext, mimeType, staged.contentEncoding());
+        } catch (RuntimeException | IOException e) {
+            discard(staged);
+            throw e;
+        }
+    }
+
+    /** 등록하지 못한 stage 파일 정리 (이미 옮겨졌거나 지워졌으면 무시, 제자리 stage는 원본을 남긴다) */
+    public void discard(StagedBlob staged) {
+        if (staged.inPlace()) return;
+        deleteQuietly(staged.path());
+    }
+
+    /**
+     * 이미 저장소에 있는 파일(분할 업로드 조립본 등)을 복사 없이 등록할 수 있게 준비한다. 등록은 store(StagedBlob)로 한다.
+     * 큰 파일을 읽는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행된다.
+     * 보통은 제자리에서 해시만 계산하고(store 시 blob 경로로 이동), 압축 대상이면 해시 계산과 압축 저장을
+     * 한 번의 읽기로 임시 경로에 한다 (이때 원본 정리는 호출부 몫).
+     */
+    public StagedBlob stageStored(String relativePath, String mimeType) throws IOException {
+        Resource resource = fileStorage.getResource(relativePath);
+        if (resource == null) {
+            throw new IOException("File not found in storage: " + relativePath);
+        }
+        if (shouldCompress(mimeType, resource.contentLength())) {
+            try (InputStream in = resource.getInputStream()) {
+                return stage(in, -1, mimeType);
+            }
+        }
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (InputStream in = resource.getInputStream()) {
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+                size += n;
+            }
+        }
+        return new StagedBlob(relativePath, HexFormat.of().formatHex(digest.digest()), size, null, true);
+    }
+
+    /**
+     * 참조를 하나 늘리고 저장소의 source 파일을 blob 경로로 옮기거나(새 blob) 버린다(기존 blob).
+     * 같은 내용의 blob이 있으면 그 blob의 저장 형식(압축 여부)을 따른다.
+     */
+    private FileBlobDto register(String sourcePath, String hash, long size, String ext, String mimeType,
+                                 String encoding) throws IOException {
+        jdbcTemplate.queryForList(HASH_LOCK_SQL, hash);
+        FileBlobDto blob = jdbcTemplate.queryForObject(ACQUIRE_SQL, (rs, rowNum) -> FileBlobDto.builder()
+                .hash(hash)
+                .filePath(rs.getString("file_path"))
+                .fileSize(size)
+                .contentEncoding(rs.getString("content_encoding"))
+                .thumbnailPath(rs.getString("thumbnail_path"))
+                .imageMetadata(rs.getObject("image_width") != null
+                        ? ImageMetadata.builder()
+                                .width(rs.getObject("image_width", Integer.class))
+                                .height(rs.getObject("image_height", Integer.class))
+                                .dominantColor(rs.getString("dominant_color"))
+                                .blurHash(rs.getString("blur_hash"))
+                                .build()
+                        : null)
+                .created(rs.getBoolean("inserted"))
+                .build(), hash, blobPath(hash, ext, encoding), size, mimeType, encoding);
+
+        if (blob.isCreated()) {
+            fileStorage.move(sourcePath, blob.getFilePath());
+        } else if (!fileStorage.exists(blob.getFilePath())) {
+            // 기존 blob 파일이 유실됨: 이번 내용으로 복구. 같은 경로를 가리키는 common_file이 있으므로 기존 저장 형식을 따른다
+            if (Objects.equals(encoding, blob.getContentEncoding())) {
+                fileStorage.move(sourcePath, blob.getFilePath());
+            } else {
+                Resource source = fileStorage.getResource(sourcePath);
+                try (InputStream in = encode(decode(source.getInputStream(), encoding), blob.getContentEncoding())) {
+                    fileStorage.save(blob.getFilePath(), in, -1);
+                }
+                fileStorage.delete(sourcePath);
+            }
+        } else {
+            fileStorage.delete(sourcePath);
+        }
+        return blob;
+    }
+
+    /**
+     * 참조 하나를 해제한다. 마지막 참조였다면 blob 행을 지우고, 원본/썸네일/변형 파일은 커밋된 뒤에 삭제한다.
+     * 호출 트랜잭션이 롤백되면(예: 아직 연결된 파일 삭제의 FK 위반) 행과 함께 파일도 남는다.
+     */
+    @Transactional
+    public void release(String hash) {
+        if (hash == null) return;
+        List<Object[]> rows = jdbcTemplate.query(RELEASE_SQL, (rs, rowNum) -> new Object[] {
+                rs.getInt("ref_count"), rs.getString("file_path"), rs.getString("thumbnail_path") }, hash);
+        if (rows.isEmpty()) {
+            log.warn("FileBlobService.release: blob 없음 hash={}", hash);
+            return;
+        }
+        Object[] row = rows.get(0);
+        if ((int) row[0] > 0) return;
+
+        jdbcTemplate.update("DELETE FROM file_blob WHERE hash = ? AND ref_count <= 0", hash);
+        String filePath = (String) row[1];
+        String thumbnailPath = (String) row[2];
+        TransactionUtil.runAfterCommit(() -> purge(hash, filePath, thumbnailPath));
+    }
+
+    /**
+     * 커밋 후 별도 트랜잭션에서 hash 잠금을 잡고 파일을 삭제한다.
+     * 그 사이 같은 내용이 같은 경로로 다시 등록됐으면 그 blob의 파일이므로 남긴다.
+     */
+    private void purge(String hash, String filePath, String thumbnailPath) {
+        try {
+            new TransactionTemplate(transactionManager, PURGE_TX).executeWithoutResult(status -> {
+                jdbcTemplate.queryForList(HASH_LOCK_SQL, hash);
+                List<String> live = jdbcTemplate.queryForList(
+                        "SELECT file_path FROM file_blob WHERE hash = ?", String.class, hash);
+                if (filePath != null && live.contains(filePath)) return;
+                deleteQuietly(filePath);
+                deleteQuietly(thumbnailPath);
+                deleteVariants(filePath);
+            });
+        } catch (RuntimeException e) {
+            log.warn("FileBlobService: blob 파일 정리 실패 hash={} - {}", hash, e.getMessage());
+        }
+    }
+
+    /** 원본에서 요청 시 생성된 크기별 변형 이미지를 모두 삭제한다 (없는 것은 무시). */
+    public void deleteVariants(String originalRelativePath) {
+        if (originalRelativePath == null) return;
+        for (String variantPath : ImageVariants.allRelativePaths(originalRelativePath)) {
+            if (fileStorage.exists(variantPath)) {
+                deleteQuietly(variantPath);
+            }
+        }
+    }
+
+    /**
+     * 썸네일 생성 완료를 blob과 이를 공유하는 모든 파일 행에 반영한다.
+     * 파일 행은 file_path 기준으로 한 번에 갱신하며, 썸네일 경로는 아직 없는 행에만 채운다.
+     * 이미지 메타데이터(원본 크기, 대표 색, BlurHash)는 같은 갱신에서 함께 기록한다 (계산하지 못한 값은 유지).
+     * 같은 경로에 썸네일을 다시 만든 경우이므로 메모리에 캐시된 이전 썸네일 바이트도 버린다.
+     */
+    @Transactional
+    public int attachThumbnail(String filePath, String thumbnailPath, ImageMetadata metadata) {
+        ImageMetadata m = metadata != null ? metadata : ImageMetadata.builder().build();
+        thumbnailByteCache.invalidateThumbnail(thumbnailPath);
+        jdbcTemplate.update("""
+                UPDATE file_blob
+                   SET thumbnail_path = ?, image_width = COALESCE(?, image_width),
+                       image_height = COALESCE(?, image_height), dominant_color = COALESCE(?, dominant_color),
+                       blur_hash = COALESCE(?, blur_hash), updated_at = NOW()
+                 WHERE file_path = ?
+                """, thumbnailPath, m.getWidth(), m.getHeight(), m.getDominantColor(), m.getBlurHash(), filePath);
+        return jdbcTemplate.update("""
+                UPDATE common_file
+                   SET thumbnail_path = COALESCE(thumbnail_path, ?), image_width = COALESCE(?, image_width),
+                       image_height = COALESCE(?, image_height), dominant_color = COALESCE(?, dominant_color),
+                       blur_hash = COALESCE(?, blur_hash)
+                 WHERE file_path = ?
+                """, thumbnailPath, m.getWidth(), m.getHeight(), m.getDominantColor(), m.getBlurHash(), filePath);
+    }
+
+    /** blobs/ab/cd/{hash}.ext — 디렉터리당 파일 수를 제한하기 위해 해시 앞 4자리로 2단계 분산 */
+    static String blobPath(String hash, String ext) {
+        String safeExt = ext != null ? ext.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "") : "";
+        if (safeExt.length() > 10) safeExt = safeExt.substring(0, 10);
+        return String.format("%s/%s/%s/%s%s", BLOB_DIR, hash.substring(0, 2), hash.substring(2, 4), hash,
+                safeExt.isEmpty() ? "" : "." + safeExt);
+    }
+
+    /** 압축 저장 blob은 .gz를 덧붙여 디스크에서도 구분되게 한다 */
+    static String blobPath(String hash, String ext, String encoding) {
+        return GZIP.equals(encoding) ? blobPath(hash, ext) + ".gz" : blobPath(hash, ext);
+    }
+
+    /** 저장 시 압축할지: 설정이 켜져 있고, 압축 대상 형식이며, 최소 크기 이상(모르면 압축) */
+    boolean shouldCompress(String mimeType, long size) {
+        if (!compressionEnabled || mimeType == null) return false;
+        String type = mimeType.toLowerCase(Locale.ROOT);
+        int semicolon = type.indexOf(';');
+        if (semicolon >= 0) type = type.substring(0, semicolon).trim();
+        return COMPRESSIBLE_TYPES.contains(type) && (size < 0 || size >= compressionMinBytes);
+    }
+
+    private static InputStream encode(InputStream in, String encoding) throws IOException {
+        return GZIP.equals(encoding) ? new GzipCompressingInputStream(in) : in;
+    }
+
+    private static InputStream decode(InputStream in, String encoding) throws IOException {
+        return GZIP.equals(encoding) ? new GZIPInputStream(in, HASH_BUFFER_SIZE) : in;
+    }
+
+    private void deleteQuietly(String relativePath) {
+        if (relativePath == null) return;
+        try {
+            fileStorage.delete(relativePath);
+        } catch (IOException e) {
+            log.warn("FileBlobService: 파일 삭제 실패 {} - {}", relativePath, e.getMessage());
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
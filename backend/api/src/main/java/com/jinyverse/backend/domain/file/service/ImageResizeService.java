@@ -1,14 +1,32 @@
 package com.jinyverse.backend.domain.file.service;
 
+import com.jinyverse.backend.domain.file.dto.ImageMetadata;
+import com.jinyverse.backend.domain.file.util.ImagePlaceholders;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -22,84 +40,308 @@ public class ImageResizeService {
             "image/jpeg", "image/jpg", "image/png", "image/webp");
 
     private static final int THUMBNAIL_WIDTH = 600;
+    /** 결과 높이 상한 = 목표 너비 × 이 값. 세로로 긴 이미지(웹툰, 인포그래픽)가 거대한 축소본이 되지 않도록 */
+    private static final int MAX_HEIGHT_PER_WIDTH = 3;
     private static final int THUMBNAIL_QUALITY = 85;
+    private static final int WEBP_QUALITY = 80;
+
+    private boolean javaEngine;
 
     public boolean isResizable(String mimeType) {
         return mimeType != null && RESIZABLE_MIME_TYPES.contains(mimeType.toLowerCase());
     }
 
     /**
-     * ImageMagick(convert)으로 썸네일 생성. JVM 힙과 분리된 외부 프로세스로 실행.
+     * 썸네일 생성 엔진. imagemagick: 외부 convert 프로세스 / java: ImageIO 축소 디코딩 (프로세스 생성 없음).
+     * java 엔진이 읽지 못하는 형식(WebP 등)이나 디코딩 실패 시 ImageMagick으로 처리한다.
+     */
+    @Value("${app.thumbnail.engine:imagemagick}")
+    void setEngine(String engine) {
+        this.javaEngine = "java".equalsIgnoreCase(engine);
+        if (javaEngine) {
+            // 디코딩 중 임시 파일 캐시 대신 메모리 사용 (축소 디코딩이라 작음)
+            ImageIO.setUseCache(false);
+        }
+    }
+
+    /**
+     * 썸네일 생성. 너비 THUMBNAIL_WIDTH, 높이 그 3배(MAX_HEIGHT_PER_WIDTH) 안에 들어오게 비율 유지 축소하며,
+     * 이미 그 안에 들어오면 크기는 그대로 두고 JPEG로만 변환한다.
      * 저장 경로: {originalDir}/_thumb/{stem}_thumb.jpg
      *
      * @param originalAbsPath 원본 파일의 절대 경로
      * @return 생성된 썸네일의 절대 경로
      */
     public Path generateThumbnail(Path originalAbsPath) throws IOException {
+        Path thumbPath = thumbnailPathOf(originalAbsPath);
+        render(originalAbsPath, thumbPath, THUMBNAIL_WIDTH, "jpeg");
+        return thumbPath;
+    }
+
+    /**
+     * 썸네일을 만들면서 원본 크기, 대표 색, BlurHash를 함께 계산한다.
+     * 원본은 썸네일용으로 한 번만 디코딩하고, 자리표시 값은 그 결과(축소본)에서 구한다.
+     * ImageMagick으로 만든 경우에는 생성된 작은 JPEG를 읽어 계산한다.
+     */
+    public ImageMetadata generateThumbnailWithMetadata(Path originalAbsPath) throws IOException {
+        Path thumbPath = thumbnailPathOf(originalAbsPath);
+        BufferedImage thumbnail = render(originalAbsPath, thumbPath, THUMBNAIL_WIDTH, "jpeg");
+        if (thumbnail == null) {
+            thumbnail = ImageIO.read(thumbPath.toFile());
+        }
+        return metadata(readDimensions(originalAbsPath), thumbnail);
+    }
+
+    /** 이미 있는 썸네일로 메타데이터를 계산한다 (백필용, 원본은 헤더만 읽음) */
+    public ImageMetadata describe(Path originalAbsPath, Path thumbnailAbsPath) throws IOException {
+        return metadata(readDimensions(originalAbsPath), ImageIO.read(thumbnailAbsPath.toFile()));
+    }
+
+    /**
+     * 원본 크기를 헤더만 읽어 구한다 (픽셀 디코딩 없음, 업로드 응답에 바로 쓸 수 있음).
+     * ImageIO 리더가 없는 WebP는 RIFF 헤더를 직접 해석한다. 알 수 없으면 null.
+     */
+    public ImageMetadata readDimensions(Path originalAbsPath) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(originalAbsPath.toFile())) {
+            Iterator<ImageReader> readers = iis != null ? ImageIO.getImageReaders(iis) : null;
+            if (readers != null && readers.hasNext()) {
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(iis, true, true);
+                    return ImageMetadata.builder().width(reader.getWidth(0)).height(reader.getHeight(0)).build();
+                } catch (IIOException | IllegalArgumentException e) {
+                    log.debug("ImageResizeService: 헤더 읽기 실패 {} - {}", originalAbsPath, e.getMessage());
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+        byte[] head;
+        try (InputStream in = Files.newInputStream(originalAbsPath)) {
+            head = in.readNBytes(30);
+        }
+        int[] size = webpDimensions(head);
+        return size != null ? ImageMetadata.builder().width(size[0]).height(size[1]).build() : null;
+    }
+
+    private static ImageMetadata metadata(ImageMetadata dimensions, BufferedImage thumbnail) {
+        ImageMetadata.ImageMetadataBuilder builder = ImageMetadata.builder();
+        if (dimensions != null) {
+            builder.width(dimensions.getWidth()).height(dimensions.getHeight());
+        }
+        if (thumbnail != null) {
+            int[] components = ImagePlaceholders.components(thumbnail.getWidth(), thumbnail.getHeight());
+            builder.dominantColor(ImagePlaceholders.dominantColor(thumbnail))
+                    .blurHash(ImagePlaceholders.blurHash(thumbnail, components[0], components[1]));
+        }
+        return builder.build();
+    }
+
+    /** WebP(VP8/VP8L/VP8X) 헤더의 가로/세로. WebP가 아니거나 잘렸으면 null */
+    static int[] webpDimensions(byte[] h) {
+        if (h.length < 30 || !ascii(h, 0, "RIFF") || !ascii(h, 8, "WEBP")) {
+            return null;
+        }
+        if (ascii(h, 12, "VP8 ")) {
+            // 손실: 키 프레임 시작 코드(9d 01 2a) 뒤 14비트 가로/세로
+            if ((h[23] & 0xff) != 0x9d || (h[24] & 0xff) != 0x01 || (h[25] & 0xff) != 0x2a) return null;
+            return new int[] {le16(h, 26) & 0x3fff, le16(h, 28) & 0x3fff};
+        }
+        if (ascii(h, 12, "VP8L")) {
+            // 무손실: 서명(0x2f) 뒤 14비트씩 (값 - 1)
+            if ((h[20] & 0xff) != 0x2f) return null;
+            int bits = (h[21] & 0xff) | (h[22] & 0xff) << 8 | (h[23] & 0xff) << 16 | (h[24] & 0xff) << 24;
+            return new int[] {(bits & 0x3fff) + 1, ((bits >>> 14) & 0x3fff) + 1};
+        }
+        if (ascii(h, 12, "VP8X")) {
+            // 확장: 캔버스 크기 24비트씩 (값 - 1)
+            return new int[] {le24(h, 24) + 1, le24(h, 27) + 1};
+        }
+        return null;
+    }
+
+    private static boolean ascii(byte[] b, int offset, String expected) {
+        for (int i = 0; i < expected.length(); i++) {
+            if (b[offset + i] != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static int le16(byte[] b, int offset) {
+        return (b[offset] & 0xff) | (b[offset + 1] & 0xff) << 8;
+    }
+
+    private static int le24(byte[] b, int offset) {
+        return le16(b, offset) | (b[offset + 2] & 0xff) << 16;
+    }
+
+    private static Path thumbnailPathOf(Path originalAbsPath) throws IOException {
         Path thumbDir = originalAbsPath.getParent().resolve("_thumb");
         Files.createDirectories(thumbDir);
+        return thumbDir.resolve(stripExtension(originalAbsPath.getFileName().toString()) + "_thumb.jpg");
+    }
 
-        String originalFilename = originalAbsPath.getFileName().toString();
-        String stem = stripExtension(originalFilename);
-        Path thumbPath = thumbDir.resolve(stem + "_thumb.jpg");
+    /**
+     * 지정한 너비/형식의 변형 이미지를 target에 생성한다 (높이는 너비의 MAX_HEIGHT_PER_WIDTH배까지). 원본보다 크게 확대하지 않는다.
+     * WebP는 ImageIO로 쓸 수 없으므로 엔진 설정과 무관하게 ImageMagick으로 만든다.
+     *
+     * @param format jpeg | webp
+     */
+    public void generateVariant(Path originalAbsPath, Path targetAbsPath, int width, String format) throws IOException {
+        Files.createDirectories(targetAbsPath.getParent());
+        render(originalAbsPath, targetAbsPath, width, format);
+    }
 
-        // 임시 파일에 먼저 쓰고 원자적으로 이동 (동시 요청 안전)
-        Path tempFile = thumbDir.resolve(stem + "_thumb.tmp." + UUID.randomUUID() + ".jpg");
+    /**
+     * 임시 파일에 먼저 쓰고 원자적으로 이동 (동시 요청 안전).
+     *
+     * @return ImageIO로 만들었으면 축소된 이미지, ImageMagick으로 만들었으면 null
+     */
+    private BufferedImage render(Path source, Path target, int width, String format) throws IOException {
+        String ext = "webp".equals(format) ? ".webp" : ".jpg";
+        String name = target.getFileName().toString();
+        Path tempFile = target.resolveSibling(name + ".tmp." + UUID.randomUUID() + ext);
         try {
-            List<String> cmd = List.of(
-                    "convert",
-                    originalAbsPath.toString(),
-                    "-resize", THUMBNAIL_WIDTH + ">",
-                    "-quality", String.valueOf(THUMBNAIL_QUALITY),
-                    tempFile.toString()
-            );
-
-            Process process = new ProcessBuilder(cmd)
-                    .redirectErrorStream(true)
-                    .start();
-
-            // 출력 스트림을 별도 스레드에서 소비 → 파이프 버퍼 데드락 방지
-            StringBuilder output = new StringBuilder();
-            Thread outputReader = new Thread(() -> {
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) output.append(line).append('\n');
-                } catch (IOException ignored) {}
-            });
-            outputReader.setDaemon(true);
-            outputReader.start();
-
-            boolean finished;
-            try {
-                finished = process.waitFor(60, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                process.destroyForcibly();
-                throw new IOException("ImageMagick 프로세스 인터럽트", e);
-            }
-            if (!finished) {
-                process.destroyForcibly();
-                throw new IOException("ImageMagick 타임아웃 (60s)");
+            boolean jpeg = !"webp".equals(format);
+            BufferedImage resized = jpeg && javaEngine ? resizeWithImageIO(source, tempFile, width) : null;
+            if (resized == null) {
+                resizeWithImageMagick(source, tempFile, width, jpeg ? THUMBNAIL_QUALITY : WEBP_QUALITY);
             }
-            try { outputReader.join(1000); } catch (InterruptedException ignored) { Thread.currentThread().interrupt(); }
-            int exitCode = process.exitValue();
-
-            if (exitCode != 0) {
-                throw new IOException("ImageMagick 실패 (exitCode=" + exitCode + "): " + output);
-            }
-
             try {
-                Files.move(tempFile, thumbPath, StandardCopyOption.ATOMIC_MOVE);
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
             } catch (java.nio.file.AtomicMoveNotSupportedException e) {
-                Files.move(tempFile, thumbPath, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
             }
+            return resized;
         } catch (Exception e) {
             Files.deleteIfExists(tempFile);
             throw e instanceof IOException ? (IOException) e : new IOException(e);
         }
+    }
 
-        return thumbPath;
+    /**
+     * ImageIO로 JPEG 축소본 생성. 원본 전체를 디코딩하지 않고 source subsampling으로
+     * 목표 크기(너비, 높이 상한)의 2배 이상이 되는 최소 해상도로만 읽으므로 메모리는 결과 크기에 비례한다.
+     *
+     * @return 저장한 축소 이미지. 이 형식을 읽을 수 없거나 디코딩에 실패하면 null (ImageMagick으로 대체)
+     */
+    BufferedImage resizeWithImageIO(Path source, Path target, int targetWidth) throws IOException {
+        int maxHeight = targetWidth * MAX_HEIGHT_PER_WIDTH;
+        BufferedImage decoded;
+        int originalWidth;
+        int originalHeight;
+        try (ImageInputStream iis = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = iis != null ? ImageIO.getImageReaders(iis) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                originalWidth = reader.getWidth(0);
+                originalHeight = reader.getHeight(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 가로/세로 중 더 많이 줄여야 하는 쪽 기준 (세로로 긴 이미지도 축소 디코딩)
+                int step = Math.max(1, Math.max(originalWidth / (targetWidth * 2), originalHeight / (maxHeight * 2)));
+                param.setSourceSubsampling(step, step, 0, 0);
+                decoded = reader.read(0, param);
+            } catch (IIOException | RuntimeException e) {
+                // CMYK JPEG 등 ImageIO 미지원 변형, 색 프로파일 처리 오류(CMMException 등)
+                log.debug("ImageResizeService: ImageIO 디코딩 실패, ImageMagick 사용 {} - {}", source, e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        double ratio = Math.min(1.0, Math.min((double) targetWidth / originalWidth, (double) maxHeight / originalHeight));
+        int width = Math.max(1, (int) Math.round(originalWidth * ratio));
+        int height = Math.max(1, (int) Math.round(originalHeight * ratio));
+        BufferedImage thumbnail = scale(decoded, width, height);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam writeParam = writer.getDefaultWriteParam();
+            writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            writeParam.setCompressionQuality(THUMBNAIL_QUALITY / 100f);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(thumbnail, null, null), writeParam);
+        } finally {
+            writer.dispose();
+        }
+        return thumbnail;
+    }
+
+    /** 절반씩 축소한 뒤 목표 크기로 맞춘다 (한 번에 크게 줄일 때의 계단 현상 방지). 알파는 흰 배경으로 합성. */
+    private static BufferedImage scale(BufferedImage src, int width, int height) {
+        BufferedImage current = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+            if (current.getWidth() <= width) {
+                w = width;
+                h = height;
+            }
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != width || h != height);
+        return current;
+    }
+
+    /** ImageMagick(convert)으로 축소본 생성. JVM 힙과 분리된 외부 프로세스로 실행. 형식은 target 확장자로 결정된다. */
+    private void resizeWithImageMagick(Path source, Path target, int width, int quality) throws IOException {
+        List<String> cmd = List.of(
+                "convert",
+                source.toString(),
+                "-resize", width + "x" + width * MAX_HEIGHT_PER_WIDTH + ">",
+                "-quality", String.valueOf(quality),
+                target.toString()
+        );
+
+        Process process = new ProcessBuilder(cmd)
+                .redirectErrorStream(true)
+                .start();
+
+        // 출력 스트림을 별도 스레드에서 소비 → 파이프 버퍼 데드락 방지
+        StringBuilder output = new StringBuilder();
+        Thread outputReader = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while ((line = reader.readLine()) != null) output.append(line).append('\n');
+            } catch (IOException ignored) {}
+        });
+        outputReader.setDaemon(true);
+        outputReader.start();
+
+        boolean finished;
+        try {
+            finished = process.waitFor(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new IOException("ImageMagick 프로세스 인터럽트", e);
+        }
+        if (!finished) {
+            process.destroyForcibly();
+            throw new IOException("ImageMagick 타임아웃 (60s)");
+        }
+        try { outputReader.join(1000); } catch (InterruptedException ignored) { Thread.currentThread().interrupt(); }
+        int exitCode = process.exitValue();
+
+        if (exitCode != 0) {
+            throw new IOException("ImageMagick 실패 (exitCode=" + exitCode + "): " + output);
+        }
     }
 
     /**
@@ -0,0 +1,166 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.file.dto.FileStreamSource;
+import com.jinyverse.backend.domain.file.entity.CommonFile;
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import com.jinyverse.backend.domain.file.util.ImageVariants;
+import com.jinyverse.backend.exception.BadRequestException;
+import com.jinyverse.backend.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 시점에 생성하는 다중 크기 이미지 변형 (GET /api/files/{id}/image?w=&fmt=).
+ * 변형 파일은 원본 옆 _thumb/ 에 디스크 캐시로 남고, 같은 (파일, 변형)의 동시 요청은
+ * 한 번만 생성해 결과를 함께 기다린다(single-flight). 동시 생성 수는 max-concurrent로 제한한다.
+ * 원본 경로는 내용이 바뀌지 않으므로(blob 해시 또는 UUID) 변형 응답은 immutable로 캐시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    /** 접근 권한은 바뀔 수 있으므로 공유 캐시 제외, 내용은 바뀌지 않으므로 재검증 없음 */
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private static final long WAIT_SECONDS = 60;
+
+    private final FileStorage fileStorage;
+    private final ImageResizeService imageResizeService;
+
+    /** 생성 중인 변형 경로 → 완료 신호 */
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private Semaphore generationPermits;
+
+    @Value("${app.image.variant.max-concurrent:2}")
+    void setMaxConcurrent(int maxConcurrent) {
+        this.generationPermits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    public FileStreamSource getVariantSource(CommonFile file, int width, String format) throws IOException {
+        String fmt = validate(width, format);
+        if (!imageResizeService.isResizable(file.getMimeType())) {
+            throw new BadRequestException("IMAGE_VARIANT_UNSUPPORTED", "크기 변환을 지원하지 않는 파일 형식입니다.");
+        }
+
+        Path path = ensureVariant(file.getFilePath(), width, fmt);
+        long length = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        return FileStreamSource.builder()
+                .relativePath(ImageVariants.relativePath(file.getFilePath(), width, fmt))
+                .path(path)
+                .length(length)
+                .contentType(ImageVariants.contentType(fmt))
+                .contentDisposition("inline")
+                .etag("\"" + file.getId() + "-w" + width + "-" + fmt + "-" + Long.toHexString(length) + "\"")
+                .lastModified(lastModified)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build();
+    }
+
+    /**
+     * 변형 파일이 없으면 생성하고 절대 경로를 반환한다. 이미 다른 요청이 생성 중이면 그 결과를 기다린다.
+     *
+     * @param format {@link ImageVariants#normalizeFormat} 으로 정규화된 형식
+     */
+    public Path ensureVariant(String originalRelativePath, int width, String format) throws IOException {
+        String variantPath = ImageVariants.relativePath(originalRelativePath, width, format);
+        if (fileStorage.exists(variantPath)) {
+            return absolutePath(variantPath);
+        }
+
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(variantPath, mine);
+        if (running != null) {
+            await(running);
+            return absolutePath(variantPath);
+        }
+
+        try {
+            acquirePermit();
+            try {
+                // 대기하는 동안 다른 인스턴스가 만들었을 수 있음
+                if (!fileStorage.exists(variantPath)) {
+                    Path original = absolutePath(originalRelativePath);
+                    Path target = original.resolveSibling("_thumb")
+                            .resolve(variantPath.substring(variantPath.lastIndexOf('/') + 1));
+                    imageResizeService.generateVariant(original, target, width, format);
+                    log.debug("ImageVariantService: 변형 생성 {}", variantPath);
+                }
+            } finally {
+                generationPermits.release();
+            }
+            mine.complete(null);
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(variantPath, mine);
+        }
+        return absolutePath(variantPath);
+    }
+
+    private static String validate(int width, String format) {
+        if (!ImageVariants.isAllowedWidth(width)) {
+            throw new BadRequestException("IMAGE_VARIANT_INVALID",
+                    "허용되지 않는 너비입니다. 허용: " + ImageVariants.WIDTHS);
+        }
+        String fmt = ImageVariants.normalizeFormat(format);
+        if (fmt == null) {
+            throw new BadRequestException("IMAGE_VARIANT_INVALID", "허용되지 않는 형식입니다: " + format);
+        }
+        return fmt;
+    }
+
+    private void acquirePermit() throws IOException {
+        try {
+            if (!generationPermits.tryAcquire(WAIT_SECONDS, TimeUnit.SECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "이미지 변환 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 변환 대기 중 인터럽트", e);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> running) throws IOException {
+        try {
+            running.get(WAIT_SECONDS * 2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 변환 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "이미지 변환 대기 시간 초과");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+
+    private Path absolutePath(String relativePath) throws IOException {
+        Resource resource = fileStorage.getResource(relativePath);
+        if (resource == null || !resource.exists()) {
+            throw new ResourceNotFoundException("File", relativePath);
+        }
+        return resource.getFile().toPath();
+    }
+}
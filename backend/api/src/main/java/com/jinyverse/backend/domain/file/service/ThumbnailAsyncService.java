@@ -1,48 +1,269 @@
 package com.jinyverse.backend.domain.file.service;
 
-import com.jinyverse.backend.domain.file.repository.CommonFileRepository;
+import com.jinyverse.backend.domain.file.dto.ImageMetadata;
+import com.jinyverse.backend.domain.file.dto.ThumbnailQueueStatsDto;
 import com.jinyverse.backend.domain.file.storage.FileStorage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 썸네일 생성 작업 큐.
+ * 요청은 thumbnail_job 테이블에 file_path 단위로 합쳐 저장되고(재시작 후에도 유지),
+ * 고정 크기 워커 풀 + 고정 크기 로컬 대기열이 비는 만큼만 DB에서 가져가 처리한다.
+ * ImageMagick 프로세스 수는 워커 수를 넘지 않으며, 여러 인스턴스는 SKIP LOCKED로 작업을 나눠 가진다.
+ * 처리 중에 죽은 작업은 lease 만료 후 다시 가져간다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ThumbnailAsyncService {
 
-    private final CommonFileRepository commonFileRepository;
+    /** 이미 대기/처리 중이면 합치고, 실패 상태였다면 다시 대기열로 */
+    private static final int RECENT_SECONDS = 60;
+
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO thumbnail_job (file_path, file_id, mime_type)
+            VALUES (?, ?, ?)
+            ON CONFLICT (file_path) DO UPDATE
+               SET status = 'queued', attempts = 0, last_error = NULL,
+                   available_at = NOW(), updated_at = NOW()
+             WHERE thumbnail_job.status = 'failed'
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE thumbnail_job j
+               SET status = 'running', attempts = j.attempts + 1, updated_at = NOW()
+             WHERE j.file_path IN (
+                   SELECT file_path FROM thumbnail_job
+                    WHERE (status = 'queued' AND available_at <= NOW())
+                       OR (status = 'running' AND updated_at < NOW() - make_interval(secs => ?))
+                    ORDER BY available_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING j.file_path, j.file_id, j.mime_type, j.attempts
+            """;
+
+    private static final String RETRY_SQL = """
+            UPDATE thumbnail_job
+               SET status = 'queued', last_error = ?, available_at = NOW() + make_interval(secs => ?), updated_at = NOW()
+             WHERE file_path = ?
+            """;
+
+    /** 처리하지 못하고 반납: 점유 때 올린 시도 횟수를 되돌린다 */
+    private static final String RELEASE_SQL = """
+            UPDATE thumbnail_job
+               SET status = 'queued', attempts = GREATEST(attempts - 1, 0), updated_at = NOW()
+             WHERE file_path = ? AND status = 'running'
+            """;
+
+    private static final String FAIL_SQL =
+            "UPDATE thumbnail_job SET status = 'failed', last_error = ?, updated_at = NOW() WHERE file_path = ?";
+
+    private static final String STATS_SQL = """
+            SELECT COUNT(*) FILTER (WHERE status = 'queued')  AS queued,
+                   COUNT(*) FILTER (WHERE status = 'running') AS running,
+                   COUNT(*) FILTER (WHERE status = 'failed')  AS failed
+              FROM thumbnail_job
+            """;
+
     private final ImageResizeService imageResizeService;
     private final FileStorage fileStorage;
+    private final FileBlobService fileBlobService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.thumbnail.workers:2}")
+    private int workers;
+
+    @Value("${app.thumbnail.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${app.thumbnail.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.thumbnail.lease-seconds:300}")
+    private int leaseSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    /** 이 인스턴스가 가져가서 아직 끝내지 않은 작업 (종료 시 대기열로 되돌림) */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder processedTotal = new LongAdder();
+    private final LongAdder failedTotal = new LongAdder();
+    private final LongAdder retriedTotal = new LongAdder();
+
+    /** 최근 1분 처리 건수: 초 단위 칸을 돌려 쓰는 고정 크기 링 (통계를 조회하지 않아도 커지지 않는다) */
+    private final long[] completionSeconds = new long[RECENT_SECONDS];
+    private final long[] completionCounts = new long[RECENT_SECONDS];
+
+    private record ThumbnailJob(String filePath, UUID fileId, String mimeType, int attempts) {
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
 
     /**
-     * 비동기로 썸네일을 생성하고 DB에 경로를 저장한다.
-     * HTTP 요청 스레드를 블로킹하지 않으며, JVM 힙과 분리된 ImageMagick 프로세스로 처리.
+     * 썸네일 생성을 요청한다 (대기열 등록만 하고 즉시 반환).
+     * 호출 트랜잭션에 참여하므로 업로드가 롤백되면 요청도 사라진다. 같은 파일의 중복 요청은 하나로 합쳐진다.
      */
-    @Async
-    @Transactional
     public void generateAndSave(UUID fileId, String filePath, String mimeType) {
         if (!imageResizeService.isResizable(mimeType)) return;
+        jdbcTemplate.update(ENQUEUE_SQL, filePath, fileId, mimeType);
+    }
+
+    /** 대기 중인 작업 수 (백필 backpressure 기준) */
+    public long backlog() {
+        Long queued = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM thumbnail_job WHERE status = 'queued'", Long.class);
+        return queued != null ? queued : 0L;
+    }
+
+    /** 대기 작업이 limit 미만이 될 때까지 최대 timeout 동안 기다린다. */
+    public boolean awaitBacklogBelow(long limit, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (backlog() >= limit) {
+            if (System.nanoTime() >= deadline) return false;
+            Thread.sleep(1000);
+        }
+        return true;
+    }
+
+    /** 워커와 로컬 대기열의 빈 자리만큼 DB에서 작업을 가져온다. */
+    @Scheduled(fixedDelayString = "${app.thumbnail.poll-interval-ms:1000}")
+    public void poll() {
+        int free = executor.getQueue().remainingCapacity() + (workers - executor.getActiveCount());
+        if (free <= 0) return;
+        List<ThumbnailJob> jobs = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ThumbnailJob(
+                rs.getString("file_path"),
+                rs.getObject("file_id", UUID.class),
+                rs.getString("mime_type"),
+                rs.getInt("attempts")), leaseSeconds, free);
+        for (ThumbnailJob job : jobs) {
+            inFlight.add(job.filePath());
+            try {
+                executor.execute(() -> process(job));
+            } catch (RejectedExecutionException e) {
+                // 빈 자리 계산 직후 종료되는 등: 다음 poll에서 다시 가져간다
+                inFlight.remove(job.filePath());
+                jdbcTemplate.update(RELEASE_SQL, job.filePath());
+            }
+        }
+    }
+
+    public ThumbnailQueueStatsDto getStats() {
+        Map<String, Object> counts = jdbcTemplate.queryForMap(STATS_SQL);
+        return ThumbnailQueueStatsDto.builder()
+                .queued(((Number) counts.get("queued")).longValue())
+                .running(((Number) counts.get("running")).longValue())
+                .failed(((Number) counts.get("failed")).longValue())
+                .workers(workers)
+                .localQueueCapacity(queueCapacity)
+                .activeWorkers(executor.getActiveCount())
+                .localQueued(executor.getQueue().size())
+                .processedTotal(processedTotal.sum())
+                .failedTotal(failedTotal.sum())
+                .retriedTotal(retriedTotal.sum())
+                .processedLastMinute(processedLastMinute())
+                .build();
+    }
+
+    /** 종료 시 아직 처리하지 못한 작업을 대기열로 되돌린다 (lease 만료를 기다리지 않도록). */
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (String filePath : inFlight) {
+            try {
+                jdbcTemplate.update(RELEASE_SQL, filePath);
+            } catch (Exception e) {
+                log.warn("ThumbnailAsyncService: 종료 시 작업 반환 실패 {} - {}", filePath, e.getMessage());
+            }
+        }
+    }
+
+    private void process(ThumbnailJob job) {
         try {
-            Resource original = fileStorage.getResource(filePath);
+            Resource original = fileStorage.getResource(job.filePath());
             if (original == null || !original.exists()) {
-                log.warn("ThumbnailAsyncService: 원본 파일 없음 fileId={}", fileId);
+                // 원본이 없으면 재시도해도 의미 없음
+                log.warn("ThumbnailAsyncService: 원본 파일 없음 fileId={}", job.fileId());
+                jdbcTemplate.update("DELETE FROM thumbnail_job WHERE file_path = ?", job.filePath());
                 return;
             }
-            imageResizeService.generateThumbnail(original.getFile().toPath());
-            String thumbPath = imageResizeService.deriveRelativeThumbnailPath(filePath);
-            commonFileRepository.findById(fileId).ifPresent(f -> {
-                f.setThumbnailPath(thumbPath);
-                commonFileRepository.saveAndFlush(f);
-                log.debug("ThumbnailAsyncService: 썸네일 저장 완료 fileId={}", fileId);
-            });
+            ImageMetadata metadata = imageResizeService.generateThumbnailWithMetadata(original.getFile().toPath());
+            String thumbPath = imageResizeService.deriveRelativeThumbnailPath(job.filePath());
+            // 같은 blob을 공유하는 파일 행 모두에 반영 (썸네일/메타데이터는 blob당 1회 생성)
+            int updated = fileBlobService.attachThumbnail(job.filePath(), thumbPath, metadata);
+            jdbcTemplate.update("DELETE FROM thumbnail_job WHERE file_path = ?", job.filePath());
+            processedTotal.increment();
+            recordCompletion();
+            log.debug("ThumbnailAsyncService: 썸네일 저장 완료 fileId={}, rows={}", job.fileId(), updated);
         } catch (Exception e) {
-            log.warn("ThumbnailAsyncService: 썸네일 생성 실패 fileId={} - {}", fileId, e.getMessage());
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (job.attempts() >= maxAttempts) {
+                failedTotal.increment();
+                jdbcTemplate.update(FAIL_SQL, error, job.filePath());
+                log.warn("ThumbnailAsyncService: 썸네일 생성 실패 fileId={} (시도 {}회) - {}",
+                        job.fileId(), job.attempts(), error);
+            } else {
+                retriedTotal.increment();
+                jdbcTemplate.update(RETRY_SQL, error, job.attempts() * 30, job.filePath());
+                log.info("ThumbnailAsyncService: 썸네일 생성 재시도 예정 fileId={} (시도 {}회) - {}",
+                        job.fileId(), job.attempts(), error);
+            }
+        } finally {
+            inFlight.remove(job.filePath());
+        }
+    }
+
+    private synchronized void recordCompletion() {
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % RECENT_SECONDS);
+        if (completionSeconds[slot] != second) {
+            completionSeconds[slot] = second;
+            completionCounts[slot] = 0;
+        }
+        completionCounts[slot]++;
+    }
+
+    private synchronized long processedLastMinute() {
+        long cutoff = System.currentTimeMillis() / 1000 - RECENT_SECONDS;
+        long sum = 0;
+        for (int i = 0; i < RECENT_SECONDS; i++) {
+            if (completionSeconds[i] > cutoff) sum += completionCounts[i];
         }
+        return sum;
     }
 }
@@ -0,0 +1,96 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.common.util.TransactionUtil;
+import com.jinyverse.backend.domain.file.dto.FileStreamSource;
+import com.jinyverse.backend.domain.file.dto.ThumbnailCacheStatsDto;
+import com.jinyverse.backend.domain.file.util.OffHeapByteCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 자주 요청되는 썸네일 바이트를 힙 밖 메모리에 보관한다 (파일 id 기준).
+ * 게시글 목록/랜딩 페이지의 같은 썸네일 요청이 접근 권한 캐시(FileAclCache)와 함께 적중하면
+ * DB 조회, 파일 열기/읽기 없이 메모리에서 바로 응답한다. capacity-mb가 0이면 사용하지 않는다.
+ * 파일 삭제와 썸네일 재생성(FileBlobService.attachThumbnail) 시 무효화하며(커밋 직후 한 번 더),
+ * 다른 인스턴스의 삭제는 권한 캐시 TTL로 반영된다.
+ */
+@Slf4j
+@Component
+public class ThumbnailByteCache {
+
+    private final OffHeapByteCache<UUID> cache;
+
+    public ThumbnailByteCache(@Value("${app.thumbnail.memory-cache.capacity-mb:64}") long capacityMb,
+                              @Value("${app.thumbnail.memory-cache.page-kb:8}") int pageKb,
+                              @Value("${app.thumbnail.memory-cache.max-entry-kb:256}") int maxEntryKb) {
+        this.cache = capacityMb > 0
+                ? new OffHeapByteCache<>(capacityMb * 1024 * 1024, pageKb * 1024, maxEntryKb * 1024)
+                : null;
+    }
+
+    /** 캐시된 썸네일. 사용 후 반드시 close (FileStreamSource.close). 없거나 비활성이면 null */
+    public OffHeapByteCache.Lease get(UUID fileId) {
+        return cache != null ? cache.get(fileId) : null;
+    }
+
+    /**
+     * 디스크에서 찾은 썸네일을 캐시에 넣고, 넣었으면 그 Lease를 반환한다.
+     * 크기 제한/입장 정책으로 넣지 않았거나 읽기에 실패하면 null (호출자는 디스크에서 응답).
+     */
+    public OffHeapByteCache.Lease load(UUID fileId, FileStreamSource source) {
+        if (cache == null) return null;
+        long stamp = cache.stamp();
+        try {
+            if (!cache.put(fileId, source.getPath(), source.getLength(), source.getEtag(),
+                    source.getLastModified(), source.getRelativePath(), stamp)) {
+                return null;
+            }
+        } catch (IOException e) {
+            log.debug("ThumbnailByteCache: 캐시 적재 실패 {} - {}", source.getRelativePath(), e.getMessage());
+            return null;
+        }
+        return cache.get(fileId);
+    }
+
+    /** 삭제된 파일 */
+    public void invalidateFiles(Collection<UUID> fileIds) {
+        if (cache == null || fileIds == null || fileIds.isEmpty()) return;
+        List<UUID> ids = List.copyOf(fileIds);
+        evictNowAndAfterCommit(() -> ids.forEach(cache::invalidate));
+    }
+
+    /** 삭제/재생성된 썸네일 파일 (같은 blob을 공유하는 모든 파일) */
+    public void invalidateThumbnail(String thumbnailPath) {
+        if (cache == null || thumbnailPath == null) return;
+        evictNowAndAfterCommit(() -> cache.invalidateTag(thumbnailPath));
+    }
+
+    public ThumbnailCacheStatsDto getStats() {
+        if (cache == null) {
+            return ThumbnailCacheStatsDto.builder().enabled(false).build();
+        }
+        OffHeapByteCache.Stats stats = cache.stats();
+        return ThumbnailCacheStatsDto.builder()
+                .enabled(true)
+                .capacityBytes(stats.capacityBytes())
+                .usedBytes(stats.usedBytes())
+                .entries(stats.entries())
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .hitRate(stats.hitRate())
+                .loads(stats.loads())
+                .evictions(stats.evictions())
+                .rejections(stats.rejections())
+                .build();
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        TransactionUtil.runNowAndAfterCommit(eviction);
+    }
+}
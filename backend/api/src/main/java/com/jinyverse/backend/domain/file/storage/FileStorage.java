@@ -15,4 +15,13 @@ public interface FileStorage {
     void delete(String relativePath) throws IOException;
 
     boolean exists(String relativePath);
+
+    /** 같은 저장소 안에서 이동 (가능하면 원자적으로). 대상이 있으면 덮어쓴다. */
+    void move(String fromRelativePath, String toRelativePath) throws IOException;
+
+    /**
+     * content에서 최대 length 바이트를 읽어 파일의 offset 위치에 기록한다 (파일이 없으면 생성).
+     * 다른 위치의 내용은 건드리지 않는다. 실제 기록한 바이트 수를 반환한다.
+     */
+    long writeAt(String relativePath, long offset, InputStream content, long length) throws IOException;
 }
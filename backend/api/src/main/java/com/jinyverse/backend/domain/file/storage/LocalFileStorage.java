@@ -9,15 +9,23 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LocalFileStorage implements FileStorage {
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private final SystemSettingService systemSettingService;
 
     @Override
@@ -64,6 +72,48 @@ public class LocalFileStorage implements FileStorage {
         }
     }
 
+    @Override
+    public void move(String fromRelativePath, String toRelativePath) throws IOException {
+        Path base = resolveBasePath();
+        Path source = base.resolve(fromRelativePath).normalize();
+        Path target = base.resolve(toRelativePath).normalize();
+        if (!source.startsWith(base) || !target.startsWith(base)) {
+            throw new IllegalArgumentException("Invalid relative path: " + fromRelativePath + " -> " + toRelativePath);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public long writeAt(String relativePath, long offset, InputStream content, long length) throws IOException {
+        Path base = resolveBasePath();
+        Path target = base.resolve(relativePath).normalize();
+        if (!target.startsWith(base)) {
+            throw new IllegalArgumentException("Invalid relative path: " + relativePath);
+        }
+        Files.createDirectories(target.getParent());
+        // 위치 지정 쓰기: 청크들이 순서와 무관하게 (동시에) 도착해도 각자 자기 구간만 기록
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(content)) {
+            // transferFrom은 현재 파일 크기를 넘는 위치에 쓰지 않으므로 write(buffer, position) 사용
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            long written = 0;
+            while (written < length) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), length - written));
+                if (source.read(buffer) < 0) break;
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer, offset + written);
+                }
+            }
+            return written;
+        }
+    }
+
     private Path resolveBasePath() {
         String basePath = systemSettingService.getFileStorageBasePath();
         if (basePath == null || basePath.isBlank()) {
@@ -0,0 +1,258 @@
+package com.jinyverse.backend.domain.file.util;
+
+import com.jinyverse.backend.config.EtagSupport;
+import com.jinyverse.backend.domain.file.dto.FileStreamSource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 파일 스트리밍 응답 (다운로드/썸네일 공용).
+ * 조건부 요청(If-None-Match, If-Modified-Since → 304), Range/If-Range(→ 206, 416)를 직접 처리하고,
+ * 본문은 힙 버퍼 복사 없이 Tomcat sendfile 또는 FileChannel.transferTo로 내보낸다
+ * (메모리 캐시 본문은 direct 버퍼에서 바로 쓴다).
+ * 다중 구간(Range: bytes=0-1,5-9)은 지원하지 않고 전체(200)로 응답한다.
+ * gzip으로 압축 저장된 파일은 Content-Encoding: gzip으로 그대로 보내거나(Range는 압축된 바이트 기준),
+ * gzip을 받지 못하는 클라이언트에는 풀면서 보낸다(Range 미지원). 두 경우 모두 Vary: Accept-Encoding.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileStreamWriter {
+
+    /** Tomcat NIO 커넥터가 sendfile을 지원하면 요청 속성으로 알려준다 */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** 접근 권한이 게시글 공개 여부에 따라 바뀌므로 브라우저에만 저장하고 매번 재검증 */
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private static final String X_ACCEL_REDIRECT = "X-Accel-Redirect";
+
+    private static final int DECODE_BUFFER_SIZE = 64 * 1024;
+
+    /** parseRange 결과: 요청 구간이 파일 범위를 벗어남 (416) */
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final EtagSupport etagSupport;
+
+    public void write(FileStreamSource source, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        long length = source.getLength();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, source.isDecodeGzip() ? "none" : "bytes");
+        if (source.getContentEncoding() != null || source.isDecodeGzip()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setHeader(HttpHeaders.ETAG, source.getEtag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, source.getLastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(source));
+
+        if (isNotModified(source, request)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long[] range = !source.isDecodeGzip() && isRangeApplicable(source, request)
+                ? parseRange(request.getHeader(HttpHeaders.RANGE), length)
+                : null;
+        if (range == UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+
+        long start = range != null ? range[0] : 0;
+        long count = range != null ? range[1] - range[0] + 1 : length;
+        response.setContentType(source.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, source.getContentDisposition());
+        if (source.getContentEncoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, source.getContentEncoding());
+        }
+        if (range != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range[0] + "-" + range[1] + "/" + length);
+        } else {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+        response.setContentLengthLong(count);
+
+        if (count == 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+        transfer(source, start, count, request, response);
+    }
+
+    /**
+     * nginx 오프로드: 본문 없이 X-Accel-Redirect만 응답하면 nginx가 internal location에서 파일을 직접 전송한다.
+     * Range/If-Range/ETag/Last-Modified는 nginx가 처리하며, Content-Type/Content-Disposition/Cache-Control은 그대로 전달된다.
+     */
+    public void writeAccelRedirect(FileStreamSource source, String prefix, HttpServletResponse response) {
+        String base = prefix.endsWith("/") ? prefix : prefix + "/";
+        String relative = source.getRelativePath().startsWith("/")
+                ? source.getRelativePath().substring(1)
+                : source.getRelativePath();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(source.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, source.getContentDisposition());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(source));
+        response.setHeader(X_ACCEL_REDIRECT, base + UriUtils.encodePath(relative, StandardCharsets.UTF_8));
+    }
+
+    private static String cacheControl(FileStreamSource source) {
+        return source.getCacheControl() != null ? source.getCacheControl() : CACHE_CONTROL;
+    }
+
+    private void transfer(FileStreamSource source, long start, long count,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (source.getBody() != null) {
+            source.getBody().writeTo(Channels.newChannel(response.getOutputStream()), start, count);
+            return;
+        }
+        if (source.isDecodeGzip()) {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(source.getPath()), DECODE_BUFFER_SIZE)) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 컨트롤러 반환 후 Tomcat이 커널 sendfile로 전송 (end는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME, source.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(source.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    throw new IOException("File truncated while streaming: " + source.getPath());
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (RFC 9110 12.5.3). gzip/x-gzip의 q가 우선이고,
+     * 명시가 없으면 *의 q를 따른다. 헤더가 없으면 false (원본 그대로 받는 것으로 본다).
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        Double gzip = null;
+        Double any = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        if (gzip != null) return gzip > 0;
+        return any != null && any > 0;
+    }
+
+    /** If-None-Match 우선, 없을 때만 If-Modified-Since (RFC 9110 13.2.2) */
+    private boolean isNotModified(FileStreamSource source, HttpServletRequest request) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return etagSupport.matches(ifNoneMatch, source.getEtag());
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && source.getLastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /** If-Range가 없거나 현재 표현과 일치할 때만 Range 적용. ETag는 강한 비교, 날짜는 초 단위 일치. */
+    private boolean isRangeApplicable(FileStreamSource source, HttpServletRequest request) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(source.getEtag());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && date / 1000 == source.getLastModified() / 1000;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 단일 구간 Range 파싱. 반환값: {start, end(inclusive)}, 범위 밖이면 UNSATISFIABLE,
+     * 헤더가 없거나 형식이 잘못됐거나 다중 구간이면 null(전체 응답).
+     */
+    static long[] parseRange(String header, long length) {
+        if (header == null || !header.startsWith("bytes=")) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        if (spec.contains(",")) {
+            return null;
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[] { Math.max(length - suffix, 0), length - 1 };
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[] { start, Math.min(end, length - 1) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.jinyverse.backend.domain.file.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 원본 스트림을 읽는 대로 gzip으로 압축해 내주는 입력 스트림.
+ * FileStorage.save(InputStream)에 그대로 넘겨 저장하면서 압축하기 위해 쓴다 (임시 파일/스레드 없음).
+ * 한 번에 버퍼 하나 분량만 압축하므로 메모리는 원본 크기와 무관하다.
+ */
+public class GzipCompressingInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream source;
+    private final byte[] readBuffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream(BUFFER_SIZE);
+    private final GZIPOutputStream gzip;
+
+    private byte[] pending = new byte[0];
+    private int position;
+    private boolean finished;
+
+    public GzipCompressingInputStream(InputStream source) throws IOException {
+        this.source = source;
+        this.gzip = new GZIPOutputStream(sink, BUFFER_SIZE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = read(one, 0, 1);
+        return n < 0 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        while (position >= pending.length) {
+            if (finished) return -1;
+            fill();
+        }
+        int n = Math.min(len, pending.length - position);
+        System.arraycopy(pending, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    /** 원본을 버퍼 하나만큼 읽어 압축한다. 압축기가 아직 내놓은 출력이 없으면 pending은 비어 있을 수 있다. */
+    private void fill() throws IOException {
+        int n = source.read(readBuffer);
+        if (n < 0) {
+            gzip.finish();
+            finished = true;
+        } else {
+            gzip.write(readBuffer, 0, n);
+        }
+        // 생성자에서 쓴 gzip 헤더도 첫 fill에서 함께 나간다
+        pending = sink.toByteArray();
+        sink.reset();
+        position = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            source.close();
+        } finally {
+            gzip.close();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.jinyverse.backend.domain.file.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * 이미지 로딩 전 자리표시용 값 계산 (대표 색, BlurHash).
+ * 썸네일처럼 이미 축소된 이미지를 입력으로 받으며, 내부에서 다시 작은 샘플로 줄여 계산하므로 비용이 작다.
+ * BlurHash 인코딩은 https://github.com/woltapp/blurhash 의 규칙을 따른다 (클라이언트 디코더와 호환).
+ */
+public final class ImagePlaceholders {
+
+    /** 계산용 샘플의 긴 변 (BlurHash 4x3 성분에는 충분) */
+    private static final int SAMPLE_SIZE = 64;
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private ImagePlaceholders() {
+    }
+
+    /** 이미지 비율에 맞춘 BlurHash 성분 수 (가로, 세로) */
+    public static int[] components(int width, int height) {
+        return width >= height ? new int[] {4, 3} : new int[] {3, 4};
+    }
+
+    /**
+     * 가장 넓은 면적을 차지하는 색 (#rrggbb).
+     * 채널당 4비트로 묶은 히스토그램에서 최빈 구간을 고르고, 그 구간에 속한 픽셀의 평균 색을 반환한다.
+     */
+    public static String dominantColor(BufferedImage image) {
+        BufferedImage sample = sample(image);
+        int[] counts = new int[4096];
+        long[] sums = new long[4096 * 3];
+        for (int y = 0; y < sample.getHeight(); y++) {
+            for (int x = 0; x < sample.getWidth(); x++) {
+                int rgb = sample.getRGB(x, y);
+                int r = (rgb >> 16) & 0xff;
+                int g = (rgb >> 8) & 0xff;
+                int b = rgb & 0xff;
+                int bucket = (r >> 4) << 8 | (g >> 4) << 4 | (b >> 4);
+                counts[bucket]++;
+                sums[bucket * 3] += r;
+                sums[bucket * 3 + 1] += g;
+                sums[bucket * 3 + 2] += b;
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[best]) best = i;
+        }
+        int n = Math.max(1, counts[best]);
+        return String.format("#%02x%02x%02x", sums[best * 3] / n, sums[best * 3 + 1] / n, sums[best * 3 + 2] / n);
+    }
+
+    /** BlurHash 문자열. 성분 수는 1~9 */
+    public static String blurHash(BufferedImage image, int componentsX, int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("BlurHash components must be between 1 and 9");
+        }
+        BufferedImage sample = sample(image);
+        int width = sample.getWidth();
+        int height = sample.getHeight();
+        float[][] linear = new float[width * height][3];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = sample.getRGB(x, y);
+                float[] px = linear[y * width + x];
+                px[0] = srgbToLinear((rgb >> 16) & 0xff);
+                px[1] = srgbToLinear((rgb >> 8) & 0xff);
+                px[2] = srgbToLinear(rgb & 0xff);
+            }
+        }
+
+        double[][] factors = new double[componentsX * componentsY][];
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                double normalisation = i == 0 && j == 0 ? 1 : 2;
+                double r = 0;
+                double g = 0;
+                double b = 0;
+                for (int y = 0; y < height; y++) {
+                    double basisY = Math.cos(Math.PI * j * y / height);
+                    for (int x = 0; x < width; x++) {
+                        double basis = Math.cos(Math.PI * i * x / width) * basisY;
+                        float[] px = linear[y * width + x];
+                        r += basis * px[0];
+                        g += basis * px[1];
+                        b += basis * px[2];
+                    }
+                }
+                double scale = normalisation / (width * height);
+                factors[j * componentsX + i] = new double[] {r * scale, g * scale, b * scale};
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encode83((componentsX - 1) + (componentsY - 1) * 9, 1, hash);
+
+        double maximumValue;
+        if (factors.length > 1) {
+            double actualMax = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double v : factors[k]) actualMax = Math.max(actualMax, Math.abs(v));
+            }
+            int quantisedMax = (int) Math.max(0, Math.min(82, Math.floor(actualMax * 166 - 0.5)));
+            maximumValue = (quantisedMax + 1) / 166.0;
+            encode83(quantisedMax, 1, hash);
+        } else {
+            maximumValue = 1;
+            encode83(0, 1, hash);
+        }
+
+        double[] dc = factors[0];
+        encode83((linearToSrgb(dc[0]) << 16) + (linearToSrgb(dc[1]) << 8) + linearToSrgb(dc[2]), 4, hash);
+        for (int k = 1; k < factors.length; k++) {
+            double[] ac = factors[k];
+            int value = quantiseAc(ac[0], maximumValue) * 19 * 19
+                    + quantiseAc(ac[1], maximumValue) * 19
+                    + quantiseAc(ac[2], maximumValue);
+            encode83(value, 2, hash);
+        }
+        return hash.toString();
+    }
+
+    /** 긴 변이 SAMPLE_SIZE 이하가 되도록 축소 (이미 작으면 그대로) */
+    private static BufferedImage sample(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width <= SAMPLE_SIZE && height <= SAMPLE_SIZE) {
+            return image;
+        }
+        double ratio = (double) SAMPLE_SIZE / Math.max(width, height);
+        int w = Math.max(1, (int) Math.round(width * ratio));
+        int h = Math.max(1, (int) Math.round(height * ratio));
+        BufferedImage scaled = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, w, h, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static int quantiseAc(double value, double maximumValue) {
+        double v = value / maximumValue;
+        double signed = Math.copySign(Math.sqrt(Math.abs(v)), v);
+        return (int) Math.max(0, Math.min(18, Math.floor(signed * 9 + 9.5)));
+    }
+
+    private static float srgbToLinear(int value) {
+        float v = value / 255f;
+        return v <= 0.04045f ? v / 12.92f : (float) Math.pow((v + 0.055f) / 1.055f, 2.4);
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void encode83(int value, int length, StringBuilder out) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / (int) Math.pow(83, length - i)) % 83;
+            out.append(BASE83.charAt(digit));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.jinyverse.backend.domain.file.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 가능한 이미지 변형(너비 × 형식) 허용 목록과 저장 경로 규칙.
+ * 변형은 썸네일과 같은 {originalDir}/_thumb/ 아래 {stem}_w{width}.{ext} 로 저장된다.
+ * 목록 밖의 값은 받지 않으므로 변형 파일 수는 원본당 WIDTHS × FORMATS 개로 제한된다.
+ */
+public final class ImageVariants {
+
+    public static final List<Integer> WIDTHS = List.of(160, 320, 640, 1280, 1920);
+
+    /** 요청 형식 → 파일 확장자 */
+    private static final Map<String, String> FORMATS = Map.of(
+            "jpeg", "jpg",
+            "webp", "webp");
+
+    public static final String DEFAULT_FORMAT = "jpeg";
+
+    private ImageVariants() {
+    }
+
+    public static boolean isAllowedWidth(int width) {
+        return WIDTHS.contains(width);
+    }
+
+    /** 허용된 형식이면 정규화한 이름(jpeg/webp), 아니면 null. jpg는 jpeg로 취급 */
+    public static String normalizeFormat(String format) {
+        if (format == null || format.isBlank()) return DEFAULT_FORMAT;
+        String f = format.trim().toLowerCase(Locale.ROOT);
+        if ("jpg".equals(f)) f = "jpeg";
+        return FORMATS.containsKey(f) ? f : null;
+    }
+
+    public static String contentType(String format) {
+        return "image/" + format;
+    }
+
+    /** "2025/03/15/uuid.png", 640, "webp" → "2025/03/15/_thumb/uuid_w640.webp" */
+    public static String relativePath(String originalRelativePath, int width, String format) {
+        int lastSlash = originalRelativePath.lastIndexOf('/');
+        String dir = lastSlash >= 0 ? originalRelativePath.substring(0, lastSlash + 1) : "";
+        String filename = lastSlash >= 0 ? originalRelativePath.substring(lastSlash + 1) : originalRelativePath;
+        int dot = filename.lastIndexOf('.');
+        String stem = dot > 0 ? filename.substring(0, dot) : filename;
+        return dir + "_thumb/" + stem + "_w" + width + "." + FORMATS.get(format);
+    }
+
+    /** 원본 하나에 대해 생길 수 있는 모든 변형 경로 (원본 삭제 시 정리용) */
+    public static List<String> allRelativePaths(String originalRelativePath) {
+        List<String> paths = new ArrayList<>(WIDTHS.size() * FORMATS.size());
+        for (int width : WIDTHS) {
+            for (String format : FORMATS.keySet()) {
+                paths.add(relativePath(originalRelativePath, width, format));
+            }
+        }
+        return paths;
+    }
+}
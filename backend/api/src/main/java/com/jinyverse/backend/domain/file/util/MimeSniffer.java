@@ -0,0 +1,94 @@
+package com.jinyverse.backend.domain.file.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 업로드 스트림 앞부분(매직 넘버)으로 실제 형식을 판별한다.
+ * 클라이언트가 보낸 Content-Type은 신뢰하지 않고, 판별 결과와 다르면 판별 결과를 우선한다.
+ */
+public final class MimeSniffer {
+
+    /** 판별에 필요한 최대 선두 바이트 수 (PE 서명은 보통 e_lfanew 0x80~0x200 위치) */
+    public static final int HEAD_BYTES = 1024;
+
+    /** MZ 헤더 안의 PE 헤더 오프셋(e_lfanew) 위치 */
+    private static final int PE_OFFSET_FIELD = 0x3C;
+
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    /** 선언 형식과 무관하게 그대로 노출해 업로드 검증에서 차단되도록 하는 형식 */
+    private static final Set<String> EXECUTABLE_TYPES = Set.of(
+            "application/x-msdownload", "application/x-executable", "application/x-mach-binary", "text/x-shellscript");
+
+    private MimeSniffer() {
+    }
+
+    /** 선두 바이트로 판별한 MIME 타입. 알 수 없으면 null */
+    public static String sniff(byte[] head) {
+        if (head == null) return null;
+        if (startsWith(head, 0xFF, 0xD8, 0xFF)) return "image/jpeg";
+        if (startsWith(head, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return "image/png";
+        if (startsWith(head, 'G', 'I', 'F', '8')) return "image/gif";
+        if (startsWith(head, 'R', 'I', 'F', 'F') && matchesAt(head, 8, "WEBP")) return "image/webp";
+        if (matchesAt(head, 4, "ftyp")) {
+            return matchesAt(head, 8, "avif") ? "image/avif"
+                    : matchesAt(head, 8, "heic") ? "image/heic"
+                    : "video/mp4";
+        }
+        if (startsWith(head, '%', 'P', 'D', 'F', '-')) return "application/pdf";
+        if (startsWith(head, 'P', 'K', 0x03, 0x04)) return "application/zip";
+        if (startsWith(head, 0x1F, 0x8B)) return "application/gzip";
+        if (isPortableExecutable(head)) return "application/x-msdownload";
+        if (startsWith(head, 0x7F, 'E', 'L', 'F')) return "application/x-executable";
+        if (startsWith(head, 0xCF, 0xFA, 0xED, 0xFE) || startsWith(head, 0xFE, 0xED, 0xFA, 0xCF)) {
+            return "application/x-mach-binary";
+        }
+        if (startsWith(head, '#', '!', '/')) return "text/x-shellscript";
+        return null;
+    }
+
+    /**
+     * 저장할 MIME 타입 결정. 선언도 없고 판별도 안 되면 null.
+     * 선언이 없거나 octet-stream이면 판별 결과, 실행 파일은 항상 판별 결과,
+     * 이미지로 선언했는데 내용이 다르면 판별 결과를 사용한다.
+     * 그 외(docx 등 zip 기반 문서, 텍스트류)는 판별 결과가 더 일반적이므로 선언을 유지한다.
+     */
+    public static String resolve(byte[] head, String declared) {
+        String sniffed = sniff(head);
+        String normalized = declared != null ? declared.trim().toLowerCase(Locale.ROOT) : "";
+        if (normalized.isEmpty()) return sniffed;
+        if (OCTET_STREAM.equals(normalized)) return sniffed != null ? sniffed : declared;
+        if (sniffed == null) return declared;
+        if (EXECUTABLE_TYPES.contains(sniffed)) return sniffed;
+        if (normalized.startsWith("image/") && !normalized.equals(sniffed)) return sniffed;
+        return declared;
+    }
+
+    /** "MZ"만으로는 같은 글자로 시작하는 텍스트/CSV와 구분되지 않으므로 e_lfanew가 가리키는 PE\0\0 서명까지 확인 */
+    private static boolean isPortableExecutable(byte[] head) {
+        if (!startsWith(head, 'M', 'Z') || head.length < PE_OFFSET_FIELD + 4) return false;
+        int peOffset = ByteBuffer.wrap(head).order(ByteOrder.LITTLE_ENDIAN).getInt(PE_OFFSET_FIELD);
+        return peOffset >= PE_OFFSET_FIELD + 4 && matchesAt(head, peOffset, "PE\0\0");
+    }
+
+    private static boolean startsWith(byte[] head, int... signature) {
+        if (head.length < signature.length) return false;
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[i] & 0xFF) != signature[i]) return false;
+        }
+        return true;
+    }
+
+    private static boolean matchesAt(byte[] head, int offset, String ascii) {
+        byte[] expected = ascii.getBytes(StandardCharsets.US_ASCII);
+        if (head.length < offset + expected.length) return false;
+        for (int i = 0; i < expected.length; i++) {
+            if (head[offset + i] != expected[i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.jinyverse.backend.domain.file.util;
+
+import com.jinyverse.backend.exception.BadRequestException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * multipart/form-data 요청을 스트리밍으로 파싱한다.
+ * 파일 파트를 /tmp 등에 먼저 쓰지 않고 요청 본문에서 바로 읽어 handler에 넘기므로
+ * 저장소에는 한 번만 기록된다. 파일 파트보다 앞에 온 일반 필드만 handler에 전달된다.
+ * (Spring 멀티파트 처리는 spring.servlet.multipart.enabled=false 로 꺼져 있어야 본문이 남아 있다.)
+ */
+@Component
+public class MultipartUploadReader {
+
+    /** 일반 필드 최대 길이 (sessionId 등 짧은 값만 사용) */
+    private static final int MAX_FIELD_BYTES = 1024;
+
+    private DataSize maxFileSize;
+
+    private DataSize maxRequestSize;
+
+    @Value("${app.file.upload.max-file-size:20MB}")
+    void setMaxFileSize(DataSize maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    @Value("${app.file.upload.max-request-size:20MB}")
+    void setMaxRequestSize(DataSize maxRequestSize) {
+        this.maxRequestSize = maxRequestSize;
+    }
+
+    @FunctionalInterface
+    public interface FilePartHandler<T> {
+        T handle(Map<String, String> fields, String filename, String contentType, InputStream content)
+                throws IOException;
+    }
+
+    /**
+     * fileField 이름의 첫 파일 파트를 handler로 처리한다. 한도를 넘으면 읽는 도중 FileUploadSizeException.
+     */
+    public <T> T read(HttpServletRequest request, String fileField, FilePartHandler<T> handler) throws IOException {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new BadRequestException("MULTIPART_REQUIRED", "multipart/form-data 요청이어야 합니다.");
+        }
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setFileSizeMax(maxFileSize.toBytes());
+        upload.setSizeMax(maxRequestSize.toBytes());
+        upload.setHeaderCharset(StandardCharsets.UTF_8);
+
+        Map<String, String> fields = new HashMap<>();
+        FileItemInputIterator items = upload.getItemIterator(request);
+        while (items.hasNext()) {
+            FileItemInput item = items.next();
+            if (item.isFormField()) {
+                try (InputStream in = item.getInputStream()) {
+                    fields.put(item.getFieldName(), new String(in.readNBytes(MAX_FIELD_BYTES), StandardCharsets.UTF_8));
+                }
+            } else if (fileField.equals(item.getFieldName())) {
+                try (InputStream in = item.getInputStream()) {
+                    return handler.handle(fields, item.getName(), item.getContentType(), in);
+                }
+            }
+        }
+        throw new BadRequestException("FILE_REQUIRED", "업로드할 파일이 없습니다.");
+    }
+}
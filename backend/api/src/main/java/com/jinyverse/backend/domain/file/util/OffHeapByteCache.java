@@ -0,0 +1,407 @@
+package com.jinyverse.backend.domain.file.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 힙 밖(direct ByteBuffer) 슬랩에 파일 내용을 담는 크기 제한 캐시.
+ * 슬랩은 기동 시 한 번 할당해 고정 크기 페이지로 나눠 쓰고, 힙에는 항목별 페이지 번호와 검증자만 남는다.
+ * 교체는 LRU, 새 항목은 최근 요청 빈도(TinyLFU 스케치)가 밀려날 항목보다 높을 때만 들어온다.
+ * 읽기는 {@link Lease}로 참조를 잡으므로 전송 중 교체/무효화되어도 페이지는 Lease를 닫을 때 반환된다.
+ */
+public final class OffHeapByteCache<K> {
+
+    /** direct ByteBuffer 하나의 최대 크기 */
+    private static final int MAX_SLAB_BYTES = 64 * 1024 * 1024;
+
+    private final int pageSize;
+    private final int pagesPerSlab;
+    private final int totalPages;
+    private final int maxEntryBytes;
+    private final ByteBuffer[] slabs;
+
+    /** 빈 페이지 번호 스택 */
+    private final int[] freePages;
+    private int freeTop;
+
+    /** 접근 순서 LinkedHashMap: 첫 항목이 가장 오래 사용되지 않은 항목 */
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** 무효화마다 증가. 읽는 도중 무효화가 있었다면 읽은 내용을 넣지 않는다. */
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public record Stats(long capacityBytes, long usedBytes, int entries, long hits, long misses,
+                        long loads, long evictions, long rejections) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private static final class Entry {
+        private final int[] pages;
+        private final int length;
+        private final String etag;
+        private final long lastModified;
+        private final String tag;
+        /** 캐시 자신이 1, Lease마다 1 */
+        private final AtomicInteger refs = new AtomicInteger(1);
+
+        private Entry(int[] pages, int length, String etag, long lastModified, String tag) {
+            this.pages = pages;
+            this.length = length;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * @param capacityBytes 슬랩 전체 크기 (페이지 크기 단위로 내림)
+     * @param pageSize      페이지 크기. 항목 하나는 ceil(length / pageSize) 페이지를 차지한다
+     * @param maxEntryBytes 이보다 큰 내용은 캐시하지 않는다
+     */
+    public OffHeapByteCache(long capacityBytes, int pageSize, int maxEntryBytes) {
+        if (pageSize <= 0 || capacityBytes < pageSize) {
+            throw new IllegalArgumentException("capacity must hold at least one page");
+        }
+        this.pageSize = pageSize;
+        this.maxEntryBytes = maxEntryBytes;
+        this.pagesPerSlab = Math.max(1, MAX_SLAB_BYTES / pageSize);
+        long pages = capacityBytes / pageSize;
+        if (pages > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("capacity too large: " + capacityBytes);
+        }
+        this.totalPages = (int) pages;
+
+        int slabCount = (totalPages + pagesPerSlab - 1) / pagesPerSlab;
+        this.slabs = new ByteBuffer[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            int slabPages = Math.min(pagesPerSlab, totalPages - i * pagesPerSlab);
+            slabs[i] = ByteBuffer.allocateDirect(slabPages * pageSize);
+        }
+
+        this.freePages = new int[totalPages];
+        for (int i = 0; i < totalPages; i++) {
+            freePages[i] = totalPages - 1 - i;
+        }
+        this.freeTop = totalPages;
+        this.sketch = new FrequencySketch(Math.max(64, totalPages));
+    }
+
+    /** 캐시된 내용이 있으면 Lease를 반환한다 (사용 후 반드시 close). 없으면 null. */
+    public Lease get(K key) {
+        lock.lock();
+        try {
+            sketch.increment(key);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            // 맵에 있는 항목은 캐시 참조(1)를 가지고 있으므로 0이 될 수 없다
+            entry.refs.incrementAndGet();
+            hits.increment();
+            return new Lease(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 파일을 읽기 전에 받아 두고 {@link #put}에 넘긴다. */
+    public long stamp() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 파일 내용을 페이지로 직접 읽어 넣는다 (힙 버퍼를 거치지 않음).
+     * 너무 크거나, 자리를 만들려면 더 자주 쓰이는 항목을 내보내야 하면 넣지 않고 false.
+     *
+     * @param tag 같은 태그의 항목을 한 번에 무효화할 때 쓰는 값 (예: 저장 경로)
+     */
+    public boolean put(K key, Path path, long length, String etag, long lastModified, String tag, long stamp)
+            throws IOException {
+        if (length <= 0 || length > maxEntryBytes) {
+            rejections.increment();
+            return false;
+        }
+        int[] pages = allocate(key, (int) ((length + pageSize - 1) / pageSize));
+        if (pages == null) {
+            rejections.increment();
+            return false;
+        }
+
+        boolean inserted = false;
+        try {
+            readInto(path, pages, (int) length);
+            lock.lock();
+            try {
+                if (generation == stamp && !entries.containsKey(key)) {
+                    entries.put(key, new Entry(pages, (int) length, etag, lastModified, tag));
+                    inserted = true;
+                    loads.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            if (!inserted) {
+                freePages(pages);
+            }
+        }
+        return inserted;
+    }
+
+    public void invalidate(K key) {
+        Entry removed;
+        lock.lock();
+        try {
+            generation++;
+            removed = entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+        if (removed != null) {
+            release(removed);
+        }
+    }
+
+    public void invalidateTag(String tag) {
+        if (tag == null) return;
+        List<Entry> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            generation++;
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (tag.equals(entry.tag)) {
+                    it.remove();
+                    removed.add(entry);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        removed.forEach(this::release);
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats((long) totalPages * pageSize, (long) (totalPages - freeTop) * pageSize,
+                    entries.size(), hits.sum(), misses.sum(), loads.sum(), evictions.sum(), rejections.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 빈 페이지가 모자라면 LRU 순으로 내보낸다. 후보보다 자주 쓰인 항목을 내보내야 하면 포기(null). */
+    private int[] allocate(K key, int needed) {
+        List<Entry> victims = new ArrayList<>();
+        int[] pages = null;
+        lock.lock();
+        try {
+            if (entries.containsKey(key)) {
+                return null;
+            }
+            int candidateFrequency = sketch.frequency(key);
+            // 전송 중인 항목은 내보내도 페이지가 바로 돌아오지 않으므로 페이지 수로 따진다
+            int reclaimable = freeTop;
+            Iterator<Map.Entry<K, Entry>> it = entries.entrySet().iterator();
+            while (reclaimable < needed && it.hasNext()) {
+                Map.Entry<K, Entry> eldest = it.next();
+                if (sketch.frequency(eldest.getKey()) >= candidateFrequency) {
+                    break;
+                }
+                it.remove();
+                victims.add(eldest.getValue());
+                evictions.increment();
+                if (eldest.getValue().refs.get() == 1) {
+                    reclaimable += eldest.getValue().pages.length;
+                }
+            }
+            victims.forEach(this::release);
+            if (freeTop >= needed) {
+                pages = new int[needed];
+                for (int i = 0; i < needed; i++) {
+                    pages[i] = freePages[--freeTop];
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return pages;
+    }
+
+    private void readInto(Path path, int[] pages, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int remaining = length;
+            for (int page : pages) {
+                ByteBuffer view = pageView(page, Math.min(pageSize, remaining));
+                while (view.hasRemaining()) {
+                    if (channel.read(view) < 0) {
+                        throw new IOException("File shorter than expected: " + path);
+                    }
+                }
+                remaining -= pageSize;
+            }
+        }
+    }
+
+    /** 페이지 하나를 가리키는 독립 뷰 (슬랩의 position/limit을 공유하지 않음) */
+    private ByteBuffer pageView(int page, int length) {
+        int offset = (page % pagesPerSlab) * pageSize;
+        ByteBuffer view = slabs[page / pagesPerSlab].duplicate();
+        view.limit(offset + length).position(offset);
+        return view;
+    }
+
+    private void release(Entry entry) {
+        if (entry.refs.decrementAndGet() == 0) {
+            freePages(entry.pages);
+        }
+    }
+
+    private void freePages(int[] pages) {
+        lock.lock();
+        try {
+            for (int page : pages) {
+                freePages[freeTop++] = page;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 캐시된 내용 하나에 대한 읽기 참조. 닫기 전까지 페이지가 재사용되지 않는다. */
+    public final class Lease implements AutoCloseable {
+
+        private final Entry entry;
+        private boolean closed;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public int length() {
+            return entry.length;
+        }
+
+        public String etag() {
+            return entry.etag;
+        }
+
+        public long lastModified() {
+            return entry.lastModified;
+        }
+
+        /** [start, start + count) 구간을 out으로 쓴다. 페이지에서 바로 쓰며 힙으로 복사하지 않는다. */
+        public void writeTo(WritableByteChannel out, long start, long count) throws IOException {
+            if (start < 0 || count < 0 || start + count > entry.length) {
+                throw new IndexOutOfBoundsException("range " + start + "+" + count + " of " + entry.length);
+            }
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                int index = (int) (position / pageSize);
+                int offset = (int) (position % pageSize);
+                int n = (int) Math.min(pageSize - offset, remaining);
+                ByteBuffer view = pageView(entry.pages[index], offset + n);
+                view.position(view.position() + offset);
+                while (view.hasRemaining()) {
+                    out.write(view);
+                }
+                position += n;
+                remaining -= n;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+
+    /**
+     * 최근 요청 빈도 추정 (4-way count-min, 카운터 최대 15).
+     * 증가 횟수가 표 크기의 10배가 되면 전체를 절반으로 줄여 오래된 인기도를 잊는다. lock 안에서만 사용.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97cb3127, 0xb71c8e8f, 0x4fd5b4f1, 0xe58b7f2d};
+
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int expectedEntries) {
+            int size = Integer.highestOneBit(Math.min(expectedEntries, 1 << 24) * 4 - 1) << 1;
+            this.table = new byte[size];
+            this.mask = size - 1;
+            this.sampleSize = size * 10;
+        }
+
+        private void increment(Object key) {
+            int hash = key.hashCode();
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int index = index(hash, seed);
+                if (table[index] < 15) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int frequency(Object key) {
+            int hash = key.hashCode();
+            int min = 15;
+            for (int seed : SEEDS) {
+                min = Math.min(min, table[index(hash, seed)]);
+            }
+            return min;
+        }
+
+        private int index(int hash, int seed) {
+            int h = (hash ^ seed) * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
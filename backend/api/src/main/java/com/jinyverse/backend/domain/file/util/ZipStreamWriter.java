@@ -0,0 +1,122 @@
+package com.jinyverse.backend.domain.file.util;
+
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여러 저장 파일을 ZIP 하나로 묶어 응답에 바로 스트리밍한다 (임시 파일 없음, 메모리는 버퍼 하나).
+ * 이미 압축된 형식(이미지/동영상/음성/압축 파일)은 STORED로 담아 재압축 CPU를 쓰지 않고,
+ * 나머지만 빠른 수준으로 DEFLATE 한다. STORED 항목은 헤더에 CRC가 필요하므로 CRC를 먼저 한 번 읽어 계산한다.
+ * gzip으로 압축 저장된 파일은 풀면서 담는다 (압축 저장 대상은 COMPRESSED_TYPES와 겹치지 않아 DEFLATE 항목만 해당).
+ * 저장소에 없는 파일은 이미 응답을 시작했으므로 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZipStreamWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<String> COMPRESSED_TYPES = Set.of(
+            "image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp", "image/avif", "image/heic",
+            "application/zip", "application/gzip", "application/x-gzip", "application/x-7z-compressed",
+            "application/x-rar-compressed", "application/vnd.rar", "application/zstd");
+
+    private final FileStorage fileStorage;
+
+    /**
+     * @param name     ZIP 안의 파일명 (중복이면 "name (1).ext" 식으로 바꾼다)
+     * @param filePath 저장소 상대 경로
+     * @param contentEncoding 저장 인코딩 (gzip 또는 null)
+     */
+    public record Entry(String name, String filePath, String mimeType, String contentEncoding) {
+    }
+
+    public void write(List<Entry> entries, String filename, HttpServletResponse response) throws IOException {
+        String encoded = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encoded);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-store");
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        Set<String> usedNames = new HashSet<>();
+        try (ZipOutputStream zip = new ZipOutputStream(response.getOutputStream(), StandardCharsets.UTF_8)) {
+            zip.setLevel(Deflater.BEST_SPEED);
+            for (Entry entry : entries) {
+                Resource resource = fileStorage.getResource(entry.filePath());
+                if (resource == null || !resource.exists()) {
+                    log.warn("ZipStreamWriter: 저장소에 파일 없음, 건너뜀 {}", entry.filePath());
+                    continue;
+                }
+                ZipEntry zipEntry = new ZipEntry(uniqueName(entry.name(), usedNames));
+                if (isCompressed(entry.mimeType())) {
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    CRC32 crc = new CRC32();
+                    long size = 0;
+                    try (InputStream in = open(resource, entry)) {
+                        int n;
+                        while ((n = in.read(buffer)) > 0) {
+                            crc.update(buffer, 0, n);
+                            size += n;
+                        }
+                    }
+                    zipEntry.setSize(size);
+                    zipEntry.setCompressedSize(size);
+                    zipEntry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(zipEntry);
+                try (InputStream in = open(resource, entry)) {
+                    int n;
+                    while ((n = in.read(buffer)) > 0) {
+                        zip.write(buffer, 0, n);
+                    }
+                }
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private static InputStream open(Resource resource, Entry entry) throws IOException {
+        InputStream in = resource.getInputStream();
+        return "gzip".equals(entry.contentEncoding()) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    static boolean isCompressed(String mimeType) {
+        if (mimeType == null) return false;
+        String type = mimeType.toLowerCase(Locale.ROOT);
+        return COMPRESSED_TYPES.contains(type) || type.startsWith("video/") || type.startsWith("audio/");
+    }
+
+    /** 경로 구분자를 없애고, 이미 쓴 이름이면 확장자 앞에 " (n)"을 붙인다 */
+    static String uniqueName(String name, Set<String> usedNames) {
+        String safe = name == null || name.isBlank() ? "file" : name.replaceAll("[\\\\/]", "_");
+        String candidate = safe;
+        int dot = safe.lastIndexOf('.');
+        String stem = dot > 0 ? safe.substring(0, dot) : safe;
+        String ext = dot > 0 ? safe.substring(dot) : "";
+        for (int i = 1; !usedNames.add(candidate.toLowerCase(Locale.ROOT)); i++) {
+            candidate = stem + " (" + i + ")" + ext;
+        }
+        return candidate;
+    }
+}
@@ -1,10 +1,13 @@
 package com.jinyverse.backend.domain.landing.controller;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.landing.dto.LandingSectionResponseDto;
 import com.jinyverse.backend.domain.landing.service.LandingSectionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,10 +19,13 @@ import java.util.List;
 public class LandingSectionController {
 
     private final LandingSectionService landingSectionService;
+    private final EtagSupport etagSupport;
 
     /** 공개 API: 활성 섹션 목록 (CTA 포함) */
     @GetMapping("/sections")
-    public ResponseEntity<List<LandingSectionResponseDto>> getActiveSections() {
-        return ResponseEntity.ok(landingSectionService.getActiveSections());
+    public ResponseEntity<List<LandingSectionResponseDto>> getActiveSections(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = landingSectionService.getActiveSectionsEtag();
+        return etagSupport.respond(ifNoneMatch, etag, landingSectionService::getActiveSections);
     }
 }
@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.landing.service;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.file.repository.CommonFileRepository;
 import com.jinyverse.backend.domain.landing.dto.LandingCtaResponseDto;
 import com.jinyverse.backend.domain.landing.dto.LandingSectionRequestDto;
@@ -28,6 +29,7 @@ public class LandingSectionService {
     private final CommonFileRepository commonFileRepository;
     private final LandingSectionRepository sectionRepository;
     private final LandingSectionFileRepository sectionFileRepository;
+    private final EtagSupport etagSupport;
 
     /** 공개 API: 활성화된 섹션 목록 (CTA 포함) */
     public List<LandingSectionResponseDto> getActiveSections() {
@@ -42,6 +44,14 @@ public class LandingSectionService {
                 .toList();
     }
 
+    /**
+     * 공개 섹션 목록 ETag: 섹션/CTA 테이블 버전.
+     * 섹션 파일 연결(rel__landing_section_file)에는 updated_at이 없으므로 파일 변경 시 섹션 updated_at을 갱신한다.
+     */
+    public String getActiveSectionsEtag() {
+        return etagSupport.strong("landing-sections", etagSupport.tableVersion("landing_section", "landing_cta"));
+    }
+
     /** 관리자 API: 전체 섹션 목록 (비활성 포함) */
     public List<LandingSectionResponseDto> getAllSections(RequestContext ctx) {
         requireAdmin(ctx);
@@ -96,6 +106,7 @@ public class LandingSectionService {
                 .isMain(isMain)
                 .build();
         sectionFileRepository.save(rel);
+        touch(section);
         commonFileRepository.findById(fileId).ifPresent(file -> {
             if (file.getSessionId() != null) {
                 file.setSessionId(null);
@@ -114,14 +125,15 @@ public class LandingSectionService {
     @Transactional
     public void removeFile(UUID sectionId, UUID fileId, RequestContext ctx) {
         requireAdmin(ctx);
-        findActive(sectionId);
+        LandingSection section = findActive(sectionId);
         sectionFileRepository.deleteBySectionIdAndFileId(sectionId, fileId);
+        touch(section);
     }
 
     @Transactional
     public LandingSectionResponseDto reorderFiles(UUID sectionId, List<UUID> fileIds, RequestContext ctx) {
         requireAdmin(ctx);
-        findActive(sectionId); // validate exists
+        LandingSection section = findActive(sectionId); // validate exists
         List<LandingSectionFile> files = sectionFileRepository.findAllBySectionIdOrderByOrderAsc(sectionId);
         // Build a map from fileId -> entity for quick lookup
         java.util.Map<UUID, LandingSectionFile> fileMap = new java.util.HashMap<>();
@@ -135,6 +147,7 @@ public class LandingSectionService {
             }
         }
         sectionFileRepository.saveAll(files);
+        touch(section);
         LandingSection reloaded = findActive(sectionId);
         List<LandingCtaResponseDto> ctas = reloaded.getCtas().stream()
                 .filter(c -> c.getDeletedAt() == null)
@@ -143,6 +156,12 @@ public class LandingSectionService {
         return reloaded.toResponseDto(ctas);
     }
 
+    /** 파일 연결만 바뀐 경우에도 목록 ETag가 바뀌도록 섹션 수정일시 갱신 */
+    private void touch(LandingSection section) {
+        section.setUpdatedAt(LocalDateTime.now());
+        sectionRepository.save(section);
+    }
+
     private LandingSection findActive(UUID id) {
         return sectionRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new ResourceNotFoundException("LandingSection", id));
@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.menu.controller;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.common.util.RequestContext;
 import com.jinyverse.backend.domain.menu.dto.CreateGroup;
 import com.jinyverse.backend.domain.menu.dto.MenuRequestDto;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +25,7 @@ import java.util.Map;
 public class MenuController {
 
     private final MenuService menuService;
+    private final EtagSupport etagSupport;
 
     @PostMapping
     public ResponseEntity<MenuResponseDto> create(
@@ -35,10 +38,11 @@ public class MenuController {
     public ResponseEntity<Page<MenuResponseDto>> getAll(
             @RequestParam Map<String, Object> filter,
             Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             RequestContext ctx
     ) {
-        Page<MenuResponseDto> responses = menuService.getAll(filter, pageable, ctx);
-        return ResponseEntity.ok(responses);
+        String etag = menuService.getAllEtag(filter, pageable, ctx);
+        return etagSupport.respond(ifNoneMatch, etag, () -> menuService.getAll(filter, pageable, ctx));
     }
 
     @GetMapping("/{code}")
@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.menu.service;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
 import com.jinyverse.backend.domain.common.util.Channel;
 import com.jinyverse.backend.domain.common.util.CommonSpecifications;
@@ -29,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import static com.jinyverse.backend.domain.common.util.CommonSpecifications.PAGINATION_KEYS;
@@ -42,6 +44,7 @@ public class MenuService {
     private final BoardRepository boardRepository;
     private final TopicRepository topicRepository;
     private final AuditLogHelper auditLogHelper;
+    private final EtagSupport etagSupport;
 
     @Transactional
     public MenuResponseDto create(MenuRequestDto requestDto) {
@@ -104,6 +107,12 @@ public class MenuService {
         return menuRepository.findAll(spec(ctx, filter), pageable).map(Menu::toResponseDto);
     }
 
+    /** 목록 ETag: menu 테이블 버전 + 요청 파라미터 + 채널/권한(채널·관리자 메뉴 필터 분기) */
+    public String getAllEtag(Map<String, Object> filter, Pageable pageable, RequestContext ctx) {
+        return etagSupport.strong("menus", etagSupport.tableVersion("menu"), new TreeMap<>(filter), pageable,
+                ctx != null ? ctx.getChannel() : null, ctx != null ? ctx.getRole() : null);
+    }
+
     /** 관리용: 채널 필터 없이 전체 조회. INTERNAL + ADMIN에서만 호출할 것. */
     public Page<MenuResponseDto> getAllForManagement(Map<String, Object> filter, Pageable pageable) {
         return menuRepository.findAll(specForManagement(filter), pageable).map(Menu::toResponseDto);
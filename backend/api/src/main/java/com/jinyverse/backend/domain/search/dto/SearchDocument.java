@@ -0,0 +1,27 @@
+package com.jinyverse.backend.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/** 색인할 문서 (primary: 제목 등 가중치 A, secondary: 본문 등 가중치 B) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchDocument {
+
+    /** 대상 ID */
+    private UUID targetId;
+
+    /** 가중치 A 텍스트 */
+    private String primary;
+
+    /** 가중치 B 텍스트 */
+    private String secondary;
+}
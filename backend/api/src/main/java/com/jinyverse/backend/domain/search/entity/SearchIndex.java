@@ -0,0 +1,48 @@
+package com.jinyverse.backend.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 전문 검색 인덱스 (대상 타입/ID별 tsvector 한 행).
+ * 쓰기는 SearchIndexService(JDBC)에서만 하며, 엔티티는 Criteria 서브쿼리용 매핑이다.
+ */
+@Entity
+@Table(name = "search_index")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchIndex {
+
+    /** 검색 인덱스 ID */
+    @Id
+    @UuidGenerator
+    @Column(name = "id", columnDefinition = "UUID", nullable = false)
+    private UUID id;
+
+    /** 대상 타입 (예: TOPIC) */
+    @Column(name = "target_type", length = 40, nullable = false)
+    private String targetType;
+
+    /** 대상 ID */
+    @Column(name = "target_id", columnDefinition = "UUID", nullable = false)
+    private UUID targetId;
+
+    /** 검색 벡터 (bigram 토큰 기반 tsvector) */
+    @Column(name = "search_vector", columnDefinition = "tsvector", nullable = false, insertable = false, updatable = false)
+    private String searchVector;
+
+    /** 마지막 색인 일시 */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,71 @@
+package com.jinyverse.backend.domain.search.service;
+
+import com.jinyverse.backend.domain.search.dto.SearchDocument;
+import com.jinyverse.backend.domain.search.util.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * search_index 유지 관리.
+ * 토큰화는 SearchTokenizer(한글 bigram)로 애플리케이션에서 하고, DB에는 'simple' 구성으로 tsvector만 만든다.
+ * 호출자의 트랜잭션에 참여하므로 원본 저장과 색인 반영이 함께 커밋/롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SearchIndexService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO search_index (target_type, target_id, search_vector, updated_at) "
+                    + "VALUES (?, ?, setweight(to_tsvector('simple', ?), 'A') || setweight(to_tsvector('simple', ?), 'B'), now()) "
+                    + "ON CONFLICT (target_type, target_id) DO UPDATE "
+                    + "SET search_vector = EXCLUDED.search_vector, updated_at = EXCLUDED.updated_at";
+
+    private static final String DELETE_SQL = "DELETE FROM search_index WHERE target_type = ? AND target_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void index(String targetType, UUID targetId, String primary, String secondary) {
+        if (targetId == null) return;
+        jdbcTemplate.update(UPSERT_SQL, targetType, targetId,
+                SearchTokenizer.toDocument(primary), SearchTokenizer.toDocument(secondary));
+    }
+
+    /** 배치 색인 (재색인 잡용) */
+    public void indexAll(String targetType, List<SearchDocument> documents) {
+        if (documents == null || documents.isEmpty()) return;
+        List<Object[]> args = documents.stream()
+                .map(d -> new Object[]{
+                        targetType, d.getTargetId(),
+                        SearchTokenizer.toDocument(d.getPrimary()), SearchTokenizer.toDocument(d.getSecondary())})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    public void remove(String targetType, UUID targetId) {
+        if (targetId == null) return;
+        jdbcTemplate.update(DELETE_SQL, targetType, targetId);
+    }
+
+    public void removeAll(String targetType, List<UUID> targetIds) {
+        if (targetIds == null || targetIds.isEmpty()) return;
+        UUID[] ids = targetIds.toArray(UUID[]::new);
+        jdbcTemplate.update("DELETE FROM search_index WHERE target_type = ? AND target_id = ANY(?)", ps -> {
+            ps.setString(1, targetType);
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", ids));
+        });
+    }
+
+    /** 원본이 삭제(soft delete 포함)된 색인 행 제거. 대상 테이블/삭제 컬럼은 호출부 상수만 사용한다. */
+    public int purgeStale(String targetType, String table) {
+        return jdbcTemplate.update(
+                "DELETE FROM search_index si WHERE si.target_type = ? AND NOT EXISTS "
+                        + "(SELECT 1 FROM " + table + " t WHERE t.id = si.target_id AND t.deleted_at IS NULL)",
+                targetType);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jinyverse.backend.domain.search.util;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Criteria에서 쓰는 전문 검색 함수 등록 (META-INF/services로 Hibernate가 로드).
+ * fts_match는 boolean 패턴 함수로 등록해 SQL 함수 호출 대신 {@code search_vector @@ to_tsquery(...)}로 직접 렌더링한다.
+ * SQL 함수 인라인에 기대지 않고 GIN 인덱스를 탄다.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_match",
+                "(?1 @@ to_tsquery('simple', ?2))",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
@@ -0,0 +1,21 @@
+package com.jinyverse.backend.domain.search.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * search_index에 색인되는 엔티티 표시.
+ * CommonSpecifications.keywordLikeAny는 검색 필드가 {@link #fields()} 안에 있으면 LIKE 대신 색인을 사용한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SearchIndexed {
+
+    /** search_index.target_type 값 */
+    String type();
+
+    /** 색인에 포함된 엔티티 필드 */
+    String[] fields();
+}
@@ -0,0 +1,93 @@
+package com.jinyverse.backend.domain.search.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 토크나이저. 색인과 질의가 같은 규칙으로 토큰을 만든다.
+ * - 한글/한자/가나 연속 구간: 2글자 bigram (1글자면 그대로). 형태소 분석 없이 부분 일치가 되도록.
+ * - 그 외 문자/숫자 연속 구간: 단어 그대로 (질의 시 접두 일치)
+ * - HTML 태그/엔티티는 제거, NFKC 정규화 + 소문자화
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {}
+
+    private static final String CJK = "\\p{IsHangul}\\p{IsHan}\\p{IsHiragana}\\p{IsKatakana}";
+    private static final Pattern RUN = Pattern.compile("([" + CJK + "]+)|([\\p{L}\\p{N}&&[^" + CJK + "]]+)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>|&[a-zA-Z#0-9]+;");
+
+    /** 질의 토큰 수 상한 (긴 문장 검색 시 tsquery 폭주 방지) */
+    private static final int MAX_QUERY_TOKENS = 16;
+
+    /** 색인용 토큰 (공백 구분 문자열로 to_tsvector('simple', ...)에 전달) */
+    public static String toDocument(String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    /**
+     * 질의용 to_tsquery('simple', ...) 문자열. 토큰은 문자/숫자만 포함하므로 연산자 주입이 없다.
+     * 토큰이 없으면 null (호출부에서 LIKE로 fallback).
+     */
+    public static String toTsQuery(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        Matcher m = RUN.matcher(normalize(keyword));
+        while (m.find() && terms.size() < MAX_QUERY_TOKENS) {
+            if (m.group(1) != null) {
+                String run = m.group(1);
+                if (run.length() == 1) {
+                    terms.add(run + ":*");
+                } else {
+                    bigrams(run, terms);
+                }
+            } else {
+                terms.add(m.group(2) + ":*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    /** 엔티티의 색인 필드가 검색 요청 필드를 모두 포함하는지 */
+    public static boolean covers(String[] indexedFields, String[] requestedFields) {
+        if (requestedFields == null || requestedFields.length == 0) return false;
+        return Arrays.asList(indexedFields).containsAll(Arrays.asList(requestedFields));
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        Matcher m = RUN.matcher(normalize(text));
+        while (m.find()) {
+            if (m.group(1) != null) {
+                String run = m.group(1);
+                if (run.length() == 1) {
+                    tokens.add(run);
+                } else {
+                    bigrams(run, tokens);
+                }
+            } else {
+                tokens.add(m.group(2));
+            }
+        }
+        return tokens;
+    }
+
+    private static void bigrams(String run, Collection<String> out) {
+        for (int i = 0; i + 1 < run.length(); i++) {
+            out.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null || text.isBlank()) return "";
+        String s = HTML_TAG.matcher(text).replaceAll(" ");
+        return Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
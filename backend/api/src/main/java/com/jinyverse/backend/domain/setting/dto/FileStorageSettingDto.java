@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.setting.dto;
 
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,4 +19,8 @@ public class FileStorageSettingDto {
     /** 파일 저장 기본 경로 (디렉터리 절대 경로) */
     @Size(max = 500, message = "저장 경로는 500자 이하여야 합니다")
     private String basePath;
+
+    /** 다운로드 전송 방식: stream(백엔드가 직접 전송) | nginx(X-Accel-Redirect로 nginx가 전송, 저장 경로가 nginx 전송 경로와 같아야 함) */
+    @Pattern(regexp = "stream|nginx", message = "다운로드 방식은 stream 또는 nginx 여야 합니다")
+    private String downloadMode;
 }
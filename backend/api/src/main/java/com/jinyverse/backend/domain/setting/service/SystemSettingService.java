@@ -1,17 +1,23 @@
 package com.jinyverse.backend.domain.setting.service;
 
 import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
+import com.jinyverse.backend.domain.common.util.TransactionUtil;
 import com.jinyverse.backend.domain.setting.dto.FileStorageSettingDto;
 import com.jinyverse.backend.domain.setting.entity.SystemSetting;
 import com.jinyverse.backend.domain.setting.repository.SystemSettingRepository;
+import com.jinyverse.backend.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -19,6 +25,13 @@ import java.util.Optional;
 public class SystemSettingService {
 
     public static final String KEY_FILE_STORAGE_BASE_PATH = "file.storage.basePath";
+    public static final String KEY_FILE_DOWNLOAD_MODE = "file.download.mode";
+
+    public static final String DOWNLOAD_MODE_STREAM = "stream";
+    public static final String DOWNLOAD_MODE_NGINX = "nginx";
+
+    /** 다른 인스턴스에서 바뀐 설정이 반영되기까지의 최대 시간 */
+    private static final long CACHE_TTL_MILLIS = 30_000;
 
     private final SystemSettingRepository systemSettingRepository;
     private final AuditLogHelper auditLogHelper;
@@ -26,6 +39,27 @@ public class SystemSettingService {
     @Value("${app.file.storage.base-path:}")
     private String defaultBasePath;
 
+    @Value("${app.file.download.mode:stream}")
+    private String defaultDownloadMode;
+
+    /** nginx internal location (docker/nginx.conf 의 location 과 일치해야 함) */
+    @Value("${app.file.download.accel-redirect-prefix:/_protected_files/}")
+    private String accelRedirectPrefix;
+
+    /** nginx internal location 의 alias 가 가리키는 저장 경로 (backend 기준). 비어 있으면 nginx 모드 불가 */
+    private String accelBasePath;
+
+    @Value("${app.file.download.accel-base-path:}")
+    void setAccelBasePath(String accelBasePath) {
+        this.accelBasePath = accelBasePath;
+    }
+
+    private record CachedValue(String value, long loadedAt) {
+    }
+
+    /** 요청마다 읽는 설정(저장 경로, 다운로드 방식)의 메모리 값. 키가 없으면 다음 조회에서 DB를 읽는다 */
+    private final Map<String, CachedValue> cache = new ConcurrentHashMap<>();
+
     @Transactional(readOnly = true)
     public Optional<String> getValue(String key) {
         return systemSettingRepository.findById(key)
@@ -42,34 +76,94 @@ public class SystemSettingService {
         setting.setValue(value);
         setting.setUpdatedAt(LocalDateTime.now());
         systemSettingRepository.save(setting);
+        // 커밋된 뒤에만 메모리 값을 버린다 (롤백되면 기존 값 유지)
+        TransactionUtil.runAfterCommit(() -> cache.remove(key));
 
         auditLogHelper.log("SYSTEM_SETTING", "UPDATE", beforeValue, value, "{\"key\":\"" + key + "\"}");
     }
 
-    /** 파일 저장 경로: DB에 있으면 그 값, 없으면 application.yml 기본값. */
-    @Transactional(readOnly = true)
+    /**
+     * 파일 저장 경로: DB에 있으면 그 값, 없으면 application.yml 기본값.
+     * 파일 저장소 접근마다 읽으므로 메모리 값을 쓴다 (getCached).
+     */
     public String getFileStorageBasePath() {
+        return getCached(KEY_FILE_STORAGE_BASE_PATH, this::loadFileStorageBasePath);
+    }
+
+    /** 다운로드 전송 방식: DB에 있으면 그 값, 없으면 application.yml 기본값. 다운로드/썸네일 요청마다 읽으므로 메모리 값을 쓴다 */
+    public String getFileDownloadMode() {
+        return getCached(KEY_FILE_DOWNLOAD_MODE, this::loadFileDownloadMode);
+    }
+
+    private String loadFileStorageBasePath() {
         return getValue(KEY_FILE_STORAGE_BASE_PATH)
                 .filter(s -> s != null && !s.isBlank())
                 .orElse(defaultBasePath != null && !defaultBasePath.isBlank() ? defaultBasePath : null);
     }
 
+    private String loadFileDownloadMode() {
+        return getValue(KEY_FILE_DOWNLOAD_MODE)
+                .filter(s -> s != null && !s.isBlank())
+                .orElse(defaultDownloadMode);
+    }
+
+    /**
+     * 메모리 값이 있으면 DB를 읽지 않는다. 이 인스턴스의 변경은 커밋 직후(setValue),
+     * 다른 인스턴스의 변경은 CACHE_TTL_MILLIS 안에 반영된다.
+     */
+    private String getCached(String key, Supplier<String> loader) {
+        CachedValue cached = cache.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.loadedAt() < CACHE_TTL_MILLIS) {
+            return cached.value();
+        }
+        String value = loader.get();
+        cache.put(key, new CachedValue(value, now));
+        return value;
+    }
+
+    /** nginx 모드일 때만 X-Accel-Redirect prefix, 아니면 null (백엔드가 직접 전송) */
+    public String getAccelRedirectPrefix() {
+        return DOWNLOAD_MODE_NGINX.equals(getFileDownloadMode()) ? accelRedirectPrefix : null;
+    }
+
     @Transactional(readOnly = true)
     public FileStorageSettingDto getFileStorageSetting() {
-        String basePath = getFileStorageBasePath();
         return FileStorageSettingDto.builder()
-                .basePath(basePath)
+                .basePath(loadFileStorageBasePath())
+                .downloadMode(loadFileDownloadMode())
                 .build();
     }
 
     @Transactional
     public FileStorageSettingDto updateFileStorageSetting(FileStorageSettingDto dto) {
+        validateDownloadMode(dto);
         if (dto != null && dto.getBasePath() != null) {
             setValue(KEY_FILE_STORAGE_BASE_PATH, dto.getBasePath().trim());
         } else {
             setValue(KEY_FILE_STORAGE_BASE_PATH, "");
         }
+        if (dto != null && dto.getDownloadMode() != null) {
+            setValue(KEY_FILE_DOWNLOAD_MODE, dto.getDownloadMode());
+        }
         return getFileStorageSetting();
     }
 
+    /**
+     * nginx 모드는 nginx alias 가 같은 디렉터리를 가리킬 때만 동작하므로,
+     * 변경 후 저장 경로가 accel-base-path 와 다르면 거부한다 (그대로 두면 모든 다운로드가 nginx 404).
+     */
+    private void validateDownloadMode(FileStorageSettingDto dto) {
+        String mode = dto != null && dto.getDownloadMode() != null ? dto.getDownloadMode() : loadFileDownloadMode();
+        if (!DOWNLOAD_MODE_NGINX.equals(mode)) return;
+        String basePath = dto != null && dto.getBasePath() != null && !dto.getBasePath().isBlank()
+                ? dto.getBasePath().trim()
+                : defaultBasePath;
+        if (accelBasePath == null || accelBasePath.isBlank() || basePath == null || basePath.isBlank()
+                || !Paths.get(basePath).normalize().equals(Paths.get(accelBasePath.trim()).normalize())) {
+            throw new BadRequestException("NGINX_BASE_PATH_MISMATCH",
+                    "nginx 다운로드 방식은 저장 경로가 nginx 전송 경로(" + accelBasePath + ")와 같을 때만 사용할 수 있습니다.");
+        }
+    }
+
 }
@@ -1,10 +1,17 @@
 package com.jinyverse.backend.domain.topic.controller;
 
+import com.jinyverse.backend.config.EtagSupport;
+import com.jinyverse.backend.domain.common.dto.CursorPageResponseDto;
 import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.file.util.ZipStreamWriter;
 import com.jinyverse.backend.domain.menu.dto.CreateGroup;
+import com.jinyverse.backend.domain.topic.dto.TopicFileArchiveDto;
 import com.jinyverse.backend.domain.topic.dto.TopicRequestDto;
 import com.jinyverse.backend.domain.topic.dto.TopicResponseDto;
+import com.jinyverse.backend.domain.topic.dto.TopicSummaryDto;
+import com.jinyverse.backend.domain.topic.service.TopicFileService;
 import com.jinyverse.backend.domain.topic.service.TopicService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,10 +19,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 
@@ -25,6 +34,9 @@ import java.util.UUID;
 public class TopicController {
 
     private final TopicService topicService;
+    private final TopicFileService topicFileService;
+    private final ZipStreamWriter zipStreamWriter;
+    private final EtagSupport etagSupport;
 
     @PostMapping
     public ResponseEntity<TopicResponseDto> create(
@@ -35,11 +47,22 @@ public class TopicController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<TopicResponseDto>> getAll(
+    public ResponseEntity<Page<TopicSummaryDto>> getAll(
             @RequestParam Map<String, Object> filter,
             @PageableDefault(sort = { "isPinned", "createdAt" }, direction = Sort.Direction.DESC) Pageable pageable,
             RequestContext ctx) {
-        Page<TopicResponseDto> responses = topicService.getAll(filter, pageable, ctx);
+        Page<TopicSummaryDto> responses = topicService.getAll(filter, pageable, ctx);
+        return ResponseEntity.ok(responses);
+    }
+
+    /** 커서 모드: ?cursor=(첫 페이지는 빈 값)&size=20. count 쿼리 없이 nextCursor 반환. */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<TopicSummaryDto>> getAllByCursor(
+            @RequestParam Map<String, Object> filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            RequestContext ctx) {
+        CursorPageResponseDto<TopicSummaryDto> responses = topicService.getAllByCursor(filter, cursor, size, ctx);
         return ResponseEntity.ok(responses);
     }
 
@@ -49,12 +72,30 @@ public class TopicController {
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    /** If-None-Match가 현재 버전과 같으면 본문/태그/파일 조회 없이 304 (조회수는 그대로 증가) */
     @GetMapping("/{id}")
     public ResponseEntity<TopicResponseDto> getById(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             RequestContext ctx) {
+        String etag = topicService.getEtag(id, ctx);
+        if (etagSupport.matches(ifNoneMatch, etag)) {
+            topicService.recordView(id, ctx);
+            return etagSupport.notModified(etag);
+        }
         TopicResponseDto response = topicService.getById(id, ctx);
-        return ResponseEntity.ok(response);
+        return etagSupport.ok(etag, response);
+    }
+
+    /**
+     * 첨부 파일 전체를 ZIP 하나로 내려받는다. 접근 검사는 게시글 단위로 한 번만 하고(파일별 조회 없음),
+     * ZIP은 저장소에서 읽는 대로 응답에 스트리밍한다 (임시 파일 없음, 전체 크기와 무관한 메모리).
+     */
+    @GetMapping("/{id}/files.zip")
+    public void downloadFiles(@PathVariable UUID id, RequestContext ctx, HttpServletResponse response)
+            throws IOException {
+        TopicFileArchiveDto archive = topicFileService.getArchive(id, ctx);
+        zipStreamWriter.write(archive.getEntries(), archive.getFilename(), response);
     }
 
     @PostMapping("/{id}")
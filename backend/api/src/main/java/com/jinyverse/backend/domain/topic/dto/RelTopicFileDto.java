@@ -26,6 +26,13 @@ public class RelTopicFileDto {
     private Integer order;
     /** 대표 파일 여부 */
     private Boolean isMain;
+    /** 이미지 원본 가로/세로 (px, 이미지가 아니거나 아직 계산 전이면 null) */
+    private Integer imageWidth;
+    private Integer imageHeight;
+    /** 이미지 대표 색 (#rrggbb) */
+    private String dominantColor;
+    /** 이미지 BlurHash (로딩 전 자리표시) */
+    private String blurHash;
     /** 연결 생성일시 */
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,47 @@
+package com.jinyverse.backend.domain.topic.dto;
+
+import com.jinyverse.backend.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 커서. 기본 정렬 (isPinned DESC, createdAt DESC, id DESC)의 마지막 행 위치.
+ * 외부에는 base64url 문자열(opaque)로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TopicCursor {
+
+    private final boolean pinned;
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public static TopicCursor of(TopicSummaryDto last) {
+        return new TopicCursor(Boolean.TRUE.equals(last.getIsPinned()), last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = (pinned ? "1" : "0") + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 빈 값이면 첫 페이지(null). 형식이 잘못되면 400. */
+    public static TopicCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new TopicCursor("1".equals(parts[0]), LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("INVALID_CURSOR", "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.jinyverse.backend.domain.topic.dto;
+
+import com.jinyverse.backend.domain.file.util.ZipStreamWriter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/** 게시글 첨부 파일 일괄 다운로드(ZIP) 대상. 접근 검사를 통과한 뒤에만 만들어진다. */
+@Getter
+@AllArgsConstructor
+@Builder
+public class TopicFileArchiveDto {
+    /** 다운로드 파일명 ({제목}.zip) */
+    private String filename;
+    /** 게시글 내 정렬 순서대로 */
+    private List<ZipStreamWriter.Entry> entries;
+}
@@ -45,6 +45,10 @@ public class TopicResponseDto {
     private Boolean isPublic;
     /** 조회수 */
     private Integer viewCount;
+    /** 댓글 수 */
+    private Integer commentCount;
+    /** 마지막 댓글 작성일시 */
+    private LocalDateTime lastCommentedAt;
     /** 원본 게시글 id. 있으면 이 행은 해당 원본의 임시저장(초안). */
     private UUID sourceTopicId;
     /** true면 목록에서 제외. */
@@ -0,0 +1,123 @@
+package com.jinyverse.backend.domain.topic.dto;
+
+import com.jinyverse.backend.domain.tag.dto.TagResponseDto;
+import com.jinyverse.backend.domain.user.dto.UserJoinDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 목록용 요약. 본문(content)은 싣지 않고 앞부분으로 만든 excerpt만 포함한다.
+ * TopicRepositoryCustomImpl에서 select new(Criteria construct)로 직접 생성한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TopicSummaryDto {
+
+    /** 요약 최대 길이 (문자) */
+    public static final int EXCERPT_LENGTH = 200;
+
+    /** 요약 계산용으로 DB에서 잘라 오는 본문 앞부분 길이 (HTML 태그 여유분 포함) */
+    public static final int EXCERPT_SOURCE_LENGTH = 1000;
+
+    private static final Pattern BLOCK_END = Pattern.compile("(?i)<br\\s*/?>|</(p|div|li|h[1-6]|blockquote|tr)>");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>?");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /** 게시글 고유 ID */
+    private UUID id;
+    /** 게시글 작성자 ID */
+    private UUID authorUserId;
+    /** 작성자 */
+    private UserJoinDto author;
+    /** 연결된 메뉴 코드 */
+    private String menuCode;
+    /** 게시글 상태 분류 코드 */
+    private String statusCategoryCode;
+    /** 게시글 상태 코드 값 */
+    private String status;
+    /** 소속 게시판 ID */
+    private UUID boardId;
+    /** 게시글 제목 */
+    private String title;
+    /** 본문 요약 (태그 제거, 최대 EXCERPT_LENGTH자) */
+    private String excerpt;
+    /** 공지글 여부 */
+    private Boolean isNotice;
+    /** 상단 고정 여부 */
+    private Boolean isPinned;
+    /** 공개 여부 */
+    private Boolean isPublic;
+    /** 조회수 */
+    private Integer viewCount;
+    /** 댓글 수 */
+    private Integer commentCount;
+    /** 마지막 댓글 작성일시 */
+    private LocalDateTime lastCommentedAt;
+    /** 원본 게시글 id. 있으면 이 행은 해당 원본의 임시저장(초안). */
+    private UUID sourceTopicId;
+    /** true면 목록에서 제외. */
+    private Boolean hidden;
+    /** 게시글 공개 예정 시각 */
+    private LocalDateTime publishedAt;
+    /** 작성일시 */
+    private LocalDateTime createdAt;
+    /** 수정일시 */
+    private LocalDateTime updatedAt;
+    /** 연결된 태그 (조인) */
+    private List<TagResponseDto> tags;
+    /** 파일 목록 */
+    private List<RelTopicFileDto> files;
+
+    /** select new 전용. contentHead는 본문 앞 EXCERPT_SOURCE_LENGTH자. */
+    public TopicSummaryDto(UUID id, UUID authorUserId, String authorNickname, String menuCode,
+                           String statusCategoryCode, String status, UUID boardId, String title, String contentHead,
+                           Boolean isNotice, Boolean isPinned, Boolean isPublic, Integer viewCount,
+                           Integer commentCount, LocalDateTime lastCommentedAt,
+                           UUID sourceTopicId, Boolean hidden, LocalDateTime publishedAt,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.authorUserId = authorUserId;
+        this.author = authorNickname != null
+                ? UserJoinDto.builder().id(authorUserId).nickname(authorNickname).build()
+                : null;
+        this.menuCode = menuCode;
+        this.statusCategoryCode = statusCategoryCode;
+        this.status = status;
+        this.boardId = boardId;
+        this.title = title;
+        this.excerpt = excerptOf(contentHead);
+        this.isNotice = isNotice;
+        this.isPinned = isPinned;
+        this.isPublic = isPublic;
+        this.viewCount = viewCount;
+        this.commentCount = commentCount;
+        this.lastCommentedAt = lastCommentedAt;
+        this.sourceTopicId = sourceTopicId;
+        this.hidden = hidden;
+        this.publishedAt = publishedAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    static String excerptOf(String html) {
+        if (html == null || html.isBlank()) return "";
+        String text = BLOCK_END.matcher(html).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll("");
+        text = text.replace("&nbsp;", " ").replace("&lt;", "<").replace("&gt;", ">")
+                .replace("&quot;", "\"").replace("&#39;", "'").replace("&amp;", "&");
+        text = SPACES.matcher(text).replaceAll(" ").trim();
+        if (text.length() <= EXCERPT_LENGTH) return text;
+        return text.substring(0, EXCERPT_LENGTH) + "…";
+    }
+}
@@ -0,0 +1,33 @@
+package com.jinyverse.backend.domain.topic.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 상세 ETag 계산용 projection.
+ * 접근 검사에 필요한 값과 응답 본문을 바꾸는 버전 값만 읽는다 (본문/태그/파일 하이드레이션 없음).
+ * 응답에 함께 실리는 태그 이름/설명과 작성자 닉네임은 게시글 수정 없이 바뀌므로 그 행들의 수정 일시도 포함한다.
+ */
+public interface TopicVersion {
+
+    UUID getAuthorUserId();
+
+    Boolean getIsPublic();
+
+    String getStatus();
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getCommentCount();
+
+    LocalDateTime getLastCommentedAt();
+
+    /** 썸네일이 생성된 첨부 파일 수 (썸네일은 게시글 수정 없이 비동기로 채워짐) */
+    Long getThumbnailCount();
+
+    /** 연결된 태그 중 가장 최근 수정 일시 (태그가 없으면 null) */
+    LocalDateTime getTagsUpdatedAt();
+
+    /** 작성자 수정 일시 (닉네임 변경 등) */
+    LocalDateTime getAuthorUpdatedAt();
+}
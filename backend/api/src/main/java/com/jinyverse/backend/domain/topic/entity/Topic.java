@@ -4,6 +4,7 @@ import com.jinyverse.backend.domain.board.entity.Board;
 import com.jinyverse.backend.domain.code.entity.Code;
 import com.jinyverse.backend.domain.code.entity.CodeCategory;
 import com.jinyverse.backend.domain.common.BaseEntity;
+import com.jinyverse.backend.domain.search.util.SearchIndexed;
 import com.jinyverse.backend.domain.topic.dto.TopicRequestDto;
 import com.jinyverse.backend.domain.topic.dto.TopicResponseDto;
 import com.jinyverse.backend.domain.user.entity.User;
@@ -22,6 +23,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "topic")
+@SearchIndexed(type = Topic.SEARCH_TARGET_TYPE, fields = { "title", "content" })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,6 +31,9 @@ import java.util.UUID;
 @Builder
 public class Topic extends BaseEntity {
 
+    /** search_index.target_type */
+    public static final String SEARCH_TARGET_TYPE = "TOPIC";
+
     /** 게시글 고유 ID */
     @Id
     @UuidGenerator
@@ -77,10 +82,18 @@ public class Topic extends BaseEntity {
     @Column(name = "is_public", nullable = false)
     private Boolean isPublic;
 
-    /** 조회수 */
-    @Column(name = "view_count", nullable = false)
+    /** 조회수. TopicViewCountBuffer가 SQL로만 갱신 (엔티티 저장이 그 사이 반영된 증가분을 덮어쓰지 않도록) */
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
     private Integer viewCount;
 
+    /** 댓글 수 (삭제 제외). CommentService/정합성 배치가 SQL로만 갱신 */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Integer commentCount;
+
+    /** 마지막 댓글 작성일시. CommentService/정합성 배치가 SQL로만 갱신 */
+    @Column(name = "last_commented_at", insertable = false, updatable = false)
+    private LocalDateTime lastCommentedAt;
+
     /** 원본 게시글 id. 있으면 이 행은 해당 원본의 임시저장(초안). null이면 일반/원본 게시글. */
     @Column(name = "source_topic_id", columnDefinition = "UUID")
     private UUID sourceTopicId;
@@ -138,7 +151,6 @@ public class Topic extends BaseEntity {
                 .isNotice(dto.getIsNotice() != null ? dto.getIsNotice() : false)
                 .isPinned(dto.getIsPinned() != null ? dto.getIsPinned() : false)
                 .isPublic(isPublic)
-                .viewCount(0)
                 .hidden(false)
                 .publishedAt(dto.getPublishedAt())
                 .build();
@@ -157,7 +169,6 @@ public class Topic extends BaseEntity {
                 .isNotice(dto.getIsNotice() != null ? dto.getIsNotice() : original.getIsNotice())
                 .isPinned(dto.getIsPinned() != null ? dto.getIsPinned() : original.getIsPinned())
                 .isPublic(false)
-                .viewCount(0)
                 .sourceTopicId(original.getId())
                 .hidden(false)
                 .publishedAt(dto.getPublishedAt())
@@ -211,7 +222,9 @@ public class Topic extends BaseEntity {
                 .isNotice(this.isNotice)
                 .isPinned(this.isPinned)
                 .isPublic(this.isPublic)
-                .viewCount(this.viewCount)
+                .viewCount(this.viewCount != null ? this.viewCount : 0)
+                .commentCount(this.commentCount != null ? this.commentCount : 0)
+                .lastCommentedAt(this.lastCommentedAt)
                 .sourceTopicId(this.sourceTopicId)
                 .hidden(this.hidden)
                 .publishedAt(this.publishedAt)
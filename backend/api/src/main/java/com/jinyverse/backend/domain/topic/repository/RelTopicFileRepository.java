@@ -2,6 +2,9 @@ package com.jinyverse.backend.domain.topic.repository;
 
 import com.jinyverse.backend.domain.topic.entity.RelTopicFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,12 @@ public interface RelTopicFileRepository extends JpaRepository<RelTopicFile, UUID
     List<RelTopicFile> findByTopicIdIn(List<UUID> topicIds);
     List<RelTopicFile> findByFileId(UUID fileId);
     void deleteByTopicId(UUID topicId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RelTopicFile r SET r.topicId = :toTopicId WHERE r.topicId = :fromTopicId")
+    int moveToTopic(@Param("fromTopicId") UUID fromTopicId, @Param("toTopicId") UUID toTopicId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RelTopicFile r WHERE r.topicId IN :topicIds")
+    int deleteByTopicIdIn(@Param("topicIds") List<UUID> topicIds);
 }
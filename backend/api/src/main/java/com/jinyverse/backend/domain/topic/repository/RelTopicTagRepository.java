@@ -2,6 +2,9 @@ package com.jinyverse.backend.domain.topic.repository;
 
 import com.jinyverse.backend.domain.topic.entity.RelTopicTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +19,21 @@ public interface RelTopicTagRepository extends JpaRepository<RelTopicTag, UUID>
     void deleteByTopicId(UUID topicId);
 
     void deleteByTagId(UUID tagId);
+
+    /** 이동 대상 게시글에 이미 있는 태그는 원본 쪽 연결을 지운다 (unique(topic_id, tag_id) 충돌 방지) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            DELETE FROM RelTopicTag r
+            WHERE r.topicId = :fromTopicId
+              AND r.tagId IN (SELECT d.tagId FROM RelTopicTag d WHERE d.topicId = :toTopicId)
+            """)
+    int deleteOverlapping(@Param("fromTopicId") UUID fromTopicId, @Param("toTopicId") UUID toTopicId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RelTopicTag r SET r.topicId = :toTopicId WHERE r.topicId = :fromTopicId")
+    int moveToTopic(@Param("fromTopicId") UUID fromTopicId, @Param("toTopicId") UUID toTopicId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RelTopicTag r WHERE r.topicId IN :topicIds")
+    int deleteByTopicIdIn(@Param("topicIds") List<UUID> topicIds);
 }
@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.topic.repository;
 
+import com.jinyverse.backend.domain.topic.dto.TopicVersion;
 import com.jinyverse.backend.domain.topic.entity.Topic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,14 +8,18 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TopicRepository extends JpaRepository<Topic, UUID>, JpaSpecificationExecutor<Topic> {
+public interface TopicRepository extends JpaRepository<Topic, UUID>, JpaSpecificationExecutor<Topic>, TopicRepositoryCustom {
 
     @EntityGraph(attributePaths = "author")
     Optional<Topic> findByIdAndDeletedAtIsNull(UUID id);
@@ -25,4 +30,54 @@ public interface TopicRepository extends JpaRepository<Topic, UUID>, JpaSpecific
     long countByDeletedAtIsNull();
 
     List<Topic> findByBoardIdAndDeletedAtIsNull(UUID boardId);
+
+    long countByBoardIdAndDeletedAtIsNull(UUID boardId);
+
+    @Query("SELECT t.id FROM Topic t WHERE t.boardId = :boardId AND t.deletedAt IS NULL")
+    List<UUID> findIdsByBoardId(@Param("boardId") UUID boardId);
+
+    @Query("""
+            SELECT t.authorUserId AS authorUserId, t.isPublic AS isPublic, t.status AS status,
+                   t.updatedAt AS updatedAt, t.commentCount AS commentCount, t.lastCommentedAt AS lastCommentedAt,
+                   (SELECT COUNT(f.thumbnailPath) FROM RelTopicFile r JOIN r.file f WHERE r.topicId = t.id)
+                       AS thumbnailCount,
+                   (SELECT MAX(g.updatedAt) FROM RelTopicTag r JOIN r.tag g WHERE r.topicId = t.id)
+                       AS tagsUpdatedAt,
+                   (SELECT u.updatedAt FROM User u WHERE u.id = t.authorUserId) AS authorUpdatedAt
+            FROM Topic t
+            WHERE t.id = :id AND t.deletedAt IS NULL
+            """)
+    Optional<TopicVersion> findVersionById(@Param("id") UUID id);
+
+    /** 댓글 작성 시 댓글 수 +1, 마지막 댓글 일시 갱신 */
+    @Modifying
+    @Query(value = "UPDATE topic SET comment_count = comment_count + 1, last_commented_at = :at WHERE id = :id",
+            nativeQuery = true)
+    int incrementCommentCount(@Param("id") UUID id, @Param("at") LocalDateTime at);
+
+    /** 댓글(하위 포함) 삭제 시 댓글 수 -removed, 마지막 댓글 일시는 남은 댓글 기준으로 재계산 */
+    @Modifying
+    @Query(value = """
+            UPDATE topic
+            SET comment_count = GREATEST(comment_count - :removed, 0),
+                last_commented_at = (SELECT MAX(c.created_at) FROM comment c
+                                     WHERE c.topic_id = :id AND c.deleted_at IS NULL)
+            WHERE id = :id
+            """, nativeQuery = true)
+    int decrementCommentCount(@Param("id") UUID id, @Param("removed") int removed);
+
+    /** 댓글 수/마지막 댓글 일시를 comment 테이블 기준으로 다시 계산 (댓글 이동 후 등) */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE topic
+            SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.topic_id = :id AND c.deleted_at IS NULL),
+                last_commented_at = (SELECT MAX(c.created_at) FROM comment c
+                                     WHERE c.topic_id = :id AND c.deleted_at IS NULL)
+            WHERE id = :id
+            """, nativeQuery = true)
+    int recountComments(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Topic t SET t.deletedAt = :now WHERE t.id IN :ids AND t.deletedAt IS NULL")
+    int softDeleteByIdIn(@Param("ids") List<UUID> ids, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,19 @@
+package com.jinyverse.backend.domain.topic.repository;
+
+import com.jinyverse.backend.domain.topic.dto.TopicSummaryDto;
+import com.jinyverse.backend.domain.topic.entity.Topic;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/** 목록 요약 조회 (본문 content 컬럼을 읽지 않음) */
+public interface TopicRepositoryCustom {
+
+    Page<TopicSummaryDto> findSummaries(Specification<Topic> spec, Pageable pageable);
+
+    /** 커서 목록용: count 쿼리 없이 정렬 후 limit 건 */
+    List<TopicSummaryDto> findSummaries(Specification<Topic> spec, Sort sort, int limit);
+}
@@ -0,0 +1,98 @@
+package com.jinyverse.backend.domain.topic.repository;
+
+import com.jinyverse.backend.domain.topic.dto.TopicSummaryDto;
+import com.jinyverse.backend.domain.topic.entity.Topic;
+import com.jinyverse.backend.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/**
+ * select new TopicSummaryDto(...) 를 Specification과 함께 쓰기 위해 Criteria construct로 구현.
+ * 본문은 substring(content, 1, EXCERPT_SOURCE_LENGTH)만 읽고, 작성자는 left join으로 닉네임만 가져온다.
+ * Specification이 orderBy를 지정하면(관련도 정렬 등) pageable 정렬보다 우선한다.
+ */
+public class TopicRepositoryCustomImpl implements TopicRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TopicSummaryDto> findSummaries(Specification<Topic> spec, Pageable pageable) {
+        TypedQuery<TopicSummaryDto> query = summaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TopicSummaryDto> findSummaries(Specification<Topic> spec, Sort sort, int limit) {
+        return summaryQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<TopicSummaryDto> summaryQuery(Specification<Topic> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TopicSummaryDto> cq = cb.createQuery(TopicSummaryDto.class);
+        Root<Topic> root = cq.from(Topic.class);
+        Join<Topic, User> author = root.join("author", JoinType.LEFT);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, cq, cb) : null;
+        if (predicate != null) {
+            cq.where(predicate);
+        }
+        cq.select(cb.construct(TopicSummaryDto.class,
+                root.get("id"),
+                root.get("authorUserId"),
+                author.get("nickname"),
+                root.get("menuCode"),
+                root.get("statusCategoryCode"),
+                root.get("status"),
+                root.get("boardId"),
+                root.get("title"),
+                cb.substring(root.get("content"), 1, TopicSummaryDto.EXCERPT_SOURCE_LENGTH),
+                root.get("isNotice"),
+                root.get("isPinned"),
+                root.get("isPublic"),
+                root.get("viewCount"),
+                root.get("commentCount"),
+                root.get("lastCommentedAt"),
+                root.get("sourceTopicId"),
+                root.get("hidden"),
+                root.get("publishedAt"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+        if (cq.getOrderList().isEmpty() && sort.isSorted()) {
+            cq.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(cq);
+    }
+
+    private long count(Specification<Topic> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Topic> root = cq.from(Topic.class);
+        Predicate predicate = spec != null ? spec.toPredicate(root, cq, cb) : null;
+        if (predicate != null) {
+            cq.where(predicate);
+        }
+        cq.select(cb.count(root));
+        cq.orderBy(List.of());
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+}
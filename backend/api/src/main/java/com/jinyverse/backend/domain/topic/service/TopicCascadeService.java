@@ -0,0 +1,42 @@
+package com.jinyverse.backend.domain.topic.service;
+
+import com.jinyverse.backend.domain.file.service.FileAclCache;
+import com.jinyverse.backend.domain.search.service.SearchIndexService;
+import com.jinyverse.backend.domain.topic.entity.Topic;
+import com.jinyverse.backend.domain.topic.repository.RelTopicFileRepository;
+import com.jinyverse.backend.domain.topic.repository.RelTopicTagRepository;
+import com.jinyverse.backend.domain.topic.repository.TopicRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 여러 건 일괄 삭제 (게시판 삭제 cascade).
+ * 엔티티를 읽지 않고 id 목록 기준 DELETE/UPDATE ... WHERE topic_id IN (...) 으로 처리한다.
+ * 한 번에 넘기는 id 수는 호출부에서 제한한다 (동기 삭제 상한 / 배치 chunk 크기).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TopicCascadeService {
+
+    private final TopicRepository topicRepository;
+    private final RelTopicFileRepository relTopicFileRepository;
+    private final RelTopicTagRepository relTopicTagRepository;
+    private final SearchIndexService searchIndexService;
+    private final FileAclCache fileAclCache;
+
+    /** @return 소프트 삭제된 게시글 수 */
+    public int deleteTopics(List<UUID> topicIds, LocalDateTime now) {
+        if (topicIds == null || topicIds.isEmpty()) return 0;
+        relTopicFileRepository.deleteByTopicIdIn(topicIds);
+        fileAclCache.invalidateTopics(topicIds);
+        relTopicTagRepository.deleteByTopicIdIn(topicIds);
+        searchIndexService.removeAll(Topic.SEARCH_TARGET_TYPE, topicIds);
+        return topicRepository.softDeleteByIdIn(topicIds, now);
+    }
+}
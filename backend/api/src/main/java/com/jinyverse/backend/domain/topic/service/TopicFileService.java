@@ -1,84 +1,173 @@
 package com.jinyverse.backend.domain.topic.service;
 
-import com.jinyverse.backend.domain.file.repository.CommonFileRepository;
-import com.jinyverse.backend.domain.topic.dto.RelTopicFileDto;
+import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.file.dto.FileAcl;
+import com.jinyverse.backend.domain.file.service.FileAclCache;
+import com.jinyverse.backend.domain.file.util.ZipStreamWriter;
+import com.jinyverse.backend.domain.topic.dto.TopicFileArchiveDto;
 import com.jinyverse.backend.domain.topic.dto.TopicFileItemDto;
-import com.jinyverse.backend.domain.topic.dto.TopicResponseDto;
-import com.jinyverse.backend.domain.topic.entity.RelTopicFile;
 import com.jinyverse.backend.domain.topic.repository.RelTopicFileRepository;
+import com.jinyverse.backend.exception.ForbiddenException;
+import com.jinyverse.backend.exception.ResourceNotFoundException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TopicFileService {
 
+    private static final String SELECT_RELS_SQL =
+            "SELECT file_id, \"order\", is_main FROM rel__topic_file WHERE topic_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM rel__topic_file WHERE topic_id = ? AND file_id = ?";
+    private static final String UPDATE_SQL =
+            "UPDATE rel__topic_file SET \"order\" = ?, is_main = ? WHERE topic_id = ? AND file_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO rel__topic_file (id, topic_id, file_id, \"order\", is_main) VALUES (?, ?, ?, ?, ?)";
+    private static final String CLEAR_SESSION_SQL =
+            "UPDATE common_file SET session_id = NULL WHERE id = ANY(?) AND session_id IS NOT NULL";
+
+    /** 게시글 공개 여부/작성자와 첨부 파일을 한 번에 (삭제된 게시글은 행 없음) */
+    private static final String ARCHIVE_SQL = """
+            SELECT t.title, t.author_user_id, t.is_public, t.status,
+                   f.original_name, f.stored_name, f.file_path, f.mime_type, f.content_encoding
+              FROM topic t
+              LEFT JOIN rel__topic_file r ON r.topic_id = t.id
+              LEFT JOIN common_file f ON f.id = r.file_id
+             WHERE t.id = ? AND t.deleted_at IS NULL
+             ORDER BY r."order", r.created_at
+            """;
+
     private final RelTopicFileRepository relTopicFileRepository;
-    private final CommonFileRepository commonFileRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final FileAclCache fileAclCache;
 
+    /**
+     * 현재 연결과 요청 파일 목록을 fileId 기준으로 비교해 삭제/추가/순서·대표 변경만 JDBC 배치로 반영하고,
+     * 새로 연결된 파일의 임시 업로드 세션(session_id)은 UPDATE 한 번으로 해제한다.
+     * 같은 트랜잭션에서 JPA로 옮긴 연결(promoteDraft)이 보이도록 먼저 flush 한다.
+     * 게시글 생성/수정(공개 여부 변경 포함)은 모두 이 경로를 거치므로 파일 접근 권한 캐시도 여기서 무효화한다.
+     */
     @Transactional
     public void saveTopicFiles(UUID topicId, List<TopicFileItemDto> files) {
-        relTopicFileRepository.deleteByTopicId(topicId);
         relTopicFileRepository.flush();
-        if (files == null || files.isEmpty()) return;
-        for (int i = 0; i < files.size(); i++) {
-            TopicFileItemDto item = files.get(i);
-            int order = item.getOrder() != null ? item.getOrder() : i;
-            boolean isMain = Boolean.TRUE.equals(item.getIsMain()) || (i == 0 && files.size() == 1);
-            relTopicFileRepository.save(RelTopicFile.builder()
-                    .topicId(topicId)
-                    .fileId(item.getFileId())
-                    .order(order)
-                    .isMain(isMain)
-                    .build());
-
-            commonFileRepository.findById(item.getFileId()).ifPresent(file -> {
-                if (file.getSessionId() != null) {
-                    file.setSessionId(null);
-                    commonFileRepository.save(file);
-                }
-            });
+        Map<UUID, Placement> current = new HashMap<>();
+        jdbcTemplate.query(SELECT_RELS_SQL, (RowCallbackHandler) rs -> current.put(
+                rs.getObject("file_id", UUID.class),
+                new Placement(rs.getInt("order"), rs.getBoolean("is_main"))), topicId);
+
+        Map<UUID, Placement> requested = new LinkedHashMap<>();
+        if (files != null) {
+            for (int i = 0; i < files.size(); i++) {
+                TopicFileItemDto item = files.get(i);
+                if (item.getFileId() == null) continue;
+                int order = item.getOrder() != null ? item.getOrder() : i;
+                boolean isMain = Boolean.TRUE.equals(item.getIsMain()) || (i == 0 && files.size() == 1);
+                requested.putIfAbsent(item.getFileId(), new Placement(order, isMain));
+            }
+        }
+
+        List<Object[]> deletes = new ArrayList<>();
+        for (UUID fileId : current.keySet()) {
+            if (!requested.containsKey(fileId)) deletes.add(new Object[]{topicId, fileId});
+        }
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<UUID> attached = new ArrayList<>();
+        for (Map.Entry<UUID, Placement> entry : requested.entrySet()) {
+            UUID fileId = entry.getKey();
+            Placement want = entry.getValue();
+            Placement have = current.get(fileId);
+            if (have == null) {
+                inserts.add(new Object[]{UUID.randomUUID(), topicId, fileId, want.order, want.isMain});
+                attached.add(fileId);
+            } else if (!have.equals(want)) {
+                updates.add(new Object[]{want.order, want.isMain, topicId, fileId});
+            }
         }
-    }
 
-    public List<RelTopicFileDto> getFilesForTopic(UUID topicId) {
-        return relTopicFileRepository.findByTopicId(topicId).stream()
-                .map(RelTopicFile::toDto)
-                .toList();
+        fileAclCache.invalidateTopics(List.of(topicId));
+        fileAclCache.invalidateFiles(attached);
+
+        if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        if (!attached.isEmpty()) {
+            UUID[] ids = attached.toArray(UUID[]::new);
+            jdbcTemplate.update(CLEAR_SESSION_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)));
+        }
     }
 
     @Transactional
     public void moveFilesToTopic(UUID fromTopicId, UUID toTopicId) {
-        List<RelTopicFile> files = relTopicFileRepository.findByTopicId(fromTopicId);
-        files.forEach(f -> f.setTopicId(toTopicId));
-        relTopicFileRepository.saveAll(files);
+        relTopicFileRepository.moveToTopic(fromTopicId, toTopicId);
+        fileAclCache.invalidateTopics(List.of(fromTopicId, toTopicId));
     }
 
     @Transactional
     public void deleteByTopicId(UUID topicId) {
         relTopicFileRepository.deleteByTopicId(topicId);
+        fileAclCache.invalidateTopics(List.of(topicId));
     }
 
-    public void fillFilesForPage(Page<TopicResponseDto> page) {
-        List<TopicResponseDto> content = page.getContent();
-        if (content.isEmpty()) return;
-        List<UUID> topicIds = content.stream().map(TopicResponseDto::getId).filter(Objects::nonNull).toList();
-        if (topicIds.isEmpty()) return;
-        List<RelTopicFile> rels = relTopicFileRepository.findByTopicIdIn(topicIds);
-        Map<UUID, List<RelTopicFileDto>> topicToFiles = rels.stream()
-                .collect(Collectors.groupingBy(RelTopicFile::getTopicId,
-                        Collectors.mapping(RelTopicFile::toDto, Collectors.toList())));
-        for (TopicResponseDto dto : content) {
-            dto.setFiles(topicToFiles.getOrDefault(dto.getId(), List.of()));
+    /**
+     * 첨부 파일 ZIP 다운로드 대상. 접근 검사는 게시글 단위로 한 번만 한다:
+     * 파일 권한(FileAcl)은 첨부된 게시글들로부터 합쳐지므로, 이 게시글 하나로 계산한 권한이 허용하면
+     * 첨부 파일 각각의 다운로드도 허용된다 (개별 다운로드보다 넓게 열지 않음).
+     */
+    public TopicFileArchiveDto getArchive(UUID topicId, RequestContext ctx) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(ARCHIVE_SQL, topicId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Topic", topicId);
         }
+        Map<String, Object> topic = rows.get(0);
+        UUID authorUserId = (UUID) topic.get("author_user_id");
+        FileAcl acl = FileAcl.builder()
+                .unrestricted(false)
+                .publicAccess(Boolean.TRUE.equals(topic.get("is_public")) && !"temporary".equals(topic.get("status")))
+                .attachedToLiveTopic(true)
+                .ownerIds(authorUserId != null ? Set.of(authorUserId) : Set.of())
+                .topicIds(Set.of(topicId))
+                .build();
+        if (!acl.allows(ctx)) {
+            throw new ForbiddenException("해당 게시글의 파일에 접근할 권한이 없습니다.");
+        }
+
+        List<ZipStreamWriter.Entry> entries = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            String filePath = (String) row.get("file_path");
+            if (filePath == null) continue;
+            String name = (String) (row.get("original_name") != null ? row.get("original_name") : row.get("stored_name"));
+            entries.add(new ZipStreamWriter.Entry(name, filePath,
+                    (String) row.get("mime_type"), (String) row.get("content_encoding")));
+        }
+        String title = (String) topic.get("title");
+        String base = title != null && !title.isBlank() ? title.strip() : topicId.toString();
+        return TopicFileArchiveDto.builder()
+                .filename(base + ".zip")
+                .entries(entries)
+                .build();
+    }
+
+    /** 게시글 내 파일 위치 (diff 비교용) */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Placement {
+        private final int order;
+        private final boolean isMain;
     }
 }
@@ -0,0 +1,106 @@
+package com.jinyverse.backend.domain.topic.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jinyverse.backend.domain.tag.dto.TagResponseDto;
+import com.jinyverse.backend.domain.topic.dto.RelTopicFileDto;
+import com.jinyverse.backend.domain.topic.dto.TopicResponseDto;
+import com.jinyverse.backend.domain.topic.dto.TopicSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 게시글 태그/파일 일괄 채우기.
+ * 게시글 id 배열 하나로 태그(rel__topic_tag + tag)와 파일(rel__topic_file)을 json_agg로 묶어
+ * 한 번의 쿼리로 가져온 뒤, 엔티티를 만들지 않고 DTO에 바로 채운다.
+ * 작성자는 목록/상세 본 쿼리에서 이미 조인하므로 여기서는 다루지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TopicHydrator {
+
+    private static final String HYDRATE_SQL = """
+            SELECT t.id AS topic_id,
+                   COALESCE((SELECT json_agg(json_build_object(
+                                    'id', g.id, 'name', g.name, 'description', g.description,
+                                    'usageCategoryCode', g.usage_category_code, 'usage', g.usage,
+                                    'createdAt', g.created_at) ORDER BY g.name)
+                             FROM rel__topic_tag r JOIN tag g ON g.id = r.tag_id
+                             WHERE r.topic_id = t.id), '[]') AS tags,
+                   COALESCE((SELECT json_agg(json_build_object(
+                                    'id', f.id, 'topicId', f.topic_id, 'fileId', f.file_id,
+                                    'order', f."order", 'isMain', f.is_main,
+                                    'imageWidth', cf.image_width, 'imageHeight', cf.image_height,
+                                    'dominantColor', cf.dominant_color, 'blurHash', cf.blur_hash,
+                                    'createdAt', f.created_at) ORDER BY f."order", f.created_at)
+                             FROM rel__topic_file f LEFT JOIN common_file cf ON cf.id = f.file_id
+                             WHERE f.topic_id = t.id), '[]') AS files
+            FROM unnest(?) AS t(id)
+            """;
+
+    private static final TypeReference<List<TagResponseDto>> TAGS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<RelTopicFileDto>> FILES_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void fillForList(List<TopicSummaryDto> content) {
+        if (content == null || content.isEmpty()) return;
+        Map<UUID, Relations> byTopic = load(content.stream().map(TopicSummaryDto::getId).toList());
+        for (TopicSummaryDto dto : content) {
+            Relations rel = byTopic.getOrDefault(dto.getId(), Relations.EMPTY);
+            dto.setTags(rel.getTags());
+            dto.setFiles(rel.getFiles());
+        }
+    }
+
+    public TopicResponseDto fillForSingle(UUID topicId, TopicResponseDto dto) {
+        Relations rel = load(List.of(topicId)).getOrDefault(topicId, Relations.EMPTY);
+        dto.setTags(rel.getTags());
+        dto.setFiles(rel.getFiles());
+        return dto;
+    }
+
+    private Map<UUID, Relations> load(List<UUID> topicIds) {
+        UUID[] ids = topicIds.stream().filter(Objects::nonNull).distinct().toArray(UUID[]::new);
+        Map<UUID, Relations> result = new HashMap<>();
+        if (ids.length == 0) return result;
+        jdbcTemplate.query(HYDRATE_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)),
+                (RowCallbackHandler) rs -> {
+                    result.put(rs.getObject("topic_id", UUID.class), new Relations(
+                            read(rs.getString("tags"), TAGS_TYPE),
+                            read(rs.getString("files"), FILES_TYPE)));
+                });
+        return result;
+    }
+
+    private <T> List<T> read(String json, TypeReference<List<T>> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Relations {
+        private static final Relations EMPTY = new Relations(List.of(), List.of());
+
+        private final List<TagResponseDto> tags;
+        private final List<RelTopicFileDto> files;
+    }
+}
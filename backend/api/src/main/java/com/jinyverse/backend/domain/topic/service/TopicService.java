@@ -1,22 +1,31 @@
 package com.jinyverse.backend.domain.topic.service;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
-import com.jinyverse.backend.domain.comment.entity.Comment;
 import com.jinyverse.backend.domain.comment.repository.CommentRepository;
+import com.jinyverse.backend.domain.common.dto.CursorPageResponseDto;
 import com.jinyverse.backend.domain.common.util.Channel;
 import com.jinyverse.backend.domain.common.util.CommonSpecifications;
 import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.search.service.SearchIndexService;
+import com.jinyverse.backend.domain.topic.dto.TopicCursor;
 import com.jinyverse.backend.domain.topic.dto.TopicRequestDto;
 import com.jinyverse.backend.domain.topic.dto.TopicResponseDto;
+import com.jinyverse.backend.domain.topic.dto.TopicSummaryDto;
+import com.jinyverse.backend.domain.topic.dto.TopicVersion;
 import com.jinyverse.backend.domain.topic.entity.RelTopicTag;
 import com.jinyverse.backend.domain.topic.entity.Topic;
 import com.jinyverse.backend.domain.topic.repository.RelTopicTagRepository;
 import com.jinyverse.backend.domain.topic.repository.TopicRepository;
 import com.jinyverse.backend.exception.ResourceNotFoundException;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import com.jinyverse.backend.exception.ForbiddenException;
 import org.springframework.stereotype.Service;
@@ -35,12 +44,28 @@ import static com.jinyverse.backend.domain.common.util.CommonSpecifications.PAGI
 @Transactional(readOnly = true)
 public class TopicService {
 
+    /** 커서 목록 최대 페이지 크기 */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /** 커서 목록 정렬: 기본 목록 정렬(isPinned, createdAt)에 id를 더해 전순서로 만든다 */
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "isPinned", "createdAt", "id");
+
+    /** 목록 기본 정렬 (컨트롤러 @PageableDefault와 동일) */
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "isPinned", "createdAt");
+
+    /** 검색 관련도순 정렬 키 (?sort=relevance) */
+    private static final String RELEVANCE_SORT = "relevance";
+
     private final TopicRepository topicRepository;
     private final CommentRepository commentRepository;
     private final RelTopicTagRepository relTopicTagRepository;
     private final AuditLogHelper auditLogHelper;
     private final TopicTagService topicTagService;
     private final TopicFileService topicFileService;
+    private final TopicViewCountBuffer topicViewCountBuffer;
+    private final TopicHydrator topicHydrator;
+    private final SearchIndexService searchIndexService;
+    private final EtagSupport etagSupport;
 
     @Transactional
     public TopicResponseDto create(TopicRequestDto requestDto, RequestContext ctx) {
@@ -54,38 +79,102 @@ public class TopicService {
         Topic saved = topicRepository.save(topic);
         topicTagService.saveTopicTags(saved.getId(), requestDto.getTagIds());
         topicFileService.saveTopicFiles(saved.getId(), requestDto.getFiles());
+        indexForSearch(saved);
+        topicRepository.flush();
         TopicResponseDto dto = toResponseDtoWithTagsAndFiles(saved.getId(), saved.toResponseDto());
         auditLogHelper.log("TOPIC", saved.getId(), "CREATE", null, dto);
         return dto;
     }
 
-    @Transactional(readOnly = false)
     public TopicResponseDto getById(UUID id, RequestContext ctx) {
         Topic topic = topicRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Topic", id));
+        checkReadable(ctx, topic.getAuthorUserId(), topic.getIsPublic(), topic.getStatus());
+        recordView(id, ctx);
+        TopicResponseDto dto = topic.toResponseDto();
+        long buffered = topicViewCountBuffer.pending(id);
+        if (buffered > 0) {
+            dto.setViewCount((int) ((topic.getViewCount() != null ? topic.getViewCount() : 0) + buffered));
+        }
+        return toResponseDtoWithTagsAndFiles(id, dto);
+    }
+
+    /**
+     * 상세 조회 ETag. 버전 컬럼만 읽어 DTO/태그/파일 하이드레이션 전에 계산한다.
+     * 조회수는 응답마다 달라질 수 있어 버전에 넣지 않으므로 약한 ETag를 사용한다.
+     */
+    public String getEtag(UUID id, RequestContext ctx) {
+        TopicVersion version = topicRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Topic", id));
+        checkReadable(ctx, version.getAuthorUserId(), version.getIsPublic(), version.getStatus());
+        return etagSupport.weak("topic", id, version.getUpdatedAt(), version.getCommentCount(),
+                version.getLastCommentedAt(), version.getThumbnailCount(), version.getTagsUpdatedAt(),
+                version.getAuthorUpdatedAt());
+    }
+
+    /** 외부 채널에서 상세 조회 시 조회수 증가 (버퍼에 누적 후 주기적으로 일괄 반영). 304 응답도 조회로 센다. */
+    public void recordView(UUID id, RequestContext ctx) {
         if (ctx != null && ctx.getChannel() == Channel.EXTERNAL) {
-            boolean privateOrDraft = !Boolean.TRUE.equals(topic.getIsPublic()) || "temporary".equals(topic.getStatus());
-            if (privateOrDraft) {
-                boolean allowed = ctx.getUserId() != null
-                        && (topic.getAuthorUserId().equals(ctx.getUserId()) || ctx.isAdmin());
-                if (!allowed) {
-                    throw new ForbiddenException("Access denied to this topic");
-                }
+            topicViewCountBuffer.increment(id);
+        }
+    }
+
+    private void checkReadable(RequestContext ctx, UUID authorUserId, Boolean isPublic, String status) {
+        if (ctx == null || ctx.getChannel() != Channel.EXTERNAL) {
+            return;
+        }
+        boolean privateOrDraft = !Boolean.TRUE.equals(isPublic) || "temporary".equals(status);
+        if (privateOrDraft) {
+            boolean allowed = ctx.getUserId() != null
+                    && (authorUserId.equals(ctx.getUserId()) || ctx.isAdmin());
+            if (!allowed) {
+                throw new ForbiddenException("Access denied to this topic");
             }
-            // 외부 채널에서 상세 조회 시 조회수 증가
-            topic.setViewCount((topic.getViewCount() != null ? topic.getViewCount() : 0) + 1);
-            topicRepository.save(topic);
         }
-        return toResponseDtoWithTagsAndFiles(id, topic.toResponseDto());
     }
 
-    public Page<TopicResponseDto> getAll(Map<String, Object> filter, Pageable pageable, RequestContext ctx) {
-        Page<TopicResponseDto> page = topicRepository.findAll(spec(ctx, filter), pageable).map(Topic::toResponseDto);
-        topicTagService.fillTagsForPage(page);
-        topicFileService.fillFilesForPage(page);
+    /** 목록은 본문 없이 요약(TopicSummaryDto)만 조회한다. 본문은 getById에서만. */
+    public Page<TopicSummaryDto> getAll(Map<String, Object> filter, Pageable pageable, RequestContext ctx) {
+        Specification<Topic> s = spec(ctx, filter);
+        // ?q=...&sort=relevance: 검색 관련도순 (고정글/최신순은 동점 정렬로만 사용)
+        Object q = filter.get("q");
+        if (pageable.getSort().getOrderFor(RELEVANCE_SORT) != null) {
+            Specification<Topic> byRelevance = q instanceof String keyword
+                    ? CommonSpecifications.orderByRelevance(Topic.class, keyword, "isPinned", "createdAt")
+                    : null;
+            pageable = byRelevance != null
+                    ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                    : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
+            s = CommonSpecifications.and(s, byRelevance);
+        }
+        Page<TopicSummaryDto> page = topicRepository.findSummaries(s, pageable);
+        topicHydrator.fillForList(page.getContent());
         return page;
     }
 
+    /**
+     * 커서(keyset) 기반 목록. OFFSET/count 쿼리 없이 마지막 행 위치 이후만 조회한다.
+     * 필터(채널/공개/hidden/status 등)는 getAll과 동일한 spec을 사용한다.
+     */
+    public CursorPageResponseDto<TopicSummaryDto> getAllByCursor(
+            Map<String, Object> filter, String cursor, int size, RequestContext ctx) {
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        TopicCursor after = TopicCursor.decode(cursor);
+        Specification<Topic> s = CommonSpecifications.and(spec(ctx, filter), after != null ? seekAfter(after) : null);
+
+        List<TopicSummaryDto> rows = topicRepository.findSummaries(s, CURSOR_SORT, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<TopicSummaryDto> content = hasNext ? rows.subList(0, limit) : rows;
+        topicHydrator.fillForList(content);
+
+        return CursorPageResponseDto.<TopicSummaryDto>builder()
+                .content(content)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TopicCursor.of(content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+
     public long count() {
         return topicRepository.count(spec(null, Map.of()));
     }
@@ -116,9 +205,13 @@ public class TopicService {
         if ("temporary".equals(topic.getStatus())) {
             topic.setIsPublic(false);
         }
+        // 태그/파일만 바뀌어도 수정일시(=상세 ETag 버전)가 바뀌도록 명시적으로 갱신
+        topic.setUpdatedAt(LocalDateTime.now());
         Topic updated = topicRepository.save(topic);
         topicTagService.saveTopicTags(updated.getId(), requestDto.getTagIds());
         topicFileService.saveTopicFiles(updated.getId(), requestDto.getFiles());
+        indexForSearch(updated);
+        topicRepository.flush();
         TopicResponseDto after = toResponseDtoWithTagsAndFiles(updated.getId(), updated.toResponseDto());
         auditLogHelper.log("TOPIC", id, "UPDATE", before, after);
         return after;
@@ -128,20 +221,18 @@ public class TopicService {
         UUID originalId = draft.getSourceTopicId();
         UUID draftId = draft.getId();
 
-        List<Comment> comments = commentRepository.findByTopicId(originalId);
-        comments.forEach(c -> c.setTopicId(draftId));
-        commentRepository.saveAll(comments);
-
+        // 댓글/파일/태그는 엔티티를 읽지 않고 UPDATE ... WHERE topic_id = ? 한 번씩으로 이동
+        commentRepository.moveToTopic(originalId, draftId);
+        topicRepository.recountComments(draftId);
         topicFileService.moveFilesToTopic(originalId, draftId);
-
-        List<RelTopicTag> tags = relTopicTagRepository.findByTopicId(originalId);
-        tags.forEach(t -> t.setTopicId(draftId));
-        relTopicTagRepository.saveAll(tags);
+        relTopicTagRepository.deleteOverlapping(originalId, draftId);
+        relTopicTagRepository.moveToTopic(originalId, draftId);
 
         Topic original = topicRepository.findByIdAndDeletedAtIsNull(originalId)
                 .orElseThrow(() -> new ResourceNotFoundException("Topic", originalId));
         original.setDeletedAt(LocalDateTime.now());
         topicRepository.save(original);
+        searchIndexService.remove(Topic.SEARCH_TARGET_TYPE, originalId);
 
         draft.setSourceTopicId(null);
         draft.setStatus("created");
@@ -149,18 +240,22 @@ public class TopicService {
         Topic saved = topicRepository.save(draft);
         topicTagService.saveTopicTags(saved.getId(), requestDto.getTagIds());
         topicFileService.saveTopicFiles(saved.getId(), requestDto.getFiles());
+        indexForSearch(saved);
+        topicRepository.flush();
         return toResponseDtoWithTagsAndFiles(saved.getId(), saved.toResponseDto());
     }
 
     private TopicResponseDto createDraftAndHideOriginal(Topic original, TopicRequestDto requestDto) {
         Topic draft = Topic.draftOf(original, requestDto);
         Topic savedDraft = topicRepository.save(draft);
+        indexForSearch(savedDraft);
         original.setHidden(true);
         topicRepository.save(original);
         List<RelTopicTag> originalTags = relTopicTagRepository.findByTopicId(original.getId());
         for (RelTopicTag rel : originalTags) {
             relTopicTagRepository.save(RelTopicTag.builder().topicId(savedDraft.getId()).tagId(rel.getTagId()).build());
         }
+        topicRepository.flush();
         return toResponseDtoWithTagsAndFiles(savedDraft.getId(), savedDraft.toResponseDto());
     }
 
@@ -177,6 +272,7 @@ public class TopicService {
         relTopicTagRepository.deleteByTopicId(id);
         topic.setDeletedAt(LocalDateTime.now());
         topicRepository.save(topic);
+        searchIndexService.remove(Topic.SEARCH_TARGET_TYPE, id);
         auditLogHelper.log("TOPIC", id, "DELETE", before, null);
     }
 
@@ -206,9 +302,28 @@ public class TopicService {
         return s;
     }
 
+    /** (isPinned, createdAt, id) DESC 정렬에서 커서 위치 이후 행만 남기는 seek 조건 */
+    private Specification<Topic> seekAfter(TopicCursor c) {
+        return (root, q, cb) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            Path<Boolean> isPinned = root.get("isPinned");
+            Predicate afterInSameGroup = cb.or(
+                    cb.lessThan(createdAt, c.getCreatedAt()),
+                    cb.and(cb.equal(createdAt, c.getCreatedAt()), cb.lessThan(id, c.getId())));
+            if (c.isPinned()) {
+                return cb.or(cb.isFalse(isPinned), cb.and(cb.isTrue(isPinned), afterInSameGroup));
+            }
+            return cb.and(cb.isFalse(isPinned), afterInSameGroup);
+        };
+    }
+
+    private void indexForSearch(Topic topic) {
+        searchIndexService.index(Topic.SEARCH_TARGET_TYPE, topic.getId(), topic.getTitle(), topic.getContent());
+    }
+
+    /** 태그/파일은 JDBC로 조회하므로, 쓰기 직후라면 호출 전에 flush 해야 반영된 값이 보인다. */
     private TopicResponseDto toResponseDtoWithTagsAndFiles(UUID topicId, TopicResponseDto dto) {
-        topicTagService.fillTagsForSingle(topicId, dto);
-        dto.setFiles(topicFileService.getFilesForTopic(topicId));
-        return dto;
+        return topicHydrator.fillForSingle(topicId, dto);
     }
 }
@@ -1,72 +1,54 @@
 package com.jinyverse.backend.domain.topic.service;
 
-import com.jinyverse.backend.domain.tag.dto.TagResponseDto;
-import com.jinyverse.backend.domain.tag.entity.Tag;
-import com.jinyverse.backend.domain.tag.repository.TagRepository;
-import com.jinyverse.backend.domain.topic.dto.TopicResponseDto;
-import com.jinyverse.backend.domain.topic.entity.RelTopicTag;
 import com.jinyverse.backend.domain.topic.repository.RelTopicTagRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TopicTagService {
 
+    private static final String SELECT_TAG_IDS_SQL = "SELECT tag_id FROM rel__topic_tag WHERE topic_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM rel__topic_tag WHERE topic_id = ? AND tag_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO rel__topic_tag (id, topic_id, tag_id) VALUES (?, ?, ?) ON CONFLICT (topic_id, tag_id) DO NOTHING";
+
     private final RelTopicTagRepository relTopicTagRepository;
-    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 현재 연결과 요청 태그를 비교해 빠진 것만 삭제, 새로운 것만 추가 (각각 JDBC 배치 1회).
+     * 같은 트랜잭션에서 JPA로 옮긴 연결(promoteDraft)이 보이도록 먼저 flush 한다.
+     */
     @Transactional
     public void saveTopicTags(UUID topicId, List<UUID> tagIds) {
-        relTopicTagRepository.findByTopicId(topicId).forEach(relTopicTagRepository::delete);
-        if (tagIds != null && !tagIds.isEmpty()) {
-            for (UUID tagId : tagIds) {
-                relTopicTagRepository.save(RelTopicTag.builder().topicId(topicId).tagId(tagId).build());
-            }
+        relTopicTagRepository.flush();
+        Set<UUID> current = new HashSet<>(jdbcTemplate.queryForList(SELECT_TAG_IDS_SQL, UUID.class, topicId));
+        Set<UUID> requested = new LinkedHashSet<>();
+        if (tagIds != null) {
+            tagIds.stream().filter(Objects::nonNull).forEach(requested::add);
         }
-    }
 
-    public TopicResponseDto fillTagsForSingle(UUID topicId, TopicResponseDto dto) {
-        List<RelTopicTag> rels = relTopicTagRepository.findByTopicId(topicId);
-        if (rels.isEmpty()) {
-            dto.setTags(List.of());
-        } else {
-            List<UUID> tagIds = rels.stream().map(RelTopicTag::getTagId).distinct().toList();
-            List<Tag> tags = tagRepository.findAllById(tagIds);
-            dto.setTags(tags.stream().map(Tag::toResponseDto).toList());
-        }
-        return dto;
-    }
+        List<Object[]> deletes = current.stream()
+                .filter(tagId -> !requested.contains(tagId))
+                .map(tagId -> new Object[]{topicId, tagId})
+                .toList();
+        List<Object[]> inserts = requested.stream()
+                .filter(tagId -> !current.contains(tagId))
+                .map(tagId -> new Object[]{UUID.randomUUID(), topicId, tagId})
+                .toList();
 
-    public void fillTagsForPage(Page<TopicResponseDto> page) {
-        List<TopicResponseDto> content = page.getContent();
-        if (content.isEmpty()) return;
-        List<UUID> topicIds = content.stream().map(TopicResponseDto::getId).filter(Objects::nonNull).toList();
-        if (topicIds.isEmpty()) return;
-        List<RelTopicTag> rels = relTopicTagRepository.findByTopicIdIn(topicIds);
-        Map<UUID, List<UUID>> topicToTagIds = rels.stream()
-                .collect(Collectors.groupingBy(RelTopicTag::getTopicId,
-                        Collectors.mapping(RelTopicTag::getTagId, Collectors.toList())));
-        List<UUID> allTagIds = rels.stream().map(RelTopicTag::getTagId).distinct().toList();
-        if (allTagIds.isEmpty()) {
-            content.forEach(dto -> dto.setTags(List.of()));
-            return;
-        }
-        Map<UUID, TagResponseDto> tagMap = tagRepository.findAllById(allTagIds)
-                .stream()
-                .collect(Collectors.toMap(Tag::getId, Tag::toResponseDto));
-        for (TopicResponseDto dto : content) {
-            List<UUID> ids = topicToTagIds.getOrDefault(dto.getId(), List.of());
-            dto.setTags(ids.stream().map(tagMap::get).filter(Objects::nonNull).toList());
-        }
+        if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
     }
 }
@@ -0,0 +1,86 @@
+package com.jinyverse.backend.domain.topic.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 상세 조회마다 topic 행을 UPDATE 하지 않고 topicId별 LongAdder에 누적한 뒤,
+ * 주기적으로 dirty 게시글만 {@code view_count = view_count + ?} 배치 UPDATE로 반영한다.
+ * 종료 시 남은 증가분을 모두 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE topic SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<UUID, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /** 조회수 1 증가 (DB 트랜잭션 없음) */
+    public void increment(UUID topicId) {
+        if (topicId == null) return;
+        LongAdder adder = counters.computeIfAbsent(topicId, k -> new LongAdder());
+        adder.increment();
+        // flush가 sum==0으로 판단해 제거한 adder에 증가시켰다면, 현재 맵의 adder로 옮겨 담는다
+        if (counters.get(topicId) != adder) {
+            counters.computeIfAbsent(topicId, k -> new LongAdder()).increment();
+        }
+    }
+
+    /** 아직 DB에 반영되지 않은 증가분 */
+    public long pending(UUID topicId) {
+        if (topicId == null) return 0L;
+        LongAdder adder = counters.get(topicId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${app.topic.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (counters.isEmpty()) return;
+
+        List<UUID> ids = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        for (Map.Entry<UUID, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                ids.add(entry.getKey());
+                args.add(new Object[]{delta, entry.getKey()});
+            } else {
+                // 한 주기 동안 증가가 없던 게시글은 맵에서 제거 (증가 중인 adder는 유지)
+                counters.computeIfPresent(entry.getKey(), (k, v) -> v.sum() == 0 ? null : v);
+            }
+        }
+        if (args.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            log.debug("TopicViewCountBuffer: {}개 게시글 조회수 반영", args.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 다음 주기에 재시도
+            for (int i = 0; i < ids.size(); i++) {
+                counters.computeIfAbsent(ids.get(i), k -> new LongAdder()).add((Long) args.get(i)[0]);
+            }
+            log.warn("TopicViewCountBuffer: 조회수 반영 실패, 다음 주기에 재시도 - {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
@@ -0,0 +1,73 @@
+package com.jinyverse.backend.batch.step;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.jinyverse.backend.batch.step.ThumbnailBackfillPartitioner.EXPECTED;
+import static com.jinyverse.backend.batch.step.ThumbnailBackfillPartitioner.FROM_DAY;
+import static com.jinyverse.backend.batch.step.ThumbnailBackfillPartitioner.TO_DAY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailBackfillPartitionerTest {
+
+    private static final List<String> DAYS = List.of("2026/01/01", "2026/01/02", "2026/01/03", "2026/01/04");
+
+    @Test
+    @DisplayName("split: 건수가 고르면 연속된 날짜를 gridSize개로 나눈다")
+    void split_균등분할() {
+        Map<String, ExecutionContext> partitions =
+                ThumbnailBackfillPartitioner.split(DAYS, new long[] {10, 10, 10, 10}, 2);
+
+        assertThat(partitions).containsOnlyKeys("partition0", "partition1");
+        assertRange(partitions.get("partition0"), "2026/01/01", "2026/01/02", 20);
+        assertRange(partitions.get("partition1"), "2026/01/03", "2026/01/04", 20);
+    }
+
+    @Test
+    @DisplayName("split: 한 날짜에 몰려 있으면 그 날짜에서 끊고 남은 날짜는 마지막 파티션으로")
+    void split_쏠림() {
+        Map<String, ExecutionContext> partitions =
+                ThumbnailBackfillPartitioner.split(DAYS, new long[] {1, 1, 50, 1}, 3);
+
+        assertThat(partitions).hasSize(2);
+        assertRange(partitions.get("partition0"), "2026/01/01", "2026/01/03", 52);
+        assertRange(partitions.get("partition1"), "2026/01/04", "2026/01/04", 1);
+    }
+
+    @Test
+    @DisplayName("split: gridSize가 날짜 수보다 크면 날짜마다 파티션 하나")
+    void split_날짜보다많은grid() {
+        Map<String, ExecutionContext> partitions =
+                ThumbnailBackfillPartitioner.split(DAYS.subList(0, 2), new long[] {5, 5}, 8);
+
+        assertThat(partitions).hasSize(2);
+        assertRange(partitions.get("partition0"), "2026/01/01", "2026/01/01", 5);
+        assertRange(partitions.get("partition1"), "2026/01/02", "2026/01/02", 5);
+    }
+
+    @Test
+    @DisplayName("split: gridSize가 0 이하면 전체를 파티션 하나로")
+    void split_grid0_단일파티션() {
+        Map<String, ExecutionContext> partitions =
+                ThumbnailBackfillPartitioner.split(DAYS, new long[] {3, 0, 2, 1}, 0);
+
+        assertThat(partitions).hasSize(1);
+        assertRange(partitions.get("partition0"), "2026/01/01", "2026/01/04", 6);
+    }
+
+    @Test
+    @DisplayName("split: 대상이 없으면 파티션도 없다")
+    void split_대상없음() {
+        assertThat(ThumbnailBackfillPartitioner.split(List.of(), new long[0], 4)).isEmpty();
+    }
+
+    private static void assertRange(ExecutionContext context, String from, String to, long expected) {
+        assertThat(context.getString(FROM_DAY)).isEqualTo(from);
+        assertThat(context.getString(TO_DAY)).isEqualTo(to);
+        assertThat(context.getLong(EXPECTED)).isEqualTo(expected);
+    }
+}
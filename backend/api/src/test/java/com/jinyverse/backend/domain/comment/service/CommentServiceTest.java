@@ -0,0 +1,83 @@
+package com.jinyverse.backend.domain.comment.service;
+
+import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
+import com.jinyverse.backend.domain.comment.entity.Comment;
+import com.jinyverse.backend.domain.comment.repository.CommentRepository;
+import com.jinyverse.backend.domain.common.util.Channel;
+import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.common.util.Role;
+import com.jinyverse.backend.domain.topic.repository.TopicRepository;
+import com.jinyverse.backend.exception.ForbiddenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    @Mock private CommentRepository commentRepository;
+    @Mock private AuditLogHelper auditLogHelper;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TopicRepository topicRepository;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private final UUID commentId = UUID.randomUUID();
+    private final UUID topicId = UUID.randomUUID();
+    private final UUID authorId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        commentService.setTreeMaxDepth(50);
+    }
+
+    private RequestContext user(UUID userId) {
+        return RequestContext.anonymous(Channel.INTERNAL, "127.0.0.1")
+                .withAuth(userId, "user", Role.USER);
+    }
+
+    private void givenComment() {
+        when(commentRepository.findByIdAndDeletedAtIsNull(commentId)).thenReturn(Optional.of(
+                Comment.builder().id(commentId).topicId(topicId).userId(authorId).content("댓글").build()));
+    }
+
+    // ===== delete() =====
+
+    @Test
+    @DisplayName("delete: 작성자면 하위 댓글까지 최대 깊이 안에서 한 번에 소프트 삭제하고 삭제 수만큼 댓글 수 감소")
+    void delete_하위트리_소프트삭제() {
+        givenComment();
+        when(commentRepository.softDeleteSubtree(eq(commentId), any(LocalDateTime.class), eq(50))).thenReturn(3);
+
+        commentService.delete(commentId, user(authorId));
+
+        verify(commentRepository).softDeleteSubtree(eq(commentId), any(LocalDateTime.class), eq(50));
+        verify(topicRepository).decrementCommentCount(topicId, 3);
+        verify(auditLogHelper).log(eq("COMMENT"), eq(commentId), eq("DELETE"), any(), isNull());
+    }
+
+    @Test
+    @DisplayName("delete: 작성자도 ADMIN도 아니면 ForbiddenException, 삭제하지 않음")
+    void delete_타인_Forbidden() {
+        givenComment();
+
+        assertThatThrownBy(() -> commentService.delete(commentId, user(UUID.randomUUID())))
+                .isInstanceOf(ForbiddenException.class);
+        verify(commentRepository, never()).softDeleteSubtree(any(), any(), anyInt());
+        verify(topicRepository, never()).decrementCommentCount(any(), anyInt());
+    }
+}
@@ -0,0 +1,269 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.file.dto.ChunkedUploadStatusDto;
+import com.jinyverse.backend.domain.file.entity.ChunkedUpload;
+import com.jinyverse.backend.domain.file.repository.ChunkedUploadRepository;
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import com.jinyverse.backend.exception.BadRequestException;
+import com.jinyverse.backend.exception.ConflictException;
+import com.jinyverse.backend.exception.ForbiddenException;
+import com.jinyverse.backend.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    @Mock private ChunkedUploadRepository chunkedUploadRepository;
+    @Mock private UploadSessionService uploadSessionService;
+    @Mock private CommonFileService commonFileService;
+    @Mock private FileStorage fileStorage;
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ChunkedUploadService chunkedUploadService;
+
+    private final UUID userId = UUID.randomUUID();
+    private ChunkedUpload upload;
+
+    @BeforeEach
+    void setUp() {
+        // 10바이트 파일, 4바이트 청크 → 청크 3개 (4, 4, 2)
+        upload = ChunkedUpload.builder()
+                .id(UUID.randomUUID())
+                .sessionId("session")
+                .userId(userId)
+                .originalName("movie.mp4")
+                .mimeType("video/mp4")
+                .totalSize(10L)
+                .chunkSize(4)
+                .partPath(".uploads/a.part")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(chunkedUploadRepository.findById(upload.getId())).thenReturn(Optional.of(upload));
+    }
+
+    @Test
+    @DisplayName("putChunk: 마지막 청크는 남은 크기만큼, offset 위치에 기록 후 검증된 청크로 기록")
+    void putChunk_마지막청크_기록() throws IOException {
+        byte[] body = "89".getBytes(StandardCharsets.US_ASCII);
+        when(fileStorage.writeAt(eq(".uploads/a.part"), eq(8L), any(), eq(2L))).thenAnswer(inv -> {
+            InputStream in = inv.getArgument(2);
+            return (long) in.readAllBytes().length;
+        });
+        givenUploadExists();
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(upload.getId())))
+                .thenReturn(List.of(0, 2));
+
+        ChunkedUploadStatusDto status = chunkedUploadService.putChunk(
+                upload.getId(), userId, 8, 2, sha256(body), new ByteArrayInputStream(body));
+
+        verify(jdbcTemplate).update(anyString(), eq(upload.getId()), eq(2), eq(2), eq(sha256(body)));
+        assertThat(status.getTotalChunks()).isEqualTo(3);
+        assertThat(status.getReceivedChunks()).containsExactly(0, 2);
+        assertThat(status.getReceivedBytes()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("putChunk: 청크 경계가 아닌 offset, 크기 불일치는 기록 없이 거부")
+    void putChunk_offset크기_검증() throws IOException {
+        byte[] body = "0123".getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> chunkedUploadService.putChunk(
+                upload.getId(), userId, 3, 4, sha256(body), new ByteArrayInputStream(body)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> chunkedUploadService.putChunk(
+                upload.getId(), userId, 4, 3, sha256(body), new ByteArrayInputStream(body)))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(fileStorage, never()).writeAt(any(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("putChunk: 체크섬 불일치면 청크를 받은 것으로 기록하지 않음")
+    void putChunk_체크섬불일치() throws IOException {
+        byte[] body = "0123".getBytes(StandardCharsets.US_ASCII);
+        givenUploadExists();
+        when(fileStorage.writeAt(any(), eq(0L), any(), eq(4L))).thenAnswer(inv -> {
+            InputStream in = inv.getArgument(2);
+            return (long) in.readAllBytes().length;
+        });
+
+        assertThatThrownBy(() -> chunkedUploadService.putChunk(
+                upload.getId(), userId, 0, 4, sha256("xxxx".getBytes(StandardCharsets.US_ASCII)),
+                new ByteArrayInputStream(body)))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("putChunk: 검증된 청크를 잘못된 내용으로 재전송하면 받은 기록이 지워져 complete 거부")
+    void putChunk_재전송실패_complete거부() throws IOException {
+        Set<Integer> received = new TreeSet<>();
+        doAnswer(inv -> received.add(inv.getArgument(2))).when(jdbcTemplate)
+                .update(startsWith("INSERT"), eq(upload.getId()), anyInt(), anyInt(), anyString());
+        when(jdbcTemplate.queryForList(startsWith("WITH"), eq(UUID.class), eq(upload.getId()), anyInt()))
+                .thenAnswer(inv -> {
+                    received.remove(inv.<Integer>getArgument(3));
+                    return List.of(upload.getId());
+                });
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(upload.getId())))
+                .thenAnswer(inv -> new ArrayList<>(received));
+        when(jdbcTemplate.queryForList(startsWith("SELECT chunk_index ||"), eq(String.class), eq(upload.getId())))
+                .thenAnswer(inv -> received.stream().map(i -> i + ":x").toList());
+        when(fileStorage.writeAt(any(), anyLong(), any(), anyLong())).thenAnswer(inv -> {
+            InputStream in = inv.getArgument(2);
+            return (long) in.readAllBytes().length;
+        });
+        byte[] first = "0123".getBytes(StandardCharsets.US_ASCII);
+        byte[] second = "4567".getBytes(StandardCharsets.US_ASCII);
+        byte[] last = "89".getBytes(StandardCharsets.US_ASCII);
+        chunkedUploadService.putChunk(upload.getId(), userId, 0, 4, sha256(first), new ByteArrayInputStream(first));
+        chunkedUploadService.putChunk(upload.getId(), userId, 4, 4, sha256(second), new ByteArrayInputStream(second));
+        chunkedUploadService.putChunk(upload.getId(), userId, 8, 2, sha256(last), new ByteArrayInputStream(last));
+
+        assertThatThrownBy(() -> chunkedUploadService.putChunk(
+                upload.getId(), userId, 4, 4, sha256(second), new ByteArrayInputStream("xxxx".getBytes(StandardCharsets.US_ASCII))))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThat(received).containsExactly(0, 2);
+        assertThatThrownBy(() -> chunkedUploadService.complete(upload.getId(), userId))
+                .isInstanceOf(ConflictException.class);
+        verify(commonFileService, never()).uploadFromStoredPart(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("putChunk: 완료/중단으로 진행 상태가 지워졌으면 쓰지 않고 404")
+    void putChunk_진행상태없음_404() throws IOException {
+        when(jdbcTemplate.queryForList(startsWith("WITH"), eq(UUID.class), eq(upload.getId()), eq(0)))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> chunkedUploadService.putChunk(
+                upload.getId(), userId, 0, 4, "0".repeat(64), new ByteArrayInputStream(new byte[4])))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(fileStorage, never()).writeAt(any(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("putChunk: 다른 사용자의 업로드는 거부")
+    void putChunk_다른사용자() {
+        assertThatThrownBy(() -> chunkedUploadService.putChunk(
+                upload.getId(), UUID.randomUUID(), 0, 4, "0".repeat(64), new ByteArrayInputStream(new byte[4])))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    @DisplayName("complete: 누락 청크가 있으면 409, 모두 받았으면 행을 잠그고 등록 후 진행 상태와 조립본 삭제")
+    void complete_누락검사_후_등록() throws IOException {
+        when(jdbcTemplate.queryForList(startsWith("SELECT chunk_index ||"), eq(String.class), eq(upload.getId())))
+                .thenReturn(List.of("0:a", "2:c"))
+                .thenReturn(List.of("0:a", "1:b", "2:c"));
+
+        assertThatThrownBy(() -> chunkedUploadService.complete(upload.getId(), userId))
+                .isInstanceOf(ConflictException.class);
+        verify(commonFileService, never()).uploadFromStoredPart(any(), any(), any(), any(), any());
+
+        givenRegisterRunsCallback();
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM chunked_upload"), eq(UUID.class), eq(upload.getId())))
+                .thenReturn(List.of(upload.getId()));
+
+        chunkedUploadService.complete(upload.getId(), userId);
+
+        verify(jdbcTemplate).update("DELETE FROM chunked_upload WHERE id = ?", upload.getId());
+        verify(fileStorage).delete(".uploads/a.part");
+    }
+
+    @Test
+    @DisplayName("complete: 해시 계산 중 청크가 다시 기록됐으면 409, 진행 상태 유지")
+    void complete_청크변경_409() throws IOException {
+        when(jdbcTemplate.queryForList(startsWith("SELECT chunk_index ||"), eq(String.class), eq(upload.getId())))
+                .thenReturn(List.of("0:a", "1:b", "2:c"))
+                .thenReturn(List.of("0:a", "2:c"));
+        givenRegisterRunsCallback();
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM chunked_upload"), eq(UUID.class), eq(upload.getId())))
+                .thenReturn(List.of(upload.getId()));
+
+        assertThatThrownBy(() -> chunkedUploadService.complete(upload.getId(), userId))
+                .isInstanceOf(ConflictException.class);
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(Object[].class));
+        verify(fileStorage, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("complete: 잠그기 전에 다른 complete/abort가 진행 상태를 지웠으면 404, 조립본은 건드리지 않음")
+    void complete_동시완료_404() throws IOException {
+        when(jdbcTemplate.queryForList(startsWith("SELECT chunk_index ||"), eq(String.class), eq(upload.getId())))
+                .thenReturn(List.of("0:a", "1:b", "2:c"));
+        givenRegisterRunsCallback();
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM chunked_upload"), eq(UUID.class), eq(upload.getId())))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> chunkedUploadService.complete(upload.getId(), userId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(fileStorage, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("abort: 진행 상태 삭제 후 조립본 삭제")
+    void abort_삭제() throws IOException {
+        chunkedUploadService.abort(upload.getId(), userId);
+
+        verify(chunkedUploadRepository).delete(upload);
+        verify(fileStorage).delete(".uploads/a.part");
+    }
+
+    /** putChunk가 청크 기록을 지울 때 진행 상태 행이 있음 */
+    private void givenUploadExists() {
+        when(jdbcTemplate.queryForList(startsWith("WITH"), eq(UUID.class), eq(upload.getId()), anyInt()))
+                .thenReturn(List.of(upload.getId()));
+    }
+
+    /** 등록 트랜잭션 안에서 실행되는 콜백(잠금/검증/삭제)을 그대로 실행 */
+    private void givenRegisterRunsCallback() throws IOException {
+        when(commonFileService.uploadFromStoredPart(eq(".uploads/a.part"), eq("movie.mp4"), eq("video/mp4"),
+                eq("session"), any())).thenAnswer(inv -> {
+                    inv.<Runnable>getArgument(4).run();
+                    return null;
+                });
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.jinyverse.backend.domain.file.service;
 
 import com.jinyverse.backend.domain.file.dto.CommonFileResponseDto;
+import com.jinyverse.backend.domain.file.dto.FileBlobDto;
+import com.jinyverse.backend.domain.file.dto.FileStreamSource;
 import com.jinyverse.backend.domain.file.entity.CommonFile;
 import com.jinyverse.backend.domain.file.repository.CommonFileRepository;
 import com.jinyverse.backend.domain.file.storage.FileStorage;
-import com.jinyverse.backend.domain.topic.repository.RelTopicFileRepository;
-import com.jinyverse.backend.domain.topic.repository.TopicRepository;
+import com.jinyverse.backend.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +16,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.FileSystemResource;
-import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -25,7 +28,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import org.mockito.Mockito;
@@ -37,29 +42,36 @@ class CommonFileServiceThumbnailTest {
     @Mock private FileStorage fileStorage;
     @Mock private ImageResizeService imageResizeService;
     @Mock private ThumbnailAsyncService thumbnailAsyncService;
-    @Mock private RelTopicFileRepository relTopicFileRepository;
-    @Mock private TopicRepository topicRepository;
+    @Mock private FileBlobService fileBlobService;
+    @Mock private FileAclCache fileAclCache;
+    @Mock private ThumbnailByteCache thumbnailByteCache;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private CommonFileService commonFileService;
 
+    private static final FileBlobService.StagedBlob STAGED =
+            new FileBlobService.StagedBlob(".tmp/staged", "abcd", 3, null);
+
     @TempDir
     Path tempDir;
 
     // ===== 업로드 시 썸네일 생성 =====
 
     @Test
-    @DisplayName("uploadFromMultipart: 이미지 파일이면 비동기 썸네일 생성 트리거")
-    void uploadFromMultipart_이미지_썸네일생성() throws IOException {
-        MultipartFile file = new MockMultipartFile(
-                "file", "photo.jpg", "image/jpeg", new byte[]{1, 2, 3});
-
+    @DisplayName("upload: 이미지 파일이면 비동기 썸네일 생성 트리거")
+    void upload_이미지_썸네일생성() throws IOException {
         when(imageResizeService.isResizable("image/jpeg")).thenReturn(true);
+        givenStaged("image/jpeg");
+        when(fileBlobService.store(STAGED, ".jpg", "image/jpeg"))
+                .thenReturn(newBlob("blobs/ab/cd/abcd.jpg", null));
 
         ArgumentCaptor<CommonFile> captor = ArgumentCaptor.forClass(CommonFile.class);
         when(commonFileRepository.save(captor.capture())).thenAnswer(inv -> inv.getArgument(0));
 
-        CommonFileResponseDto result = commonFileService.uploadFromMultipart(file, null);
+        CommonFileResponseDto result = commonFileService.upload(
+                new ByteArrayInputStream(new byte[]{1, 2, 3}), "photo.jpg", "image/jpeg", null);
 
         assertThat(result).isNotNull();
         // 비동기 생성이므로 thumbnailPath는 즉시 설정되지 않음
@@ -69,42 +81,101 @@ class CommonFileServiceThumbnailTest {
     }
 
     @Test
-    @DisplayName("uploadFromMultipart: 이미지가 아닌 파일은 썸네일 생성 안 함")
-    void uploadFromMultipart_비이미지_썸네일없음() throws IOException {
-        MultipartFile file = new MockMultipartFile(
-                "file", "document.pdf", "application/pdf", new byte[]{1, 2, 3});
-
+    @DisplayName("upload: 이미지가 아닌 파일은 썸네일 생성 안 함")
+    void upload_비이미지_썸네일없음() throws IOException {
         when(imageResizeService.isResizable("application/pdf")).thenReturn(false);
+        givenStaged("application/pdf");
+        when(fileBlobService.store(STAGED, ".pdf", "application/pdf"))
+                .thenReturn(newBlob("blobs/ab/cd/abcd.pdf", null));
 
         ArgumentCaptor<CommonFile> captor = ArgumentCaptor.forClass(CommonFile.class);
         when(commonFileRepository.save(captor.capture())).thenAnswer(inv -> inv.getArgument(0));
 
-        commonFileService.uploadFromMultipart(file, null);
+        commonFileService.upload(
+                new ByteArrayInputStream(new byte[]{1, 2, 3}), "document.pdf", "application/pdf", null);
 
         assertThat(captor.getValue().getThumbnailPath()).isNull();
         verify(imageResizeService, never()).generateThumbnail(any());
     }
 
     @Test
-    @DisplayName("uploadFromMultipart: 비이미지 파일은 비동기 썸네일 트리거 안 함")
-    void uploadFromMultipart_비이미지_비동기트리거없음() throws IOException {
-        MultipartFile file = new MockMultipartFile(
-                "file", "document.pdf", "application/pdf", new byte[]{1, 2, 3});
-
+    @DisplayName("upload: 비이미지 파일은 비동기 썸네일 트리거 안 함")
+    void upload_비이미지_비동기트리거없음() throws IOException {
         when(imageResizeService.isResizable("application/pdf")).thenReturn(false);
+        givenStaged("application/pdf");
+        when(fileBlobService.store(STAGED, ".pdf", "application/pdf"))
+                .thenReturn(newBlob("blobs/ab/cd/abcd.pdf", null));
 
         ArgumentCaptor<CommonFile> captor = ArgumentCaptor.forClass(CommonFile.class);
         when(commonFileRepository.save(captor.capture())).thenAnswer(inv -> inv.getArgument(0));
 
-        CommonFileResponseDto result = commonFileService.uploadFromMultipart(file, null);
+        CommonFileResponseDto result = commonFileService.upload(
+                new ByteArrayInputStream(new byte[]{1, 2, 3}), "document.pdf", "application/pdf", null);
 
         assertThat(result).isNotNull();
         assertThat(captor.getValue().getThumbnailPath()).isNull();
         verify(thumbnailAsyncService, never()).generateAndSave(any(), any(), any());
     }
 
+    @Test
+    @DisplayName("upload: 같은 내용의 기존 blob이면 썸네일 공유, 재생성 안 함")
+    void upload_중복내용_blob공유() throws IOException {
+        FileBlobDto existing = FileBlobDto.builder()
+                .hash("abcd").filePath("blobs/ab/cd/abcd.jpg")
+                .thumbnailPath("blobs/ab/cd/_thumb/abcd_thumb.jpg").created(false).build();
+        givenStaged("image/jpeg");
+        when(fileBlobService.store(STAGED, ".jpg", "image/jpeg"))
+                .thenReturn(existing);
+
+        ArgumentCaptor<CommonFile> captor = ArgumentCaptor.forClass(CommonFile.class);
+        when(commonFileRepository.save(captor.capture())).thenAnswer(inv -> inv.getArgument(0));
+
+        commonFileService.upload(
+                new ByteArrayInputStream(new byte[]{1, 2, 3}), "photo.jpg", "image/jpeg", null);
+
+        CommonFile saved = captor.getValue();
+        assertThat(saved.getFilePath()).isEqualTo("blobs/ab/cd/abcd.jpg");
+        assertThat(saved.getContentHash()).isEqualTo("abcd");
+        assertThat(saved.getThumbnailPath()).isEqualTo("blobs/ab/cd/_thumb/abcd_thumb.jpg");
+        verify(thumbnailAsyncService, never()).generateAndSave(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("upload: 파일 행 저장이 실패하면 새로 만든 blob 파일과 임시 파일을 정리")
+    void upload_저장실패_정리() throws IOException {
+        givenStaged("application/pdf");
+        when(fileBlobService.store(STAGED, ".pdf", "application/pdf"))
+                .thenReturn(newBlob("blobs/ab/cd/abcd.pdf", null));
+        when(commonFileRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> commonFileService.upload(
+                new ByteArrayInputStream(new byte[]{1, 2, 3}), "document.pdf", "application/pdf", null))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(fileStorage).delete("blobs/ab/cd/abcd.pdf");
+        verify(fileBlobService).discard(STAGED);
+    }
+
     // ===== 삭제 시 썸네일 삭제 =====
 
+    @Test
+    @DisplayName("delete: blob 참조 파일은 참조만 해제하고 물리 파일은 직접 삭제 안 함")
+    void delete_blob참조_참조해제() throws IOException {
+        UUID fileId = UUID.randomUUID();
+        CommonFile entity = new CommonFile();
+        entity.setFilePath("blobs/ab/cd/abcd.jpg");
+        entity.setThumbnailPath("blobs/ab/cd/_thumb/abcd_thumb.jpg");
+        entity.setContentHash("abcd");
+
+        when(commonFileRepository.findById(fileId)).thenReturn(Optional.of(entity));
+
+        commonFileService.delete(fileId);
+
+        verify(commonFileRepository).delete(entity);
+        verify(fileBlobService).release("abcd");
+        verify(fileStorage, never()).delete(any());
+    }
+
     @Test
     @DisplayName("delete: thumbnailPath가 있으면 썸네일 파일도 삭제")
     void delete_썸네일파일_함께삭제() throws IOException {
@@ -161,118 +232,67 @@ class CommonFileServiceThumbnailTest {
         verify(commonFileRepository).delete(entity);
     }
 
-    // ===== getResourceForThumbnail() =====
+    // ===== getThumbnailSource() =====
 
     @Test
-    @DisplayName("getResourceForThumbnail: thumbnailPath 있으면 썸네일 반환")
-    void getResourceForThumbnail_썸네일존재_반환() throws IOException {
-        UUID fileId = UUID.randomUUID();
+    @DisplayName("getThumbnailSource: 썸네일 파일이 있으면 썸네일을 스트리밍 대상으로 반환")
+    void getThumbnailSource_썸네일존재_반환() throws IOException {
         CommonFile entity = new CommonFile();
+        entity.setId(UUID.randomUUID());
         entity.setFilePath("2025/01/01/uuid.jpg");
         entity.setThumbnailPath("2025/01/01/_thumb/uuid_thumb.jpg");
 
-        FileSystemResource thumbResource = mock(FileSystemResource.class);
-        when(thumbResource.exists()).thenReturn(true);
-
-        when(commonFileRepository.findById(fileId)).thenReturn(Optional.of(entity));
-        when(fileStorage.getResource("2025/01/01/_thumb/uuid_thumb.jpg")).thenReturn(thumbResource);
+        Path thumb = Files.write(tempDir.resolve("uuid_thumb.jpg"), new byte[] {1, 2, 3});
+        when(fileStorage.getResource("2025/01/01/_thumb/uuid_thumb.jpg")).thenReturn(new FileSystemResource(thumb));
 
-        var result = commonFileService.getResourceForThumbnail(fileId);
+        FileStreamSource result = commonFileService.getThumbnailSource(entity);
 
-        assertThat(result).isSameAs(thumbResource);
+        assertThat(result.getPath()).isEqualTo(thumb);
+        assertThat(result.getLength()).isEqualTo(3);
         verify(fileStorage, never()).getResource("2025/01/01/uuid.jpg");
     }
 
     @Test
-    @DisplayName("getResourceForThumbnail: thumbnailPath 없으면 원본 fallback")
-    void getResourceForThumbnail_썸네일없으면_원본반환() throws IOException {
-        UUID fileId = UUID.randomUUID();
-        CommonFile entity = new CommonFile();
-        entity.setFilePath("2025/01/01/uuid.jpg");
-        entity.setThumbnailPath(null);
-
-        FileSystemResource originalResource = mock(FileSystemResource.class);
-        when(originalResource.exists()).thenReturn(true);
-
-        when(commonFileRepository.findById(fileId)).thenReturn(Optional.of(entity));
-        when(fileStorage.getResource("2025/01/01/uuid.jpg")).thenReturn(originalResource);
-
-        var result = commonFileService.getResourceForThumbnail(fileId);
-
-        assertThat(result).isSameAs(originalResource);
-    }
-
-    @Test
-    @DisplayName("getResourceForThumbnail: thumbnailPath null인 이미지 → 비동기 트리거 후 원본 즉시 반환")
-    void getResourceForThumbnail_지연생성_원본즉시반환() throws IOException {
-        UUID fileId = UUID.randomUUID();
+    @DisplayName("getThumbnailSource: 썸네일 미생성이면 원본 대용 없이 404, 생성도 트리거하지 않음")
+    void getThumbnailSource_썸네일없음_404() throws IOException {
         CommonFile entity = new CommonFile();
+        entity.setId(UUID.randomUUID());
         entity.setFilePath("2025/01/01/uuid.jpg");
         entity.setMimeType("image/jpeg");
         entity.setThumbnailPath(null);
 
-        Path fakeOriginal = tempDir.resolve("uuid.jpg");
-        Files.createFile(fakeOriginal);
-        FileSystemResource originalResource = new FileSystemResource(fakeOriginal.toFile());
-
-        when(commonFileRepository.findById(fileId)).thenReturn(Optional.of(entity));
-        when(fileStorage.getResource("2025/01/01/uuid.jpg")).thenReturn(originalResource);
-        when(imageResizeService.isResizable("image/jpeg")).thenReturn(true);
-
-        var result = commonFileService.getResourceForThumbnail(fileId);
-
-        // 비동기이므로 원본 즉시 반환
-        assertThat(result).isSameAs(originalResource);
-        // 비동기 서비스 트리거 확인
-        verify(thumbnailAsyncService).generateAndSave(eq(fileId), eq("2025/01/01/uuid.jpg"), eq("image/jpeg"));
-        // DB save는 비동기 측에서 하므로 동기 측에서는 호출 안 함
-        verify(commonFileRepository, never()).save(any());
-    }
-
-    @Test
-    @DisplayName("getResourceForThumbnail: thumbnailPath null인 비이미지 → 원본 반환 (지연 생성 안 함)")
-    void getResourceForThumbnail_비이미지_지연생성없음() throws IOException {
-        UUID fileId = UUID.randomUUID();
-        CommonFile entity = new CommonFile();
-        entity.setFilePath("2025/01/01/doc.pdf");
-        entity.setMimeType("application/pdf");
-        entity.setThumbnailPath(null);
-
-        Path fakePdf = tempDir.resolve("doc.pdf");
-        Files.createFile(fakePdf);
-        FileSystemResource originalResource = new FileSystemResource(fakePdf.toFile());
-
-        when(commonFileRepository.findById(fileId)).thenReturn(Optional.of(entity));
-        when(fileStorage.getResource("2025/01/01/doc.pdf")).thenReturn(originalResource);
-        when(imageResizeService.isResizable("application/pdf")).thenReturn(false);
-
-        var result = commonFileService.getResourceForThumbnail(fileId);
-
-        assertThat(result).isSameAs(originalResource);
-        verify(imageResizeService, never()).generateThumbnail(any());
-        verify(commonFileRepository, never()).save(any());
+        assertThatThrownBy(() -> commonFileService.getThumbnailSource(entity))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(fileStorage, never()).getResource(any());
+        verifyNoInteractions(thumbnailAsyncService);
     }
 
     @Test
-    @DisplayName("getResourceForThumbnail: thumbnailPath 있지만 파일 없으면 원본 fallback")
-    void getResourceForThumbnail_썸네일파일없으면_원본반환() throws IOException {
-        UUID fileId = UUID.randomUUID();
+    @DisplayName("getThumbnailSource: thumbnailPath 있지만 파일이 없으면 원본 대용 없이 404")
+    void getThumbnailSource_썸네일파일없음_404() throws IOException {
         CommonFile entity = new CommonFile();
+        entity.setId(UUID.randomUUID());
         entity.setFilePath("2025/01/01/uuid.jpg");
         entity.setThumbnailPath("2025/01/01/_thumb/uuid_thumb.jpg");
 
         FileSystemResource missingThumb = mock(FileSystemResource.class);
         when(missingThumb.exists()).thenReturn(false); // 파일이 실제로 없는 상황
-
-        FileSystemResource originalResource = mock(FileSystemResource.class);
-        when(originalResource.exists()).thenReturn(true);
-
-        when(commonFileRepository.findById(fileId)).thenReturn(Optional.of(entity));
         when(fileStorage.getResource("2025/01/01/_thumb/uuid_thumb.jpg")).thenReturn(missingThumb);
-        when(fileStorage.getResource("2025/01/01/uuid.jpg")).thenReturn(originalResource);
 
-        var result = commonFileService.getResourceForThumbnail(fileId);
+        assertThatThrownBy(() -> commonFileService.getThumbnailSource(entity))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(fileStorage, never()).getResource("2025/01/01/uuid.jpg");
+    }
+
+    /** 임시 저장은 트랜잭션 밖, 등록/행 저장은 TransactionTemplate 콜백 안에서 실행 */
+    private void givenStaged(String mimeType) throws IOException {
+        when(fileBlobService.stage(any(), anyLong(), eq(mimeType))).thenReturn(STAGED);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 
-        assertThat(result).isSameAs(originalResource);
+    private static FileBlobDto newBlob(String filePath, String thumbnailPath) {
+        return FileBlobDto.builder()
+                .hash("abcd").filePath(filePath).thumbnailPath(thumbnailPath).created(true).build();
     }
 }
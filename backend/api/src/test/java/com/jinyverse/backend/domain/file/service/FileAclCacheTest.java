@@ -0,0 +1,71 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.common.util.Channel;
+import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.common.util.Role;
+import com.jinyverse.backend.domain.file.dto.FileAcl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileAclCacheTest {
+
+    private final FileAclCache cache = new FileAclCache(60, 100);
+
+    private static FileAcl privateAcl(UUID topicId, UUID ownerId) {
+        return FileAcl.builder()
+                .attachedToLiveTopic(true)
+                .ownerIds(Set.of(ownerId))
+                .topicIds(Set.of(topicId))
+                .build();
+    }
+
+    @Test
+    @DisplayName("게시글 단위 무효화: 해당 게시글에 첨부된 파일만 제거")
+    void invalidateTopics() {
+        UUID topicA = UUID.randomUUID();
+        UUID topicB = UUID.randomUUID();
+        UUID fileA = UUID.randomUUID();
+        UUID fileB = UUID.randomUUID();
+        cache.put(fileA, privateAcl(topicA, UUID.randomUUID()), cache.stamp());
+        cache.put(fileB, privateAcl(topicB, UUID.randomUUID()), cache.stamp());
+
+        cache.invalidateTopics(List.of(topicA));
+
+        assertThat(cache.get(fileA)).isNull();
+        assertThat(cache.get(fileB)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("조회 시작 후 무효화가 있었다면 조회 결과는 캐시하지 않음")
+    void put_조회중무효화() {
+        UUID fileId = UUID.randomUUID();
+        long stamp = cache.stamp();
+        cache.invalidateFiles(List.of(fileId));
+
+        cache.put(fileId, privateAcl(UUID.randomUUID(), UUID.randomUUID()), stamp);
+
+        assertThat(cache.get(fileId)).isNull();
+    }
+
+    @Test
+    @DisplayName("FileAcl.allows: 비공개 파일은 작성자만, 관리자는 살아 있는 게시글이 있을 때만")
+    void allows() {
+        UUID ownerId = UUID.randomUUID();
+        FileAcl acl = privateAcl(UUID.randomUUID(), ownerId);
+        FileAcl orphaned = FileAcl.builder().ownerIds(Set.of()).topicIds(Set.of(UUID.randomUUID())).build();
+
+        RequestContext anonymous = RequestContext.anonymous(Channel.EXTERNAL, "127.0.0.1");
+
+        assertThat(acl.allows(anonymous)).isFalse();
+        assertThat(acl.allows(anonymous.withAuth(ownerId, "owner", Role.USER))).isTrue();
+        assertThat(acl.allows(anonymous.withAuth(UUID.randomUUID(), "other", Role.USER))).isFalse();
+        assertThat(orphaned.allows(anonymous.withAuth(UUID.randomUUID(), "admin", Role.ADMIN))).isFalse();
+        assertThat(FileAcl.builder().unrestricted(true).build().allows(anonymous)).isTrue();
+    }
+}
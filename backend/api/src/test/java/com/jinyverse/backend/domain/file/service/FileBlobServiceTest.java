@@ -0,0 +1,247 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.file.dto.FileBlobDto;
+import com.jinyverse.backend.domain.file.storage.LocalFileStorage;
+import com.jinyverse.backend.domain.setting.service.SystemSettingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileBlobServiceTest {
+
+    private static final byte[] CONTENT = "hello blob".getBytes(StandardCharsets.UTF_8);
+
+    @Mock private SystemSettingService systemSettingService;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private ThumbnailByteCache thumbnailByteCache;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path baseDir;
+
+    private FileBlobService fileBlobService;
+    private String hash;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        lenient().when(systemSettingService.getFileStorageBasePath()).thenReturn(baseDir.toString());
+        fileBlobService = new FileBlobService(new LocalFileStorage(systemSettingService), jdbcTemplate,
+                thumbnailByteCache, transactionManager);
+        fileBlobService.setCompressionEnabled(true);
+        fileBlobService.setCompressionMinBytes(0);
+        hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+    }
+
+    // ===== store / stageStored =====
+
+    @Test
+    @DisplayName("store: 새 내용이면 임시 파일을 blob 경로로 옮긴다")
+    void store_새내용_이동() throws IOException {
+        givenAcquire(true, null);
+
+        FileBlobService.StagedBlob staged = fileBlobService.stage(new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png");
+        FileBlobDto blob = fileBlobService.store(staged, ".png", "image/png");
+
+        assertThat(staged.hash()).isEqualTo(hash);
+        assertThat(staged.size()).isEqualTo(CONTENT.length);
+        assertThat(blob.getFilePath()).isEqualTo(FileBlobService.blobPath(hash, ".png"));
+        assertThat(Files.readAllBytes(baseDir.resolve(blob.getFilePath()))).isEqualTo(CONTENT);
+        assertThat(tmpFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("store: 같은 내용의 blob 파일이 있으면 임시 파일만 버린다")
+    void store_중복_임시파일삭제() throws IOException {
+        String existing = FileBlobService.blobPath(hash, ".png");
+        writeFile(existing, CONTENT);
+        givenAcquire(false, null);
+
+        FileBlobService.StagedBlob staged = fileBlobService.stage(new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png");
+        FileBlobDto blob = fileBlobService.store(staged, ".png", "image/png");
+
+        assertThat(blob.isCreated()).isFalse();
+        assertThat(Files.readAllBytes(baseDir.resolve(existing))).isEqualTo(CONTENT);
+        assertThat(tmpFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("store: 압축 대상이면 gzip으로 저장하고 해시는 원본 기준")
+    void store_압축저장() throws IOException {
+        givenAcquire(true, FileBlobService.GZIP);
+
+        FileBlobService.StagedBlob staged = fileBlobService.stage(new ByteArrayInputStream(CONTENT), CONTENT.length, "text/plain");
+        FileBlobDto blob = fileBlobService.store(staged, ".txt", "text/plain");
+
+        assertThat(staged.hash()).isEqualTo(hash);
+        assertThat(blob.getFilePath()).isEqualTo(FileBlobService.blobPath(hash, ".txt") + ".gz");
+        assertThat(gunzip(blob.getFilePath())).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("register: 기존 blob 파일이 유실됐으면 기존 저장 형식(원본)으로 복구")
+    void store_유실blob_기존형식으로복구() throws IOException {
+        // 기존 blob은 압축 없이 등록됐지만 파일이 없음. 이번 업로드는 gzip으로 stage됨
+        String rawPath = FileBlobService.blobPath(hash, ".txt");
+        givenAcquire(false, null, rawPath);
+
+        FileBlobService.StagedBlob staged = fileBlobService.stage(new ByteArrayInputStream(CONTENT), CONTENT.length, "text/plain");
+        assertThat(staged.contentEncoding()).isEqualTo(FileBlobService.GZIP);
+        FileBlobDto blob = fileBlobService.store(staged, ".txt", "text/plain");
+
+        assertThat(blob.getFilePath()).isEqualTo(rawPath);
+        assertThat(Files.readAllBytes(baseDir.resolve(rawPath))).isEqualTo(CONTENT);
+        assertThat(tmpFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("stageStored: 조립본은 제자리에서 해시만 계산하고 store 시 복사 없이 blob 경로로 옮긴다")
+    void stageStored_제자리_이동() throws IOException {
+        writeFile("chunked/assembled.part", CONTENT);
+        givenAcquire(true, null);
+
+        FileBlobService.StagedBlob staged = fileBlobService.stageStored("chunked/assembled.part", "video/mp4");
+        assertThat(staged.inPlace()).isTrue();
+        assertThat(staged.hash()).isEqualTo(hash);
+        FileBlobDto blob = fileBlobService.store(staged, ".mp4", "video/mp4");
+
+        assertThat(blob.getFilePath()).isEqualTo(FileBlobService.blobPath(hash, ".mp4"));
+        assertThat(Files.readAllBytes(baseDir.resolve(blob.getFilePath()))).isEqualTo(CONTENT);
+        assertThat(Files.exists(baseDir.resolve("chunked/assembled.part"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("stageStored: 등록하지 못해 discard해도 조립본은 남긴다")
+    void stageStored_discard_원본유지() throws IOException {
+        writeFile("chunked/assembled.part", CONTENT);
+
+        fileBlobService.discard(fileBlobService.stageStored("chunked/assembled.part", "video/mp4"));
+
+        assertThat(Files.exists(baseDir.resolve("chunked/assembled.part"))).isTrue();
+    }
+
+    // ===== release =====
+
+    @Test
+    @DisplayName("release: 참조가 남아 있으면 파일을 지우지 않는다")
+    void release_참조남음_유지() throws IOException {
+        String path = FileBlobService.blobPath(hash, ".png");
+        writeFile(path, CONTENT);
+        givenRelease(1, path, null);
+
+        fileBlobService.release(hash);
+
+        assertThat(Files.exists(baseDir.resolve(path))).isTrue();
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("release: 마지막 참조면 행과 원본/썸네일 파일을 삭제")
+    void release_마지막참조_삭제() throws IOException {
+        String path = FileBlobService.blobPath(hash, ".png");
+        String thumb = "blobs/_thumb/" + hash + "_thumb.jpg";
+        writeFile(path, CONTENT);
+        writeFile(thumb, CONTENT);
+        givenRelease(0, path, thumb);
+        when(jdbcTemplate.queryForList(startsWith("SELECT file_path"), eq(String.class), eq(hash)))
+                .thenReturn(List.of());
+
+        fileBlobService.release(hash);
+
+        verify(jdbcTemplate).update(startsWith("DELETE FROM file_blob"), eq(hash));
+        assertThat(Files.exists(baseDir.resolve(path))).isFalse();
+        assertThat(Files.exists(baseDir.resolve(thumb))).isFalse();
+    }
+
+    @Test
+    @DisplayName("release: 삭제 전에 같은 경로로 다시 등록된 blob이 있으면 파일을 남긴다")
+    void release_재등록됨_파일유지() throws IOException {
+        String path = FileBlobService.blobPath(hash, ".png");
+        writeFile(path, CONTENT);
+        givenRelease(0, path, null);
+        when(jdbcTemplate.queryForList(startsWith("SELECT file_path"), eq(String.class), eq(hash)))
+                .thenReturn(List.of(path));
+
+        fileBlobService.release(hash);
+
+        assertThat(Files.exists(baseDir.resolve(path))).isTrue();
+    }
+
+    @Test
+    @DisplayName("attachThumbnail: 같은 경로의 캐시된 썸네일 바이트를 버린다")
+    void attachThumbnail_캐시무효화() {
+        fileBlobService.attachThumbnail("blobs/ab/cd/x.png", "blobs/_thumb/x_thumb.jpg", null);
+
+        verify(thumbnailByteCache).invalidateThumbnail("blobs/_thumb/x_thumb.jpg");
+    }
+
+    // ===== helpers =====
+
+    private void givenAcquire(boolean created, String encoding) {
+        givenAcquire(created, encoding, null);
+    }
+
+    /** ACQUIRE_SQL 결과를 흉내낸다. filePath가 null이면 요청한 경로(이번 업로드 기준)를 그대로 돌려준다 */
+    @SuppressWarnings("unchecked")
+    private void givenAcquire(boolean created, String encoding, String filePath) {
+        when(jdbcTemplate.queryForObject(startsWith("INSERT INTO file_blob"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(inv -> FileBlobDto.builder()
+                        .hash(inv.getArgument(2))
+                        .filePath(filePath != null ? filePath : inv.getArgument(3))
+                        .fileSize(inv.getArgument(4))
+                        .contentEncoding(filePath != null ? encoding : inv.getArgument(6))
+                        .created(created)
+                        .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRelease(int refCount, String filePath, String thumbnailPath) {
+        when(jdbcTemplate.query(startsWith("UPDATE file_blob SET ref_count"), any(RowMapper.class), eq(hash)))
+                .thenReturn(List.<Object[]>of(new Object[] {refCount, filePath, thumbnailPath}));
+    }
+
+    private void writeFile(String relativePath, byte[] bytes) throws IOException {
+        Path target = baseDir.resolve(relativePath);
+        Files.createDirectories(target.getParent());
+        Files.write(target, bytes);
+    }
+
+    private List<Path> tmpFiles() throws IOException {
+        Path tmp = baseDir.resolve(".tmp");
+        if (!Files.exists(tmp)) return List.of();
+        try (Stream<Path> files = Files.list(tmp)) {
+            return files.toList();
+        }
+    }
+
+    private byte[] gunzip(String relativePath) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(baseDir.resolve(relativePath)))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jinyverse.backend.domain.file.service;
 
+import com.jinyverse.backend.domain.file.dto.ImageMetadata;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -121,8 +122,120 @@ class ImageResizeServiceTest {
         assertThat(size1).isGreaterThan(0);
     }
 
+    @Test
+    @DisplayName("generateThumbnail(java 엔진): 대형 PNG → 축소 디코딩 후 너비 600, 비율 유지")
+    void generateThumbnail_java엔진_축소() throws IOException {
+        ImageResizeService javaService = new ImageResizeService();
+        javaService.setEngine("java");
+        Path originalFile = createTestImage(tempDir, "large.png", 5000, 3000);
+
+        Path thumbPath = javaService.generateThumbnail(originalFile);
+
+        BufferedImage thumbImage = ImageIO.read(thumbPath.toFile());
+        assertThat(thumbPath.getFileName().toString()).isEqualTo("large_thumb.jpg");
+        assertThat(thumbImage.getWidth()).isEqualTo(600);
+        assertThat(thumbImage.getHeight()).isEqualTo(360);
+    }
+
+    @Test
+    @DisplayName("generateThumbnail(java 엔진): 작은 이미지는 확대하지 않음")
+    void generateThumbnail_java엔진_소형이미지() throws IOException {
+        ImageResizeService javaService = new ImageResizeService();
+        javaService.setEngine("java");
+        Path originalFile = createTestImage(tempDir, "tiny.jpg", 100, 80);
+
+        BufferedImage thumbImage = ImageIO.read(javaService.generateThumbnail(originalFile).toFile());
+
+        assertThat(thumbImage.getWidth()).isEqualTo(100);
+        assertThat(thumbImage.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("generateThumbnail(java 엔진): 세로로 긴 이미지는 높이 상한(너비 × 3)에 맞춰 축소")
+    void generateThumbnail_java엔진_세로긴이미지() throws IOException {
+        ImageResizeService javaService = new ImageResizeService();
+        javaService.setEngine("java");
+        Path originalFile = createTestImage(tempDir, "tall.png", 200, 8000);
+
+        BufferedImage thumbImage = ImageIO.read(javaService.generateThumbnail(originalFile).toFile());
+
+        assertThat(thumbImage.getHeight()).isEqualTo(1800);
+        assertThat(thumbImage.getWidth()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("resizeWithImageIO: ImageIO가 읽지 못하는 형식(WebP)은 null → ImageMagick으로 대체")
+    void resizeWithImageIO_미지원형식_null() throws IOException {
+        Path webp = tempDir.resolve("image.webp");
+        Files.write(webp, new byte[] {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'});
+
+        assertThat(imageResizeService.resizeWithImageIO(webp, tempDir.resolve("out.jpg"), 600)).isNull();
+    }
+
+    // ===== 메타데이터 =====
+
+    @Test
+    @DisplayName("generateThumbnailWithMetadata(java 엔진): 원본 크기와 축소본 기준 대표 색, BlurHash 반환")
+    void generateThumbnailWithMetadata_java엔진() throws IOException {
+        ImageResizeService javaService = new ImageResizeService();
+        javaService.setEngine("java");
+        Path originalFile = createTestImage(tempDir, "meta.png", 1200, 800);
+
+        ImageMetadata metadata = javaService.generateThumbnailWithMetadata(originalFile);
+
+        assertThat(metadata.getWidth()).isEqualTo(1200);
+        assertThat(metadata.getHeight()).isEqualTo(800);
+        assertThat(metadata.getDominantColor()).matches("#[0-9a-f]{6}");
+        assertThat(metadata.getBlurHash()).hasSize(28);
+        assertThat(Files.exists(tempDir.resolve("_thumb/meta_thumb.jpg"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("readDimensions: WebP는 ImageIO 없이 RIFF 헤더(VP8/VP8L/VP8X)에서 크기를 읽음")
+    void readDimensions_WebP헤더() throws IOException {
+        byte[] lossy = webpHeader("VP8 ");
+        lossy[23] = (byte) 0x9d;
+        lossy[24] = 0x01;
+        lossy[25] = 0x2a;
+        lossy[26] = (byte) 0x20; // 800
+        lossy[27] = 0x03;
+        lossy[28] = (byte) 0x58; // 600
+        lossy[29] = 0x02;
+        assertThat(ImageResizeService.webpDimensions(lossy)).containsExactly(800, 600);
+
+        byte[] lossless = webpHeader("VP8L");
+        lossless[20] = 0x2f;
+        int bits = (1023 - 1) | (767 - 1) << 14;
+        lossless[21] = (byte) bits;
+        lossless[22] = (byte) (bits >> 8);
+        lossless[23] = (byte) (bits >> 16);
+        lossless[24] = (byte) (bits >> 24);
+        assertThat(ImageResizeService.webpDimensions(lossless)).containsExactly(1023, 767);
+
+        byte[] extended = webpHeader("VP8X");
+        extended[24] = (byte) 0x9f; // 4000 - 1 = 0x000f9f
+        extended[25] = 0x0f;
+        extended[27] = (byte) 0xb7; // 3000 - 1 = 0x000bb7
+        extended[28] = 0x0b;
+        Path webp = Files.write(tempDir.resolve("extended.webp"), extended);
+        ImageMetadata metadata = imageResizeService.readDimensions(webp);
+        assertThat(metadata.getWidth()).isEqualTo(4000);
+        assertThat(metadata.getHeight()).isEqualTo(3000);
+
+        assertThat(ImageResizeService.webpDimensions(new byte[] {'R', 'I', 'F', 'F'})).isNull();
+    }
+
     // ===== 헬퍼 =====
 
+    private static byte[] webpHeader(String chunk) {
+        byte[] head = new byte[30];
+        System.arraycopy("RIFF".getBytes(), 0, head, 0, 4);
+        System.arraycopy("WEBP".getBytes(), 0, head, 8, 4);
+        System.arraycopy(chunk.getBytes(), 0, head, 12, 4);
+        return head;
+    }
+
+
     private static boolean isImageMagickAvailable() {
         try {
             return new ProcessBuilder("convert", "--version").start().waitFor() == 0;
@@ -0,0 +1,92 @@
+package com.jinyverse.backend.domain.file.service;
+
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    @Mock private FileStorage fileStorage;
+    @Mock private ImageResizeService imageResizeService;
+
+    @InjectMocks
+    private ImageVariantService imageVariantService;
+
+    @TempDir
+    Path baseDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageVariantService.setMaxConcurrent(2);
+        Files.createDirectories(baseDir.resolve("2025/01"));
+        Files.write(baseDir.resolve("2025/01/a.png"), new byte[] {1});
+        when(fileStorage.exists(anyString()))
+                .thenAnswer(inv -> Files.exists(baseDir.resolve(inv.<String>getArgument(0))));
+        when(fileStorage.getResource(anyString()))
+                .thenAnswer(inv -> new FileSystemResource(baseDir.resolve(inv.<String>getArgument(0))));
+    }
+
+    @Test
+    @DisplayName("ensureVariant: 같은 변형의 동시 요청은 한 번만 생성하고 함께 결과를 받는다")
+    void ensureVariant_single_flight() throws Exception {
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            generating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            Path target = inv.getArgument(1);
+            Files.createDirectories(target.getParent());
+            Files.write(target, new byte[] {2});
+            return null;
+        }).when(imageResizeService).generateVariant(any(), any(), eq(640), eq("webp"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Path> first = pool.submit(() -> imageVariantService.ensureVariant("2025/01/a.png", 640, "webp"));
+            assertThat(generating.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Path> second = pool.submit(() -> imageVariantService.ensureVariant("2025/01/a.png", 640, "webp"));
+            Thread.sleep(100);
+            release.countDown();
+
+            Path expected = baseDir.resolve("2025/01/_thumb/a_w640.webp");
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(imageResizeService, times(1)).generateVariant(any(), any(), eq(640), eq("webp"));
+    }
+
+    @Test
+    @DisplayName("ensureVariant: 디스크에 이미 있는 변형은 다시 만들지 않는다")
+    void ensureVariant_캐시() throws Exception {
+        Path cached = baseDir.resolve("2025/01/_thumb/a_w320.jpg");
+        Files.createDirectories(cached.getParent());
+        Files.write(cached, new byte[] {3});
+
+        assertThat(imageVariantService.ensureVariant("2025/01/a.png", 320, "jpeg")).isEqualTo(cached);
+        verify(imageResizeService, never()).generateVariant(any(), any(), anyInt(), anyString());
+    }
+}
@@ -0,0 +1,183 @@
+package com.jinyverse.backend.domain.file.util;
+
+import com.jinyverse.backend.config.EtagSupport;
+import com.jinyverse.backend.domain.file.dto.FileStreamSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileStreamWriterTest {
+
+    private static final String ETAG = "\"file-a\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    private final FileStreamWriter writer = new FileStreamWriter(new EtagSupport(null));
+
+    @TempDir
+    Path tempDir;
+
+    private FileStreamSource source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("data.bin");
+        Files.writeString(file, "0123456789", StandardCharsets.US_ASCII);
+        source = FileStreamSource.builder()
+                .path(file)
+                .length(10)
+                .contentType("video/mp4")
+                .contentDisposition("inline")
+                .etag(ETAG)
+                .lastModified(LAST_MODIFIED)
+                .build();
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(source, request, response);
+        return response;
+    }
+
+    @Test
+    @DisplayName("Range 없으면 200 전체 + 검증자/Accept-Ranges 헤더")
+    void 전체응답() throws IOException {
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader("ETag")).isEqualTo(ETAG);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getDateHeader("Last-Modified")).isEqualTo(LAST_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("Range: bytes=2-5 → 206 + Content-Range")
+    void 구간응답() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("Range: bytes=-3 → 마지막 3바이트")
+    void 접미구간응답() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=-3");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    @DisplayName("파일 범위 밖 Range → 416 + Content-Range: bytes */length")
+    void 범위밖_416() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=10-");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("If-Range ETag 불일치 → Range 무시하고 200 전체")
+    void IfRange_불일치_전체응답() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=2-5");
+        request.addHeader("If-Range", "\"file-old\"");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("If-Range ETag 일치 → 206 이어받기")
+    void IfRange_일치_구간응답() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=5-");
+        request.addHeader("If-Range", ETAG);
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 → 304, 본문 없음")
+    void IfNoneMatch_304() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", ETAG);
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("gzip 저장 파일 + 해제 전송 → 원본 본문, Range 무시, Vary: Accept-Encoding")
+    void gzip_해제전송() throws IOException {
+        Path gz = tempDir.resolve("data.txt.gz");
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(gz))) {
+            out.write("0123456789".getBytes(StandardCharsets.US_ASCII));
+        }
+        source = source.toBuilder().path(gz).contentType("text/plain").decodeGzip(true).build();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("none");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    @DisplayName("contentEncoding 지정 → 저장된 바이트 그대로 + Content-Encoding 헤더")
+    void gzip_그대로전송() throws IOException {
+        source = source.toBuilder().contentEncoding("gzip").build();
+
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+    }
+
+    @Test
+    @DisplayName("acceptsGzip: q 값과 * 처리")
+    void acceptsGzip() {
+        assertThat(FileStreamWriter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(FileStreamWriter.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(FileStreamWriter.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(FileStreamWriter.acceptsGzip("*;q=0.1")).isTrue();
+        assertThat(FileStreamWriter.acceptsGzip("identity")).isFalse();
+        assertThat(FileStreamWriter.acceptsGzip(null)).isFalse();
+    }
+}
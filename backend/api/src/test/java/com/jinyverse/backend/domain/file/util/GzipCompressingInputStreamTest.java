@@ -0,0 +1,48 @@
+package com.jinyverse.backend.domain.file.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipCompressingInputStreamTest {
+
+    @Test
+    @DisplayName("여러 버퍼에 걸친 입력을 압축해 내보내고, 풀면 원본과 같음")
+    void 압축_왕복() throws IOException {
+        byte[] data = new byte[200_000];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+
+        byte[] compressed;
+        try (InputStream in = new GzipCompressingInputStream(new ByteArrayInputStream(data))) {
+            compressed = in.readAllBytes();
+        }
+
+        assertThat(compressed.length).isLessThan(data.length);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 입력 → 유효한 빈 gzip")
+    void 빈입력() throws IOException {
+        byte[] compressed;
+        try (InputStream in = new GzipCompressingInputStream(new ByteArrayInputStream(new byte[0]))) {
+            compressed = in.readAllBytes();
+        }
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.jinyverse.backend.domain.file.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImagePlaceholdersTest {
+
+    @Test
+    @DisplayName("dominantColor: 가장 넓은 면적의 색을 #rrggbb로 반환")
+    void dominantColor_최빈색() {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(0x33, 0x66, 0x99));
+        g.fillRect(0, 0, 200, 100);
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 60, 100);
+        g.dispose();
+
+        assertThat(ImagePlaceholders.dominantColor(image)).isEqualTo("#336699");
+    }
+
+    @Test
+    @DisplayName("blurHash: 4x3 성분 → 28자, 성분 플래그와 평균색(DC) 인코딩")
+    void blurHash_단색() {
+        BufferedImage image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 40, 30);
+        g.dispose();
+
+        String hash = ImagePlaceholders.blurHash(image, 4, 3);
+
+        // 1 (성분 플래그: 4x3 → 'L') + 1 (AC 최댓값) + 4 (DC = 0xff0000) + 11 * 2 (AC)
+        assertThat(hash).hasSize(28);
+        assertThat(hash.charAt(0)).isEqualTo('L');
+        assertThat(hash.substring(2, 6)).isEqualTo(base83(0xff0000));
+    }
+
+    @Test
+    @DisplayName("blurHash: 성분 수가 1~9를 벗어나면 예외")
+    void blurHash_성분범위() {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        assertThatThrownBy(() -> ImagePlaceholders.blurHash(image, 0, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String base83(int value) {
+        String chars = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+        StringBuilder out = new StringBuilder();
+        for (int i = 3; i >= 0; i--) {
+            out.append(chars.charAt((value / (int) Math.pow(83, i)) % 83));
+        }
+        return out.toString();
+    }
+}
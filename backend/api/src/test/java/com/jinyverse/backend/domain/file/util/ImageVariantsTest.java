@@ -0,0 +1,37 @@
+package com.jinyverse.backend.domain.file.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantsTest {
+
+    @Test
+    @DisplayName("변형 경로는 원본 옆 _thumb 아래 {stem}_w{width}.{ext}")
+    void relativePath() {
+        assertThat(ImageVariants.relativePath("blobs/ab/cd/abcd.png", 640, "webp"))
+                .isEqualTo("blobs/ab/cd/_thumb/abcd_w640.webp");
+        assertThat(ImageVariants.relativePath("photo.jpeg", 160, "jpeg"))
+                .isEqualTo("_thumb/photo_w160.jpg");
+    }
+
+    @Test
+    @DisplayName("형식 정규화: 생략 시 jpeg, jpg는 jpeg, 목록 밖은 null")
+    void normalizeFormat() {
+        assertThat(ImageVariants.normalizeFormat(null)).isEqualTo("jpeg");
+        assertThat(ImageVariants.normalizeFormat("JPG")).isEqualTo("jpeg");
+        assertThat(ImageVariants.normalizeFormat("webp")).isEqualTo("webp");
+        assertThat(ImageVariants.normalizeFormat("gif")).isNull();
+    }
+
+    @Test
+    @DisplayName("허용 너비만 통과, 정리 대상 경로는 너비 × 형식 전체")
+    void 허용목록() {
+        assertThat(ImageVariants.isAllowedWidth(640)).isTrue();
+        assertThat(ImageVariants.isAllowedWidth(641)).isFalse();
+        assertThat(ImageVariants.allRelativePaths("a/b.png"))
+                .hasSize(ImageVariants.WIDTHS.size() * 2)
+                .contains("a/_thumb/b_w1920.webp", "a/_thumb/b_w160.jpg");
+    }
+}
@@ -0,0 +1,73 @@
+package com.jinyverse.backend.domain.file.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MimeSnifferTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10};
+    private static final byte[] ZIP = {'P', 'K', 0x03, 0x04, 0x14, 0};
+
+    @Test
+    @DisplayName("선언과 내용이 같은 이미지는 선언 그대로")
+    void 이미지_일치() {
+        assertThat(MimeSniffer.resolve(PNG, "image/png")).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("이미지로 선언했지만 내용이 다르면 판별 결과 사용")
+    void 이미지_위장() {
+        assertThat(MimeSniffer.resolve(JPEG, "image/png")).isEqualTo("image/jpeg");
+        byte[] pdf = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        assertThat(MimeSniffer.resolve(pdf, "image/png")).isEqualTo("application/pdf");
+    }
+
+    @Test
+    @DisplayName("실행 파일은 선언과 무관하게 판별 결과 (업로드 검증에서 차단)")
+    void 실행파일() {
+        byte[] script = "#!/bin/sh\n".getBytes(StandardCharsets.US_ASCII);
+        assertThat(MimeSniffer.resolve(pe(0x80), "image/jpeg")).isEqualTo("application/x-msdownload");
+        assertThat(MimeSniffer.resolve(script, "text/plain")).isEqualTo("text/x-shellscript");
+    }
+
+    @Test
+    @DisplayName("MZ/#!로 시작해도 PE 서명이나 인터프리터 경로가 없으면 텍스트 선언 유지")
+    void 실행파일_오탐없음() {
+        byte[] csv = "MZ,name,qty\nMZ-01,bolt,3\n".repeat(8).getBytes(StandardCharsets.US_ASCII);
+        byte[] text = "#!important 공지\n".getBytes(StandardCharsets.UTF_8);
+        assertThat(MimeSniffer.resolve(csv, "text/csv")).isEqualTo("text/csv");
+        assertThat(MimeSniffer.resolve(text, "text/plain")).isEqualTo("text/plain");
+        // e_lfanew가 선두 바이트 밖을 가리키면 판별하지 않는다
+        assertThat(MimeSniffer.sniff(pe(MimeSniffer.HEAD_BYTES))).isNull();
+    }
+
+    @Test
+    @DisplayName("zip 기반 문서는 선언 유지, 선언 없으면 판별 결과, 둘 다 없으면 null")
+    void 선언유지_및_fallback() {
+        String docx = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+        assertThat(MimeSniffer.resolve(ZIP, docx)).isEqualTo(docx);
+        assertThat(MimeSniffer.resolve(ZIP, null)).isEqualTo("application/zip");
+        assertThat(MimeSniffer.resolve(ZIP, "application/octet-stream")).isEqualTo("application/zip");
+        assertThat(MimeSniffer.resolve(new byte[] {1, 2, 3}, "")).isNull();
+        assertThat(MimeSniffer.resolve(new byte[] {1, 2, 3}, "text/plain")).isEqualTo("text/plain");
+    }
+
+    /** e_lfanew(0x3C)가 가리키는 위치에 PE\0\0 서명이 있는 최소 PE 헤더 */
+    private static byte[] pe(int peOffset) {
+        byte[] head = new byte[Math.min(peOffset + 4, MimeSniffer.HEAD_BYTES)];
+        head[0] = 'M';
+        head[1] = 'Z';
+        head[0x3C] = (byte) peOffset;
+        head[0x3D] = (byte) (peOffset >> 8);
+        if (peOffset + 4 <= head.length) {
+            head[peOffset] = 'P';
+            head[peOffset + 1] = 'E';
+        }
+        return head;
+    }
+}
@@ -0,0 +1,90 @@
+package com.jinyverse.backend.domain.file.util;
+
+import com.jinyverse.backend.exception.BadRequestException;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartUploadReaderTest {
+
+    private static final String BOUNDARY = "jinyverse-boundary";
+
+    private final MultipartUploadReader reader = new MultipartUploadReader();
+
+    @BeforeEach
+    void setUp() {
+        reader.setMaxFileSize(DataSize.ofBytes(16));
+        reader.setMaxRequestSize(DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    @DisplayName("read: 파일 파트보다 앞선 form 필드와 파일명/형식/본문을 handler에 전달")
+    void read_필드_파일전달() throws IOException {
+        MockHttpServletRequest request = multipart(
+                field("sessionId", "session-1") + file("file", "메모.txt", "text/plain", "hello"));
+        Map<String, String> seenFields = new HashMap<>();
+
+        String result = reader.read(request, "file", (fields, filename, contentType, content) -> {
+            seenFields.putAll(fields);
+            return filename + "|" + contentType + "|" + new String(content.readAllBytes(), StandardCharsets.UTF_8);
+        });
+
+        assertThat(result).isEqualTo("메모.txt|text/plain|hello");
+        assertThat(seenFields).containsEntry("sessionId", "session-1");
+    }
+
+    @Test
+    @DisplayName("read: 파일 크기 제한 초과 → 읽는 도중 FileUploadSizeException (컨트롤러에서 413)")
+    void read_크기초과() {
+        MockHttpServletRequest request = multipart(file("file", "big.txt", "text/plain", "x".repeat(17)));
+
+        assertThatThrownBy(() -> reader.read(request, "file",
+                (fields, filename, contentType, content) -> content.readAllBytes()))
+                .isInstanceOf(FileUploadSizeException.class);
+    }
+
+    @Test
+    @DisplayName("read: 파일 파트가 없거나 multipart가 아니면 400")
+    void read_파일없음_비multipart() {
+        MockHttpServletRequest noFile = multipart(field("sessionId", "session-1"));
+        assertThatThrownBy(() -> reader.read(noFile, "file", (fields, filename, contentType, content) -> "x"))
+                .isInstanceOf(BadRequestException.class);
+
+        MockHttpServletRequest json = new MockHttpServletRequest("POST", "/api/files/upload");
+        json.setContentType("application/json");
+        json.setContent("{}".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> reader.read(json, "file", (fields, filename, contentType, content) -> "x"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static MockHttpServletRequest multipart(String parts) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files/upload");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent((parts + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String field(String name, String value) {
+        return "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n";
+    }
+
+    private static String file(String name, String filename, String contentType, String content) {
+        return "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n"
+                + content + "\r\n";
+    }
+}
@@ -0,0 +1,120 @@
+package com.jinyverse.backend.domain.file.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapByteCacheTest {
+
+    private static final int PAGE = 16;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("put/get: 여러 페이지에 걸친 내용을 구간별로 그대로 읽음")
+    void put_get_구간읽기() throws IOException {
+        OffHeapByteCache<String> cache = new OffHeapByteCache<>(PAGE * 8, PAGE, PAGE * 4);
+        byte[] data = bytes(40, 1);
+        Path file = write("a.jpg", data);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.put("a", file, data.length, "\"e\"", 123L, "thumb/a.jpg", cache.stamp())).isTrue();
+
+        try (OffHeapByteCache.Lease lease = cache.get("a")) {
+            assertThat(lease.length()).isEqualTo(40);
+            assertThat(lease.etag()).isEqualTo("\"e\"");
+            assertThat(lease.lastModified()).isEqualTo(123L);
+            assertThat(read(lease, 0, 40)).isEqualTo(data);
+            assertThat(read(lease, 10, 20)).isEqualTo(Arrays.copyOfRange(data, 10, 30));
+        }
+        OffHeapByteCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.usedBytes()).isEqualTo(PAGE * 3);
+    }
+
+    @Test
+    @DisplayName("put: 최대 크기 초과, 조회 중 무효화가 있었으면 넣지 않음")
+    void put_거부() throws IOException {
+        OffHeapByteCache<String> cache = new OffHeapByteCache<>(PAGE * 8, PAGE, PAGE * 2);
+        Path big = write("big.jpg", bytes(PAGE * 2 + 1, 0));
+        Path small = write("small.jpg", bytes(PAGE, 0));
+
+        assertThat(cache.put("big", big, PAGE * 2 + 1, "\"b\"", 0L, null, cache.stamp())).isFalse();
+
+        long stamp = cache.stamp();
+        cache.invalidate("small");
+        assertThat(cache.put("small", small, PAGE, "\"s\"", 0L, null, stamp)).isFalse();
+        assertThat(cache.stats().usedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("교체: 자주 요청된 항목은 한 번 요청된 새 항목에 밀려나지 않고, 더 자주 요청된 항목은 LRU를 밀어냄")
+    void 교체_빈도기반입장() throws IOException {
+        OffHeapByteCache<String> cache = new OffHeapByteCache<>(PAGE * 2, PAGE, PAGE);
+        Path file = write("p.jpg", bytes(PAGE, 7));
+        for (String key : new String[] {"hot1", "hot2"}) {
+            cache.get(key);
+            cache.put(key, file, PAGE, "\"" + key + "\"", 0L, null, cache.stamp());
+            for (int i = 0; i < 3; i++) {
+                cache.get(key).close();
+            }
+        }
+
+        cache.get("cold");
+        assertThat(cache.put("cold", file, PAGE, "\"c\"", 0L, null, cache.stamp())).isFalse();
+
+        for (int i = 0; i < 6; i++) {
+            cache.get("rising");
+        }
+        assertThat(cache.put("rising", file, PAGE, "\"r\"", 0L, null, cache.stamp())).isTrue();
+        assertThat(cache.get("hot1")).isNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화: 전송 중인 Lease가 닫힐 때까지 페이지를 재사용하지 않음")
+    void 무효화_Lease보호() throws IOException {
+        OffHeapByteCache<String> cache = new OffHeapByteCache<>(PAGE, PAGE, PAGE);
+        byte[] data = bytes(PAGE, 3);
+        Path file = write("a.jpg", data);
+        cache.put("a", file, PAGE, "\"a\"", 0L, "thumb/a.jpg", cache.stamp());
+
+        OffHeapByteCache.Lease lease = cache.get("a");
+        cache.invalidateTag("thumb/a.jpg");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.put("b", write("b.jpg", bytes(PAGE, 9)), PAGE, "\"b\"", 0L, null, cache.stamp())).isFalse();
+        assertThat(read(lease, 0, PAGE)).isEqualTo(data);
+
+        lease.close();
+        assertThat(cache.stats().usedBytes()).isZero();
+    }
+
+    private Path write(String name, byte[] data) throws IOException {
+        return Files.write(dir.resolve(name), data);
+    }
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + seed);
+        }
+        return data;
+    }
+
+    private static byte[] read(OffHeapByteCache.Lease lease, long start, long count) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        lease.writeTo(Channels.newChannel(out), start, count);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,88 @@
+package com.jinyverse.backend.domain.file.util;
+
+import com.jinyverse.backend.domain.file.storage.FileStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ZipStreamWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("write: 압축된 형식은 STORED, 나머지는 DEFLATED(gzip 저장분은 풀어서)로 순서대로 담고 없는 파일은 건너뜀")
+    void write_압축방식_순서() throws IOException {
+        FileStorage fileStorage = mock(FileStorage.class);
+        byte[] jpeg = "jpeg-bytes".getBytes(StandardCharsets.US_ASCII);
+        byte[] text = "hello ".repeat(100).getBytes(StandardCharsets.US_ASCII);
+        when(fileStorage.getResource("a.jpg"))
+                .thenReturn(new FileSystemResource(Files.write(tempDir.resolve("a.jpg"), jpeg)));
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(text);
+        }
+        when(fileStorage.getResource("b.txt.gz"))
+                .thenReturn(new FileSystemResource(Files.write(tempDir.resolve("b.txt.gz"), gzipped.toByteArray())));
+        when(fileStorage.getResource("gone.png")).thenReturn(new FileSystemResource(tempDir.resolve("gone.png")));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ZipStreamWriter(fileStorage).write(List.of(
+                new ZipStreamWriter.Entry("사진.jpg", "a.jpg", "image/jpeg", null),
+                new ZipStreamWriter.Entry("gone.png", "gone.png", "image/png", null),
+                new ZipStreamWriter.Entry("notes.txt", "b.txt.gz", "text/plain", "gzip")), "게시글.zip", response);
+
+        assertThat(response.getContentType()).isEqualTo("application/zip");
+        assertThat(response.getHeader("Content-Disposition"))
+                .isEqualTo("attachment; filename*=UTF-8''%EA%B2%8C%EC%8B%9C%EA%B8%80.zip");
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()),
+                StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                byte[] content = zip.readAllBytes();
+                if (entry.getName().equals("사진.jpg")) {
+                    assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+                    assertThat(content).isEqualTo(jpeg);
+                } else {
+                    assertThat(entry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+                    assertThat(content).isEqualTo(text);
+                }
+            }
+        }
+        assertThat(names).containsExactly("사진.jpg", "notes.txt");
+    }
+
+    @Test
+    @DisplayName("uniqueName: 같은 이름(대소문자 무시)은 확장자 앞에 번호, 경로 구분자는 제거")
+    void uniqueName_중복_경로() {
+        Set<String> used = new HashSet<>();
+        assertThat(ZipStreamWriter.uniqueName("a.jpg", used)).isEqualTo("a.jpg");
+        assertThat(ZipStreamWriter.uniqueName("A.jpg", used)).isEqualTo("A (1).jpg");
+        assertThat(ZipStreamWriter.uniqueName("a.jpg", used)).isEqualTo("a (2).jpg");
+        assertThat(ZipStreamWriter.uniqueName("../etc/passwd", used)).isEqualTo(".._etc_passwd");
+        assertThat(ZipStreamWriter.uniqueName(null, used)).isEqualTo("file");
+    }
+}
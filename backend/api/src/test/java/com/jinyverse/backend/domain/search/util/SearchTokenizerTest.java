@@ -0,0 +1,61 @@
+package com.jinyverse.backend.domain.search.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("한글 연속 구간은 bigram, 1글자면 그대로, 영문은 단어 그대로")
+    void tokenize_bigram() {
+        assertThat(SearchTokenizer.tokenize("스프링 부트 가")).containsExactly("스프", "프링", "부트", "가");
+        assertThat(SearchTokenizer.tokenize("한글Spring2 검색")).containsExactly("한글", "spring2", "검색");
+    }
+
+    @Test
+    @DisplayName("HTML 태그/엔티티 제거, NFKC 정규화 + 소문자화")
+    void tokenize_정규화() {
+        assertThat(SearchTokenizer.tokenize("<p>Hello&nbsp;<b>World</b></p>")).containsExactly("hello", "world");
+        assertThat(SearchTokenizer.tokenize("ＡＢＣ１２")).containsExactly("abc12");
+        assertThat(SearchTokenizer.toDocument("자바 Java")).isEqualTo("자바 java");
+        assertThat(SearchTokenizer.toDocument(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("질의: 한글은 bigram, 1글자와 영문은 접두 일치, 중복 제거")
+    void toTsQuery() {
+        assertThat(SearchTokenizer.toTsQuery("스프링 boot boot")).isEqualTo("스프 & 프링 & boot:*");
+        assertThat(SearchTokenizer.toTsQuery("가")).isEqualTo("가:*");
+    }
+
+    @Test
+    @DisplayName("질의: tsquery 연산자는 토큰에 남지 않고, 토큰이 없으면 null")
+    void toTsQuery_연산자_빈질의() {
+        assertThat(SearchTokenizer.toTsQuery("a & b | !c:*")).isEqualTo("a:* & b:* & c:*");
+        assertThat(SearchTokenizer.toTsQuery("!!! ()")).isNull();
+        assertThat(SearchTokenizer.toTsQuery(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("질의: 토큰은 최대 16개")
+    void toTsQuery_토큰상한() {
+        String keyword = IntStream.range(0, 20).mapToObj(i -> "w" + i).collect(Collectors.joining(" "));
+
+        assertThat(SearchTokenizer.toTsQuery(keyword).split(" & ")).hasSize(16);
+    }
+
+    @Test
+    @DisplayName("covers: 요청 필드가 모두 색인 필드에 있어야 true")
+    void covers() {
+        String[] indexed = {"title", "content"};
+
+        assertThat(SearchTokenizer.covers(indexed, new String[] {"title"})).isTrue();
+        assertThat(SearchTokenizer.covers(indexed, new String[] {"title", "authorNickname"})).isFalse();
+        assertThat(SearchTokenizer.covers(indexed, new String[0])).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package com.jinyverse.backend.domain.setting.service;
+
+import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
+import com.jinyverse.backend.domain.setting.dto.FileStorageSettingDto;
+import com.jinyverse.backend.domain.setting.repository.SystemSettingRepository;
+import com.jinyverse.backend.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SystemSettingServiceTest {
+
+    @Mock private SystemSettingRepository systemSettingRepository;
+    @Mock private AuditLogHelper auditLogHelper;
+
+    @InjectMocks
+    private SystemSettingService systemSettingService;
+
+    @BeforeEach
+    void setUp() {
+        systemSettingService.setAccelBasePath("/app/data/uploads");
+    }
+
+    @Test
+    @DisplayName("updateFileStorageSetting: nginx 모드인데 저장 경로가 nginx 전송 경로와 다르면 400, 저장하지 않음")
+    void nginx모드_경로불일치_거부() {
+        FileStorageSettingDto dto = FileStorageSettingDto.builder()
+                .basePath("/mnt/other").downloadMode(SystemSettingService.DOWNLOAD_MODE_NGINX).build();
+
+        assertThatThrownBy(() -> systemSettingService.updateFileStorageSetting(dto))
+                .isInstanceOf(BadRequestException.class);
+        verify(systemSettingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("updateFileStorageSetting: nginx 모드는 저장 경로가 nginx 전송 경로와 같으면 저장 (끝 / 차이는 무시)")
+    void nginx모드_경로일치_저장() {
+        when(systemSettingRepository.findById(anyString())).thenReturn(Optional.empty());
+        FileStorageSettingDto dto = FileStorageSettingDto.builder()
+                .basePath("/app/data/uploads/").downloadMode(SystemSettingService.DOWNLOAD_MODE_NGINX).build();
+
+        systemSettingService.updateFileStorageSetting(dto);
+
+        verify(systemSettingRepository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("updateFileStorageSetting: stream 모드는 저장 경로와 무관하게 저장")
+    void stream모드_저장() {
+        when(systemSettingRepository.findById(anyString())).thenReturn(Optional.empty());
+        FileStorageSettingDto dto = FileStorageSettingDto.builder()
+                .basePath("/mnt/other").downloadMode(SystemSettingService.DOWNLOAD_MODE_STREAM).build();
+
+        systemSettingService.updateFileStorageSetting(dto);
+
+        verify(systemSettingRepository, times(2)).save(any());
+    }
+}
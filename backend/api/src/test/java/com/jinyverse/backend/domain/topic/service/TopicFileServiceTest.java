@@ -0,0 +1,157 @@
+package com.jinyverse.backend.domain.topic.service;
+
+import com.jinyverse.backend.domain.common.util.Channel;
+import com.jinyverse.backend.domain.common.util.RequestContext;
+import com.jinyverse.backend.domain.common.util.Role;
+import com.jinyverse.backend.domain.file.service.FileAclCache;
+import com.jinyverse.backend.domain.file.util.ZipStreamWriter;
+import com.jinyverse.backend.domain.topic.dto.TopicFileArchiveDto;
+import com.jinyverse.backend.domain.topic.dto.TopicFileItemDto;
+import com.jinyverse.backend.domain.topic.repository.RelTopicFileRepository;
+import com.jinyverse.backend.exception.ForbiddenException;
+import com.jinyverse.backend.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopicFileServiceTest {
+
+    @Mock private RelTopicFileRepository relTopicFileRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private FileAclCache fileAclCache;
+
+    @InjectMocks
+    private TopicFileService topicFileService;
+
+    /** SELECT 결과로 (fileId, order, isMain) 행들을 돌려주도록 스텁 */
+    private void givenCurrentRels(UUID topicId, Object[]... rows) {
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (Object[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getObject("file_id", UUID.class)).thenReturn((UUID) row[0]);
+                when(rs.getInt("order")).thenReturn((Integer) row[1]);
+                when(rs.getBoolean("is_main")).thenReturn((Boolean) row[2]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(topicId));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("saveTopicFiles: 빠진 파일 삭제, 위치 바뀐 파일 UPDATE, 새 파일만 INSERT + 세션 해제")
+    void saveTopicFiles_diff() {
+        UUID topicId = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        UUID moved = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        givenCurrentRels(topicId,
+                new Object[]{removed, 0, true},
+                new Object[]{moved, 1, false},
+                new Object[]{kept, 2, false});
+
+        topicFileService.saveTopicFiles(topicId, List.of(
+                TopicFileItemDto.builder().fileId(moved).order(0).isMain(true).build(),
+                TopicFileItemDto.builder().fileId(added).order(1).isMain(false).build(),
+                TopicFileItemDto.builder().fileId(kept).order(2).isMain(false).build()));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(sql.capture(), args.capture());
+        assertThat(sql.getAllValues().get(0)).startsWith("DELETE");
+        assertThat(args.getAllValues().get(0)).extracting(r -> r[1]).containsExactly(removed);
+        assertThat(sql.getAllValues().get(1)).startsWith("UPDATE rel__topic_file");
+        assertThat(args.getAllValues().get(1)).extracting(r -> r[3]).containsExactly(moved);
+        assertThat(sql.getAllValues().get(2)).startsWith("INSERT");
+        assertThat(args.getAllValues().get(2)).extracting(r -> r[2]).containsExactly(added);
+        verify(jdbcTemplate).update(startsWith("UPDATE common_file"), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("saveTopicFiles: 변경이 없으면 쓰기 쿼리를 실행하지 않음")
+    void saveTopicFiles_변경없음() {
+        UUID topicId = UUID.randomUUID();
+        UUID fileId = UUID.randomUUID();
+        givenCurrentRels(topicId, new Object[]{fileId, 0, true});
+
+        topicFileService.saveTopicFiles(topicId, List.of(
+                TopicFileItemDto.builder().fileId(fileId).order(0).isMain(true).build()));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    private static Map<String, Object> archiveRow(UUID authorUserId, boolean isPublic, String originalName,
+                                                  String filePath) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("title", "첨부 모음");
+        row.put("author_user_id", authorUserId);
+        row.put("is_public", isPublic);
+        row.put("status", "published");
+        row.put("original_name", originalName);
+        row.put("stored_name", filePath != null ? filePath.substring(filePath.lastIndexOf('/') + 1) : null);
+        row.put("file_path", filePath);
+        row.put("mime_type", "image/jpeg");
+        return row;
+    }
+
+    @Test
+    @DisplayName("getArchive: 공개 게시글은 익명도 허용, 첨부 순서대로 (원본명 없으면 저장명)")
+    void getArchive_공개게시글() {
+        UUID topicId = UUID.randomUUID();
+        UUID author = UUID.randomUUID();
+        when(jdbcTemplate.queryForList(anyString(), eq(topicId))).thenReturn(List.of(
+                archiveRow(author, true, "a.jpg", "blobs/aa/bb/a.jpg"),
+                archiveRow(author, true, null, "blobs/cc/dd/b.jpg")));
+
+        TopicFileArchiveDto archive = topicFileService.getArchive(topicId,
+                RequestContext.anonymous(Channel.EXTERNAL, "1.2.3.4"));
+
+        assertThat(archive.getFilename()).isEqualTo("첨부 모음.zip");
+        assertThat(archive.getEntries()).extracting(ZipStreamWriter.Entry::name).containsExactly("a.jpg", "b.jpg");
+    }
+
+    @Test
+    @DisplayName("getArchive: 비공개 게시글은 작성자만, 없는 게시글은 404")
+    void getArchive_비공개_없음() {
+        UUID topicId = UUID.randomUUID();
+        UUID author = UUID.randomUUID();
+        when(jdbcTemplate.queryForList(anyString(), eq(topicId))).thenReturn(List.of(
+                archiveRow(author, false, "a.jpg", "blobs/aa/bb/a.jpg")));
+        RequestContext anonymous = RequestContext.anonymous(Channel.EXTERNAL, "1.2.3.4");
+
+        assertThatThrownBy(() -> topicFileService.getArchive(topicId, anonymous))
+                .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> topicFileService.getArchive(topicId,
+                anonymous.withAuth(UUID.randomUUID(), "other", Role.USER)))
+                .isInstanceOf(ForbiddenException.class);
+        assertThat(topicFileService.getArchive(topicId, anonymous.withAuth(author, "author", Role.USER))
+                .getEntries()).hasSize(1);
+
+        UUID missing = UUID.randomUUID();
+        when(jdbcTemplate.queryForList(anyString(), eq(missing))).thenReturn(List.of());
+        assertThatThrownBy(() -> topicFileService.getArchive(missing, anonymous))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -1,15 +1,19 @@
 package com.jinyverse.backend.domain.topic.service;
 
+import com.jinyverse.backend.config.EtagSupport;
 import com.jinyverse.backend.domain.audit.util.AuditLogHelper;
 import com.jinyverse.backend.domain.comment.repository.CommentRepository;
 import com.jinyverse.backend.domain.common.util.Channel;
 import com.jinyverse.backend.domain.common.util.RequestContext;
 import com.jinyverse.backend.domain.common.util.Role;
+import com.jinyverse.backend.domain.search.service.SearchIndexService;
 import com.jinyverse.backend.domain.topic.dto.TopicRequestDto;
 import com.jinyverse.backend.domain.topic.dto.TopicResponseDto;
+import com.jinyverse.backend.domain.topic.dto.TopicVersion;
 import com.jinyverse.backend.domain.topic.entity.Topic;
 import com.jinyverse.backend.domain.topic.repository.RelTopicTagRepository;
 import com.jinyverse.backend.domain.topic.repository.TopicRepository;
+import com.jinyverse.backend.exception.ForbiddenException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,6 +41,10 @@ class TopicServiceTest {
     @Mock private AuditLogHelper auditLogHelper;
     @Mock private TopicTagService topicTagService;
     @Mock private TopicFileService topicFileService;
+    @Mock private TopicViewCountBuffer topicViewCountBuffer;
+    @Mock private TopicHydrator topicHydrator;
+    @Mock private SearchIndexService searchIndexService;
+    @Mock private EtagSupport etagSupport;
 
     @InjectMocks
     private TopicService topicService;
@@ -95,8 +103,7 @@ class TopicServiceTest {
                 .build();
 
         when(topicRepository.save(any(Topic.class))).thenReturn(savedTopic);
-        when(topicTagService.fillTagsForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
-        when(topicFileService.getFilesForTopic(topicId)).thenReturn(List.of());
+        when(topicHydrator.fillForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
 
         TopicResponseDto result = topicService.create(requestDto, adminInternal());
 
@@ -161,15 +168,17 @@ class TopicServiceTest {
                 .build();
 
         when(topicRepository.findByIdAndDeletedAtIsNull(topicId)).thenReturn(Optional.of(topic));
-        when(topicRepository.save(any(Topic.class))).thenReturn(topic);
-        when(topicTagService.fillTagsForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
-        when(topicFileService.getFilesForTopic(topicId)).thenReturn(List.of());
+        when(topicViewCountBuffer.pending(topicId)).thenReturn(1L);
+        when(topicHydrator.fillForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
 
         RequestContext externalCtx = RequestContext.anonymous(Channel.EXTERNAL, "1.2.3.4");
-        topicService.getById(topicId, externalCtx);
+        TopicResponseDto result = topicService.getById(topicId, externalCtx);
 
-        assertThat(topic.getViewCount()).isEqualTo(6);
-        verify(topicRepository).save(topic);
+        // 증가분은 버퍼에 누적되고 응답에만 반영됨 (엔티티/DB 직접 갱신 없음)
+        assertThat(result.getViewCount()).isEqualTo(6);
+        assertThat(topic.getViewCount()).isEqualTo(5);
+        verify(topicViewCountBuffer).increment(topicId);
+        verify(topicRepository, never()).save(any());
     }
 
     @Test
@@ -192,15 +201,57 @@ class TopicServiceTest {
                 .build();
 
         when(topicRepository.findByIdAndDeletedAtIsNull(topicId)).thenReturn(Optional.of(topic));
-        when(topicTagService.fillTagsForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
-        when(topicFileService.getFilesForTopic(topicId)).thenReturn(List.of());
+        when(topicHydrator.fillForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
 
         topicService.getById(topicId, adminInternal());
 
         assertThat(topic.getViewCount()).isEqualTo(5);
+        verify(topicViewCountBuffer, never()).increment(any());
         verify(topicRepository, never()).save(any());
     }
 
+    // ===== getEtag() =====
+
+    @Test
+    @DisplayName("getEtag: 버전 컬럼(태그/작성자 수정 일시 포함)만으로 약한 ETag 계산, 조회수는 증가시키지 않음")
+    void getEtag_버전컬럼으로_ETag계산() {
+        UUID topicId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+        TopicVersion version = mock(TopicVersion.class);
+        when(version.getIsPublic()).thenReturn(true);
+        when(version.getStatus()).thenReturn("created");
+        when(version.getUpdatedAt()).thenReturn(updatedAt);
+        when(version.getCommentCount()).thenReturn(3);
+        when(version.getThumbnailCount()).thenReturn(1L);
+        LocalDateTime tagsUpdatedAt = LocalDateTime.of(2026, 10, 2, 9, 0);
+        LocalDateTime authorUpdatedAt = LocalDateTime.of(2026, 10, 3, 9, 0);
+        when(version.getTagsUpdatedAt()).thenReturn(tagsUpdatedAt);
+        when(version.getAuthorUpdatedAt()).thenReturn(authorUpdatedAt);
+        when(topicRepository.findVersionById(topicId)).thenReturn(Optional.of(version));
+        when(etagSupport.weak("topic", topicId, updatedAt, 3, null, 1L, tagsUpdatedAt, authorUpdatedAt))
+                .thenReturn("W/\"v1\"");
+
+        String etag = topicService.getEtag(topicId, RequestContext.anonymous(Channel.EXTERNAL, "1.2.3.4"));
+
+        assertThat(etag).isEqualTo("W/\"v1\"");
+        verify(topicRepository, never()).findByIdAndDeletedAtIsNull(any());
+        verify(topicHydrator, never()).fillForSingle(any(), any());
+        verify(topicViewCountBuffer, never()).increment(any());
+    }
+
+    @Test
+    @DisplayName("getEtag: EXTERNAL 비로그인 사용자가 비공개 게시글 요청 시 403 (304로 우회 불가)")
+    void getEtag_비공개게시글_비로그인_예외() {
+        UUID topicId = UUID.randomUUID();
+        TopicVersion version = mock(TopicVersion.class);
+        when(version.getIsPublic()).thenReturn(false);
+        when(topicRepository.findVersionById(topicId)).thenReturn(Optional.of(version));
+
+        assertThatThrownBy(() -> topicService.getEtag(topicId, RequestContext.anonymous(Channel.EXTERNAL, "1.2.3.4")))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(etagSupport);
+    }
+
     // ===== promoteDraft() — update() 를 통해 간접 테스트 =====
 
     @Test
@@ -251,10 +302,7 @@ class TopicServiceTest {
         when(topicRepository.findByIdAndDeletedAtIsNull(draftId)).thenReturn(Optional.of(draft));
         when(topicRepository.findByIdAndDeletedAtIsNull(originalId)).thenReturn(Optional.of(original));
         when(topicRepository.save(any(Topic.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(commentRepository.findByTopicId(originalId)).thenReturn(List.of());
-        when(relTopicTagRepository.findByTopicId(originalId)).thenReturn(List.of());
-        when(topicTagService.fillTagsForSingle(eq(draftId), any())).thenAnswer(inv -> inv.getArgument(1));
-        when(topicFileService.getFilesForTopic(draftId)).thenReturn(List.of());
+        when(topicHydrator.fillForSingle(eq(draftId), any())).thenAnswer(inv -> inv.getArgument(1));
 
         TopicResponseDto result = topicService.update(draftId, requestDto, adminInternal());
 
@@ -262,7 +310,13 @@ class TopicServiceTest {
         assertThat(draft.getSourceTopicId()).isNull();
         assertThat(draft.getStatus()).isEqualTo("created");
         assertThat(original.getDeletedAt()).isNotNull();
+        verify(commentRepository).moveToTopic(originalId, draftId);
+        verify(topicRepository).recountComments(draftId);
         verify(topicFileService).moveFilesToTopic(originalId, draftId);
+        verify(relTopicTagRepository).moveToTopic(originalId, draftId);
+        verify(commentRepository, never()).findByTopicId(any());
+        verify(searchIndexService).remove(Topic.SEARCH_TARGET_TYPE, originalId);
+        verify(searchIndexService).index(Topic.SEARCH_TARGET_TYPE, draftId, "초안 제목", "초안 내용");
     }
 
     @Test
@@ -294,8 +348,6 @@ class TopicServiceTest {
                 .build();
 
         when(topicRepository.findByIdAndDeletedAtIsNull(draftId)).thenReturn(Optional.of(draft));
-        when(commentRepository.findByTopicId(originalId)).thenReturn(List.of());
-        when(relTopicTagRepository.findByTopicId(originalId)).thenReturn(List.of());
         // 원본이 존재하지 않음
         when(topicRepository.findByIdAndDeletedAtIsNull(originalId)).thenReturn(Optional.empty());
 
@@ -332,8 +384,7 @@ class TopicServiceTest {
 
         when(topicRepository.findByIdAndDeletedAtIsNull(topicId)).thenReturn(Optional.of(topic));
         when(topicRepository.save(any(Topic.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(topicTagService.fillTagsForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
-        when(topicFileService.getFilesForTopic(topicId)).thenReturn(List.of());
+        when(topicHydrator.fillForSingle(eq(topicId), any())).thenAnswer(inv -> inv.getArgument(1));
 
         TopicResponseDto result = topicService.update(topicId, requestDto, adminInternal());
 
@@ -0,0 +1,84 @@
+package com.jinyverse.backend.domain.topic.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopicViewCountBufferTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TopicViewCountBuffer buffer;
+
+    @Test
+    @DisplayName("increment: 증가분이 pending에 누적되고 DB는 호출하지 않음")
+    void increment_누적() {
+        UUID topicId = UUID.randomUUID();
+
+        buffer.increment(topicId);
+        buffer.increment(topicId);
+        buffer.increment(topicId);
+
+        assertThat(buffer.pending(topicId)).isEqualTo(3);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("flush: dirty 게시글마다 증가분 하나씩 배치 UPDATE 후 pending 초기화")
+    void flush_배치반영() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        buffer.increment(a);
+        buffer.increment(a);
+        buffer.increment(b);
+
+        buffer.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(row -> row[1] + "=" + row[0])
+                .containsExactlyInAnyOrder(a + "=2", b + "=1");
+        assertThat(buffer.pending(a)).isZero();
+        assertThat(buffer.pending(b)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: DB 반영 실패 시 증가분을 되돌려 다음 주기에 재시도")
+    void flush_실패시_복구() {
+        UUID topicId = UUID.randomUUID();
+        buffer.increment(topicId);
+        buffer.increment(topicId);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        buffer.flush();
+
+        assertThat(buffer.pending(topicId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("flush: 증가분이 없으면 DB를 호출하지 않음")
+    void flush_비어있음() {
+        buffer.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
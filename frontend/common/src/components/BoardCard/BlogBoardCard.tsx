@@ -16,7 +16,7 @@ interface BlogBoardCardProps {
 export function BlogBoardCard({ topic, apiOptions, onClick }: BlogBoardCardProps) {
   const mainFileId = getMainFileId(topic);
   const thumbnailUrl = mainFileId ? getThumbnailUrl(apiOptions, mainFileId) : null;
-  const excerpt = getExcerpt(topic.content);
+  const excerpt = getExcerpt(topic.excerpt || topic.content);
 
   return (
     <div
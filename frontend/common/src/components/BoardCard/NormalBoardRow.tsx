@@ -11,7 +11,7 @@ interface NormalBoardRowProps {
 }
 
 export function NormalBoardRow({ topic, onClick }: NormalBoardRowProps) {
-  const excerpt = topic.content ? getExcerpt(topic.content, 120) : null;
+  const excerpt = topic.excerpt || topic.content ? getExcerpt(topic.excerpt || topic.content, 120) : null;
 
   return (
     <div
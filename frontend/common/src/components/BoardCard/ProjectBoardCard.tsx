@@ -16,7 +16,7 @@ interface ProjectBoardCardProps {
 export function ProjectBoardCard({ topic, apiOptions, onClick }: ProjectBoardCardProps) {
   const mainFileId = getMainFileId(topic);
   const coverUrl = mainFileId ? getThumbnailUrl(apiOptions, mainFileId) : null;
-  const excerpt = getExcerpt(topic.content, 100);
+  const excerpt = getExcerpt(topic.excerpt || topic.content, 100);
 
   return (
     <div
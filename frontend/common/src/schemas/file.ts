@@ -12,6 +12,10 @@ export const commonFileSchema = z.object({
   mimeType: z.string().max(100),
   fileExt: z.string().max(20).nullable(),
   thumbnailPath: z.string().nullable().optional(),
+  imageWidth: z.number().int().nullable().optional(),
+  imageHeight: z.number().int().nullable().optional(),
+  dominantColor: z.string().max(7).nullable().optional(),
+  blurHash: z.string().max(100).nullable().optional(),
   createdAt: z.string(),
 });
 
@@ -23,6 +27,10 @@ export const relTopicFileSchema = z.object({
   fileId: uuid,
   order: z.number().int(),
   isMain: z.boolean(),
+  imageWidth: z.number().int().nullable().optional(),
+  imageHeight: z.number().int().nullable().optional(),
+  dominantColor: z.string().max(7).nullable().optional(),
+  blurHash: z.string().max(100).nullable().optional(),
   createdAt: z.string(),
 });
 
@@ -3,6 +3,8 @@ import { z } from 'zod';
 /** 파일 저장소 설정 (관리단) */
 export const fileStorageSettingSchema = z.object({
   basePath: z.string().nullable(),
+  /** stream: 백엔드 직접 전송, nginx: X-Accel-Redirect 로 nginx 가 전송 */
+  downloadMode: z.enum(['stream', 'nginx']).nullable().optional(),
 });
 
 export type FileStorageSetting = z.infer<typeof fileStorageSettingSchema>;
@@ -10,6 +12,7 @@ export type FileStorageSetting = z.infer<typeof fileStorageSettingSchema>;
 /** 파일 저장소 설정 수정 요청 */
 export const fileStorageSettingUpdateSchema = z.object({
   basePath: z.string().max(500).optional().nullable(),
+  downloadMode: z.enum(['stream', 'nginx']).optional(),
 });
 
 export type FileStorageSettingUpdate = z.infer<typeof fileStorageSettingUpdateSchema>;
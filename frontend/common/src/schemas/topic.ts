@@ -18,17 +18,22 @@ export const topicSchema = z.object({
   status: z.string().max(40),
   boardId: uuid,
   title: z.string().max(200),
-  content: z.string(),
+  /** 목록 응답(요약)에는 본문이 없음 → 상세 조회에서만 채워짐 */
+  content: z.string().default(''),
+  /** 목록 응답 전용 본문 요약 (서버에서 태그 제거 후 최대 200자) */
+  excerpt: z.string().nullable().optional(),
   isNotice: z.boolean().nullable(),
   isPinned: z.boolean().nullable(),
   isPublic: z.boolean().nullable(),
   viewCount: z.number().int().nullable(),
+  commentCount: z.number().int().nullable().optional(),
+  lastCommentedAt: z.string().nullable().optional(),
   sourceTopicId: optionalUuid.nullable(),
   hidden: z.boolean().nullable(),
   publishedAt: z.string().nullable(),
   createdAt: z.string(),
   updatedAt: z.string(),
-  deletedAt: z.string().nullable(),
+  deletedAt: z.string().nullable().optional(),
   tags: z.array(tagSchema).optional(),
   files: z.array(relTopicFileSchema).optional(),
 });
@@ -1,10 +1,21 @@
 import type { ApiOptions } from '../types/api';
 import { apiGet, apiPost } from './api';
 
+export interface ThumbnailBackfillProgress {
+  /** NONE: 실행 이력 없음, 그 외 Spring Batch 상태 (STARTED, COMPLETED, FAILED ...) */
+  status: string;
+  startTime?: string | null;
+  partitions?: number;
+  completedPartitions?: number;
+  expected?: number;
+  enqueued?: number;
+}
+
 export interface ThumbnailStatus {
   total: number;
   withThumbnail: number;
   withoutThumbnail: number;
+  backfill?: ThumbnailBackfillProgress;
 }
 
 export async function getThumbnailStatus(options: ApiOptions): Promise<ThumbnailStatus> {
@@ -14,3 +25,46 @@ export async function getThumbnailStatus(options: ApiOptions): Promise<Thumbnail
 export async function runThumbnailBackfill(options: ApiOptions): Promise<{ status: string; job: string }> {
   return apiPost<{ status: string; job: string }>(options, 'api/admin/jobs/thumbnail-backfill', {});
 }
+
+export interface ThumbnailQueueStats {
+  queued: number;
+  running: number;
+  failed: number;
+  workers: number;
+  localQueueCapacity: number;
+  activeWorkers: number;
+  localQueued: number;
+  processedTotal: number;
+  failedTotal: number;
+  retriedTotal: number;
+  processedLastMinute: number;
+}
+
+export async function getThumbnailQueueStats(options: ApiOptions): Promise<ThumbnailQueueStats> {
+  return apiGet<ThumbnailQueueStats>(options, 'api/admin/jobs/thumbnail-queue');
+}
+
+export interface ThumbnailCacheStats {
+  enabled: boolean;
+  capacityBytes?: number;
+  usedBytes?: number;
+  entries?: number;
+  hits?: number;
+  misses?: number;
+  hitRate?: number;
+  loads?: number;
+  evictions?: number;
+  rejections?: number;
+}
+
+export async function getThumbnailCacheStats(options: ApiOptions): Promise<ThumbnailCacheStats> {
+  return apiGet<ThumbnailCacheStats>(options, 'api/admin/jobs/thumbnail-cache');
+}
+
+export async function runImageVariantBackfill(options: ApiOptions): Promise<{ status: string; job: string }> {
+  return apiPost<{ status: string; job: string }>(options, 'api/admin/jobs/image-variant-backfill', {});
+}
+
+export async function runImageMetadataBackfill(options: ApiOptions): Promise<{ status: string; job: string }> {
+  return apiPost<{ status: string; job: string }>(options, 'api/admin/jobs/image-metadata-backfill', {});
+}
@@ -17,10 +17,11 @@ export async function uploadFile(
   sessionId?: string
 ): Promise<CommonFile> {
   const form = new FormData();
-  form.append('file', file);
+  // 서버가 본문을 스트리밍으로 읽으므로 sessionId 필드는 file 파트보다 앞에 둔다
   if (sessionId != null && sessionId !== '') {
     form.append('sessionId', sessionId);
   }
+  form.append('file', file);
   return apiPostFormData<CommonFile>(options, `${FILES_PATH}/upload`, form);
 }
 
@@ -35,6 +36,13 @@ export function getDownloadUrl(options: ApiOptions, fileId: string): string {
   return base ? `${base}/${path}` : `/${path}`;
 }
 
+/** 게시글 첨부 파일 전체 ZIP 다운로드 URL (접근 검사는 게시글 단위 1회, 서버에서 스트리밍). */
+export function getTopicFilesZipUrl(options: ApiOptions, topicId: string): string {
+  const base = options.baseUrl || '';
+  const path = `api/topics/${topicId}/files.zip`;
+  return base ? `${base}/${path}` : `/${path}`;
+}
+
 /** 파일을 Blob으로 조회. Avatar 등 <img>에 쓸 object URL 생성용. */
 export async function fetchFileAsBlob(options: ApiOptions, fileId: string): Promise<Blob> {
   return apiGetBlob(options, `${FILES_PATH}/${fileId}/download`);
@@ -45,6 +53,21 @@ export async function fetchThumbnailAsBlob(options: ApiOptions, fileId: string):
   return apiGetBlob(options, `${FILES_PATH}/${fileId}/thumbnail`);
 }
 
+/** 서버 허용 너비. 요청 시 생성되어 디스크에 캐시되며 immutable 캐시 헤더로 응답된다. */
+export type ImageVariantWidth = 160 | 320 | 640 | 1280 | 1920;
+
+/** 크기별 이미지 URL (<img src>/srcset 용). */
+export function getImageUrl(
+  options: ApiOptions,
+  fileId: string,
+  width: ImageVariantWidth,
+  format: 'jpeg' | 'webp' = 'jpeg'
+): string {
+  const base = options.baseUrl || '';
+  const path = `${FILES_PATH}/${fileId}/image?w=${width}&fmt=${format}`;
+  return base ? `${base}/${path}` : `/${path}`;
+}
+
 export async function deleteFile(options: ApiOptions, id: string): Promise<void> {
   return apiDelete(options, `${FILES_PATH}/${id}`);
 }
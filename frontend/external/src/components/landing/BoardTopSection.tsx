@@ -60,7 +60,7 @@ function ProjectGrid({ topics, boardId, apiBaseUrl }: { topics: Topic[]; boardId
       {topics.map((topic) => {
         const fileId = getMainFileId(topic);
         const thumbUrl = fileId ? `${apiBaseUrl}/api/files/${fileId}/thumbnail` : null;
-        const excerpt = getExcerpt(topic.content, 100);
+        const excerpt = getExcerpt(topic.excerpt || topic.content, 100);
         return (
           <Link
             key={topic.id}
@@ -113,7 +113,7 @@ function BlogList({ topics, boardId, apiBaseUrl }: { topics: Topic[]; boardId: s
       {topics.map((topic) => {
         const fileId = getMainFileId(topic);
         const thumbUrl = fileId ? `${apiBaseUrl}/api/files/${fileId}/thumbnail` : null;
-        const excerpt = getExcerpt(topic.content, 120);
+        const excerpt = getExcerpt(topic.excerpt || topic.content, 120);
         return (
           <Link
             key={topic.id}
@@ -158,7 +158,7 @@ function NormalList({ topics, boardId }: { topics: Topic[]; boardId: string }) {
   return (
     <div className="flex flex-col divide-y divide-border">
       {topics.map((topic) => {
-        const excerpt = getExcerpt(topic.content, 120);
+        const excerpt = getExcerpt(topic.excerpt || topic.content, 120);
         return (
           <Link
             key={topic.id}
@@ -55,7 +55,7 @@ function ProjectGrid({ topics, boardId, apiBaseUrl }: { topics: Topic[]; boardId
       {topics.map((topic) => {
         const fileId = getMainFileId(topic);
         const thumbUrl = fileId ? `${apiBaseUrl}/api/files/${fileId}/download` : null;
-        const excerpt = getExcerpt(topic.content, 100);
+        const excerpt = getExcerpt(topic.excerpt || topic.content, 100);
         return (
           <div key={topic.id} className="rounded-xl overflow-hidden border border-border bg-card">
             <div className="relative aspect-video bg-muted overflow-hidden">
@@ -92,7 +92,7 @@ function BlogList({ topics, boardId, apiBaseUrl }: { topics: Topic[]; boardId: s
       {topics.map((topic) => {
         const fileId = getMainFileId(topic);
         const thumbUrl = fileId ? `${apiBaseUrl}/api/files/${fileId}/download` : null;
-        const excerpt = getExcerpt(topic.content, 120);
+        const excerpt = getExcerpt(topic.excerpt || topic.content, 120);
         return (
           <div key={topic.id} className="flex gap-4 py-4">
             <div className="shrink-0 w-32 h-24 rounded-lg overflow-hidden bg-muted relative">
@@ -122,7 +122,7 @@ function NormalList({ topics }: { topics: Topic[] }) {
   return (
     <div className="flex flex-col divide-y divide-border">
       {topics.map((topic) => {
-        const excerpt = getExcerpt(topic.content, 120);
+        const excerpt = getExcerpt(topic.excerpt || topic.content, 120);
         return (
           <div key={topic.id} className="py-4">
             <h3 className="text-base font-semibold text-foreground truncate">{topic.title}</h3>
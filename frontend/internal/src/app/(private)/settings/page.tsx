@@ -20,6 +20,7 @@ export default function SettingsPage() {
   const options = useApiOptions();
   const { t } = useLanguage();
   const [basePath, setBasePath] = useState('');
+  const [downloadMode, setDownloadMode] = useState<'stream' | 'nginx'>('stream');
   const [loading, setLoading] = useState(true);
   const [saving, setSaving] = useState(false);
   const [message, setMessage] = useState<{ type: 'ok' | 'error'; text: string } | null>(null);
@@ -44,6 +45,7 @@ export default function SettingsPage() {
       .then(([res, user, thumbStatus]) => {
         if (!done) {
           setBasePath(res.basePath ?? '');
+          setDownloadMode(res.downloadMode ?? 'stream');
           setMe(user ?? null);
           setThumbnailStatus(thumbStatus ?? null);
         }
@@ -64,7 +66,7 @@ export default function SettingsPage() {
     setMessage(null);
     setSaving(true);
     try {
-      await updateFileStorageSetting(options, { basePath: basePath.trim() || null });
+      await updateFileStorageSetting(options, { basePath: basePath.trim() || null, downloadMode });
       setMessage({ type: 'ok', text: t('admin.setting.saved') });
     } catch {
       setMessage({ type: 'error', text: t('admin.setting.saveFailed') });
@@ -97,6 +99,20 @@ export default function SettingsPage() {
                 maxLength={500}
               />
             </label>
+            <label className="flex flex-col gap-1">
+              <span className="text-sm font-medium text-foreground">다운로드 전송 방식</span>
+              <select
+                value={downloadMode}
+                onChange={(e) => setDownloadMode(e.target.value as 'stream' | 'nginx')}
+                className="rounded border border-input bg-background px-3 py-2 text-foreground focus:border-ring focus:outline-none focus:ring-1 focus:ring-ring"
+              >
+                <option value="stream">백엔드 직접 전송</option>
+                <option value="nginx">nginx 전송 (X-Accel-Redirect)</option>
+              </select>
+              <span className="text-xs text-muted-foreground">
+                nginx 전송은 nginx 에 업로드 경로가 마운트되어 있어야 합니다 (docker/nginx.conf).
+              </span>
+            </label>
             {message && (
               <p
                 className={`text-sm ${message.type === 'ok' ? 'text-green-400' : 'text-red-400'}`}
@@ -136,6 +152,13 @@ export default function SettingsPage() {
             </div>
           </div>
         )}
+        {thumbnailStatus?.backfill && thumbnailStatus.backfill.status !== 'NONE' && (
+          <p className="mb-4 text-sm text-muted-foreground">
+            마지막 백필: {thumbnailStatus.backfill.status} · 파티션 {thumbnailStatus.backfill.completedPartitions ?? 0}/
+            {thumbnailStatus.backfill.partitions ?? 0} · 등록 {thumbnailStatus.backfill.enqueued ?? 0}/
+            {thumbnailStatus.backfill.expected ?? 0}
+          </p>
+        )}
         {backfillMessage && (
           <p className={`mb-3 text-sm ${backfillMessage.type === 'ok' ? 'text-green-400' : 'text-red-400'}`}>
             {backfillMessage.text}
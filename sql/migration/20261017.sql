@@ -0,0 +1,5 @@
+-- 게시글 목록 커서(keyset) 페이지네이션용 인덱스
+-- 정렬 (is_pinned DESC, created_at DESC, id DESC) 그대로 seek 하도록 게시판 단위 복합 인덱스
+CREATE INDEX IF NOT EXISTS "ix_topic_board_list_cursor"
+  ON "topic" ("board_id", "is_pinned" DESC, "created_at" DESC, "id" DESC)
+  WHERE "deleted_at" IS NULL AND "hidden" = false;
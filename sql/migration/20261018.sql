@@ -0,0 +1,24 @@
+-- 전문 검색 인덱스 (게시글 title/content)
+-- 토큰화는 애플리케이션(SearchTokenizer)에서 한글 bigram으로 수행하고, 여기서는 'simple' 구성 tsvector + GIN만 사용한다.
+-- 적용 후 POST /api/admin/jobs/search-reindex 로 기존 게시글을 색인해야 검색 결과가 나온다.
+CREATE TABLE IF NOT EXISTS "search_index" (
+  "id"            UUID        PRIMARY KEY NOT NULL DEFAULT gen_random_uuid(),
+  "target_type"   VARCHAR(40) NOT NULL,
+  "target_id"     UUID        NOT NULL,
+  "search_vector" TSVECTOR    NOT NULL,
+  "updated_at"    TIMESTAMP   NOT NULL DEFAULT now(),
+  CONSTRAINT "uq_search_index_target" UNIQUE ("target_type", "target_id")
+);
+
+CREATE INDEX IF NOT EXISTS "ix_search_index_vector" ON "search_index" USING GIN ("search_vector");
+
+-- JPA Criteria에서 @@ 연산자를 쓸 수 없어 함수로 감싼다 (SQL 함수라 인라인되어 GIN 인덱스 사용)
+CREATE OR REPLACE FUNCTION fts_match(tsvector, text) RETURNS boolean
+  AS $$ SELECT $1 @@ to_tsquery('simple', $2) $$
+  LANGUAGE sql IMMUTABLE;
+
+-- 관련도 정렬 (?sort=relevance). 색인 없는 행은 0
+CREATE OR REPLACE FUNCTION fts_rank(varchar, uuid, text) RETURNS real
+  AS $$ SELECT COALESCE((SELECT ts_rank(si.search_vector, to_tsquery('simple', $3))
+                         FROM search_index si WHERE si.target_type = $1 AND si.target_id = $2), 0) $$
+  LANGUAGE sql STABLE;
@@ -0,0 +1,9 @@
+-- 댓글 트리 재귀 CTE (WITH RECURSIVE) 조회/삭제용 인덱스
+-- 최상위 댓글: topic_id 로 시작, 하위 댓글: upper_comment_id 로 한 단계씩 내려감
+CREATE INDEX IF NOT EXISTS "ix_comment_topic_root"
+  ON "comment" ("topic_id", "created_at")
+  WHERE "upper_comment_id" IS NULL AND "deleted_at" IS NULL;
+
+CREATE INDEX IF NOT EXISTS "ix_comment_upper_comment_id"
+  ON "comment" ("upper_comment_id")
+  WHERE "deleted_at" IS NULL;
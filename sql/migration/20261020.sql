@@ -0,0 +1,24 @@
+-- 게시글 댓글 수/마지막 댓글 일시 비정규화 컬럼
+-- CommentService 가 작성/삭제 시 증감하고, 정합성 배치(topicCommentStatsReconcileJob)가 어긋난 값을 보정
+ALTER TABLE "topic" ADD COLUMN IF NOT EXISTS "comment_count" INT NOT NULL DEFAULT 0;
+ALTER TABLE "topic" ADD COLUMN IF NOT EXISTS "last_commented_at" TIMESTAMP;
+
+COMMENT ON COLUMN "topic"."comment_count" IS '댓글 수 (삭제 제외)';
+COMMENT ON COLUMN "topic"."last_commented_at" IS '마지막 댓글 작성일시';
+
+-- 기존 데이터 채우기
+UPDATE "topic" t
+SET "comment_count" = s.cnt,
+    "last_commented_at" = s.last_at
+FROM (
+  SELECT "topic_id", COUNT(*) AS cnt, MAX("created_at") AS last_at
+  FROM "comment"
+  WHERE "deleted_at" IS NULL
+  GROUP BY "topic_id"
+) s
+WHERE t."id" = s."topic_id";
+
+-- 게시판별 "댓글 많은 순" 목록
+CREATE INDEX IF NOT EXISTS "ix_topic_board_comment_count"
+  ON "topic" ("board_id", "comment_count" DESC)
+  WHERE "deleted_at" IS NULL;
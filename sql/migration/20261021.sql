@@ -0,0 +1,29 @@
+-- 내용 주소(content-addressed) 파일 저장소
+-- 같은 내용(SHA-256)의 업로드는 blob 하나를 공유하고 참조 수(ref_count)로 관리
+-- 마지막 참조가 사라질 때만 실제 파일/썸네일 삭제
+CREATE TABLE IF NOT EXISTS "file_blob" (
+  "hash" CHAR(64) PRIMARY KEY NOT NULL,
+  "file_path" TEXT NOT NULL,
+  "file_size" BIGINT NOT NULL,
+  "mime_type" VARCHAR(100),
+  "thumbnail_path" VARCHAR(500),
+  "ref_count" INT NOT NULL DEFAULT 0,
+  "created_at" TIMESTAMP NOT NULL DEFAULT (NOW()),
+  "updated_at" TIMESTAMP NOT NULL DEFAULT (NOW())
+);
+
+COMMENT ON TABLE "file_blob" IS '내용 주소 파일 blob (SHA-256 기준 1회 저장)';
+COMMENT ON COLUMN "file_blob"."hash" IS '파일 내용 SHA-256 (hex)';
+COMMENT ON COLUMN "file_blob"."file_path" IS '저장소 상대 경로 (blobs/ab/cd/{hash}.ext)';
+COMMENT ON COLUMN "file_blob"."ref_count" IS '이 blob을 참조하는 common_file 행 수';
+
+-- 기존 파일은 content_hash 가 NULL (행마다 개별 경로, 기존 방식으로 삭제)
+ALTER TABLE "common_file" ADD COLUMN IF NOT EXISTS "content_hash" CHAR(64);
+COMMENT ON COLUMN "common_file"."content_hash" IS '참조하는 file_blob.hash (NULL이면 개별 저장된 기존 파일)';
+
+CREATE INDEX IF NOT EXISTS "ix_common_file_content_hash"
+  ON "common_file" ("content_hash")
+  WHERE "content_hash" IS NOT NULL;
+
+-- 썸네일 완료 시 같은 blob을 공유하는 행을 file_path 로 일괄 갱신
+CREATE INDEX IF NOT EXISTS "ix_common_file_file_path" ON "common_file" ("file_path");
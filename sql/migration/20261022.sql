@@ -0,0 +1,40 @@
+-- 재개 가능한 분할 업로드 (upload_session 기반)
+-- 청크는 .uploads/{id}.part 의 해당 offset 에 직접 기록하고, 받은 청크만 upload_chunk 에 남긴다.
+CREATE TABLE IF NOT EXISTS "chunked_upload" (
+  "id"            UUID PRIMARY KEY NOT NULL DEFAULT gen_random_uuid(),
+  "session_id"    VARCHAR(64) NOT NULL,
+  "user_id"       UUID NOT NULL,
+  "original_name" VARCHAR(255) NOT NULL,
+  "mime_type"     VARCHAR(100),
+  "total_size"    BIGINT NOT NULL,
+  "chunk_size"    INT NOT NULL,
+  "part_path"     TEXT NOT NULL,
+  "expires_at"    TIMESTAMP NOT NULL,
+  "created_at"    TIMESTAMP NOT NULL DEFAULT (NOW())
+);
+
+COMMENT ON TABLE "chunked_upload" IS '분할 업로드 진행 상태 (완료 시 common_file 생성 후 삭제)';
+COMMENT ON COLUMN "chunked_upload"."session_id" IS '업로드 세션 ID (완료 시 common_file.session_id)';
+COMMENT ON COLUMN "chunked_upload"."total_size" IS '전체 파일 크기 (byte)';
+COMMENT ON COLUMN "chunked_upload"."chunk_size" IS '청크 크기 (마지막 청크만 작을 수 있음)';
+COMMENT ON COLUMN "chunked_upload"."part_path" IS '조립 중인 파일의 저장소 상대 경로';
+COMMENT ON COLUMN "chunked_upload"."expires_at" IS '만료 시각 (이후 정리 배치가 파일과 함께 삭제)';
+
+ALTER TABLE "chunked_upload"
+  ADD CONSTRAINT "chunked_upload_user_id_fk" FOREIGN KEY ("user_id") REFERENCES "user" ("id");
+
+CREATE INDEX IF NOT EXISTS "chunked_upload_expires_at_idx" ON "chunked_upload" ("expires_at");
+
+CREATE TABLE IF NOT EXISTS "upload_chunk" (
+  "upload_id"   UUID NOT NULL,
+  "chunk_index" INT NOT NULL,
+  "chunk_size"  INT NOT NULL,
+  "sha256"      CHAR(64) NOT NULL,
+  "created_at"  TIMESTAMP NOT NULL DEFAULT (NOW()),
+  PRIMARY KEY ("upload_id", "chunk_index")
+);
+
+COMMENT ON TABLE "upload_chunk" IS '분할 업로드에서 체크섬 검증까지 끝난 청크';
+
+ALTER TABLE "upload_chunk"
+  ADD CONSTRAINT "upload_chunk_upload_id_fk" FOREIGN KEY ("upload_id") REFERENCES "chunked_upload" ("id") ON DELETE CASCADE;
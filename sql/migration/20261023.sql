@@ -0,0 +1,23 @@
+-- 썸네일 생성 작업 큐 (재시작 후에도 유지)
+-- file_path(원본 blob 경로)당 1건: 같은 파일의 중복 요청은 합쳐진다. 완료된 작업은 삭제된다.
+CREATE TABLE IF NOT EXISTS "thumbnail_job" (
+  "file_path"    TEXT PRIMARY KEY NOT NULL,
+  "file_id"      UUID NOT NULL,
+  "mime_type"    VARCHAR(100) NOT NULL,
+  "status"       VARCHAR(20) NOT NULL DEFAULT 'queued',
+  "attempts"     INT NOT NULL DEFAULT 0,
+  "last_error"   TEXT,
+  "available_at" TIMESTAMP NOT NULL DEFAULT (NOW()),
+  "created_at"   TIMESTAMP NOT NULL DEFAULT (NOW()),
+  "updated_at"   TIMESTAMP NOT NULL DEFAULT (NOW())
+);
+
+COMMENT ON TABLE "thumbnail_job" IS '썸네일 생성 대기/진행/실패 작업';
+COMMENT ON COLUMN "thumbnail_job"."file_path" IS '원본 파일 저장소 상대 경로 (중복 제거 키)';
+COMMENT ON COLUMN "thumbnail_job"."file_id" IS '작업을 요청한 common_file ID (로그용)';
+COMMENT ON COLUMN "thumbnail_job"."status" IS 'queued | running | failed';
+COMMENT ON COLUMN "thumbnail_job"."attempts" IS '시도 횟수';
+COMMENT ON COLUMN "thumbnail_job"."available_at" IS '이 시각 이후 처리 (재시도 backoff)';
+COMMENT ON COLUMN "thumbnail_job"."updated_at" IS 'running 상태에서는 점유 시각 (lease 만료 시 다른 워커가 회수)';
+
+CREATE INDEX IF NOT EXISTS "ix_thumbnail_job_status_available" ON "thumbnail_job" ("status", "available_at");
@@ -0,0 +1,101 @@
+-- 파일 참조 수: 게시글/사용자/랜딩 섹션 첨부, 삭제되지 않은 CTA 이미지, 섹션 다크 이미지(extra_config.darkFileId)
+-- 연결/해제를 트리거로 집계한다 (JPA/JDBC 어느 경로로 바뀌어도 반영).
+-- 고아 파일 정리는 5개 테이블 NOT EXISTS 스캔 대신 ref_count = 0 부분 인덱스를 읽는다.
+-- JPA 엔티티에는 매핑하지 않는다 (엔티티 저장이 트리거가 관리하는 값을 덮어쓰지 않도록).
+ALTER TABLE "common_file" ADD COLUMN IF NOT EXISTS "ref_count" INT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN "common_file"."ref_count" IS '이 파일을 참조하는 연결 수 (트리거 관리, 0이면 고아 후보)';
+
+CREATE OR REPLACE FUNCTION file_ref_adjust(p_file_id UUID, p_delta INT) RETURNS VOID AS $$
+BEGIN
+  IF p_file_id IS NOT NULL THEN
+    UPDATE common_file SET ref_count = ref_count + p_delta WHERE id = p_file_id;
+  END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- extra_config.darkFileId → UUID (형식이 아니면 NULL)
+CREATE OR REPLACE FUNCTION landing_dark_file_id(p_config JSONB) RETURNS UUID AS $$
+  SELECT CASE
+           WHEN p_config ->> 'darkFileId' ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$'
+           THEN (p_config ->> 'darkFileId')::uuid
+         END;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- rel__topic_file / rel__user_file / rel__landing_section_file 공통 (file_id 컬럼)
+CREATE OR REPLACE FUNCTION trg_file_ref_rel() RETURNS TRIGGER AS $$
+BEGIN
+  IF TG_OP IN ('UPDATE', 'DELETE') THEN
+    PERFORM file_ref_adjust(OLD.file_id, -1);
+  END IF;
+  IF TG_OP IN ('INSERT', 'UPDATE') THEN
+    PERFORM file_ref_adjust(NEW.file_id, 1);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION trg_file_ref_landing_cta() RETURNS TRIGGER AS $$
+BEGIN
+  IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.deleted_at IS NULL THEN
+    PERFORM file_ref_adjust(OLD.image_file_id, -1);
+  END IF;
+  IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.deleted_at IS NULL THEN
+    PERFORM file_ref_adjust(NEW.image_file_id, 1);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION trg_file_ref_landing_section() RETURNS TRIGGER AS $$
+BEGIN
+  IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.deleted_at IS NULL THEN
+    PERFORM file_ref_adjust(landing_dark_file_id(OLD.extra_config), -1);
+  END IF;
+  IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.deleted_at IS NULL THEN
+    PERFORM file_ref_adjust(landing_dark_file_id(NEW.extra_config), 1);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS "trg_rel_topic_file_ref" ON "rel__topic_file";
+CREATE TRIGGER "trg_rel_topic_file_ref"
+  AFTER INSERT OR DELETE OR UPDATE OF "file_id" ON "rel__topic_file"
+  FOR EACH ROW EXECUTE FUNCTION trg_file_ref_rel();
+
+DROP TRIGGER IF EXISTS "trg_rel_user_file_ref" ON "rel__user_file";
+CREATE TRIGGER "trg_rel_user_file_ref"
+  AFTER INSERT OR DELETE OR UPDATE OF "file_id" ON "rel__user_file"
+  FOR EACH ROW EXECUTE FUNCTION trg_file_ref_rel();
+
+DROP TRIGGER IF EXISTS "trg_rel_landing_section_file_ref" ON "rel__landing_section_file";
+CREATE TRIGGER "trg_rel_landing_section_file_ref"
+  AFTER INSERT OR DELETE OR UPDATE OF "file_id" ON "rel__landing_section_file"
+  FOR EACH ROW EXECUTE FUNCTION trg_file_ref_rel();
+
+DROP TRIGGER IF EXISTS "trg_landing_cta_file_ref" ON "landing_cta";
+CREATE TRIGGER "trg_landing_cta_file_ref"
+  AFTER INSERT OR DELETE OR UPDATE OF "image_file_id", "deleted_at" ON "landing_cta"
+  FOR EACH ROW EXECUTE FUNCTION trg_file_ref_landing_cta();
+
+DROP TRIGGER IF EXISTS "trg_landing_section_file_ref" ON "landing_section";
+CREATE TRIGGER "trg_landing_section_file_ref"
+  AFTER INSERT OR DELETE OR UPDATE OF "extra_config", "deleted_at" ON "landing_section"
+  FOR EACH ROW EXECUTE FUNCTION trg_file_ref_landing_section();
+
+-- 기존 데이터 집계
+UPDATE "common_file" SET "ref_count" = 0 WHERE "ref_count" <> 0;
+
+WITH refs AS (
+  SELECT file_id FROM rel__topic_file
+  UNION ALL SELECT file_id FROM rel__user_file
+  UNION ALL SELECT file_id FROM rel__landing_section_file
+  UNION ALL SELECT image_file_id FROM landing_cta WHERE deleted_at IS NULL
+  UNION ALL SELECT landing_dark_file_id(extra_config) FROM landing_section WHERE deleted_at IS NULL
+), counts AS (
+  SELECT file_id, COUNT(*) AS cnt FROM refs WHERE file_id IS NOT NULL GROUP BY file_id
+)
+UPDATE "common_file" f SET "ref_count" = counts.cnt FROM counts WHERE f.id = counts.file_id;
+
+CREATE INDEX IF NOT EXISTS "ix_common_file_unreferenced" ON "common_file" ("id") WHERE "ref_count" = 0;
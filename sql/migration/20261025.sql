@@ -0,0 +1,21 @@
+-- 이미지 메타데이터: 원본 크기, 대표 색, BlurHash (클라이언트가 로딩 전 자리 확보/자리표시에 사용)
+-- 썸네일 생성 시 blob 단위로 한 번 계산해 file_blob과 이를 공유하는 common_file 행에 함께 기록한다.
+-- 같은 내용 재업로드는 file_blob 값을 그대로 복사한다. 기존 파일은 imageMetadataBackfillJob으로 채운다.
+ALTER TABLE "common_file" ADD COLUMN IF NOT EXISTS "image_width" INT;
+ALTER TABLE "common_file" ADD COLUMN IF NOT EXISTS "image_height" INT;
+ALTER TABLE "common_file" ADD COLUMN IF NOT EXISTS "dominant_color" VARCHAR(7);
+ALTER TABLE "common_file" ADD COLUMN IF NOT EXISTS "blur_hash" VARCHAR(100);
+
+ALTER TABLE "file_blob" ADD COLUMN IF NOT EXISTS "image_width" INT;
+ALTER TABLE "file_blob" ADD COLUMN IF NOT EXISTS "image_height" INT;
+ALTER TABLE "file_blob" ADD COLUMN IF NOT EXISTS "dominant_color" VARCHAR(7);
+ALTER TABLE "file_blob" ADD COLUMN IF NOT EXISTS "blur_hash" VARCHAR(100);
+
+COMMENT ON COLUMN "common_file"."image_width" IS '이미지 원본 가로 (px)';
+COMMENT ON COLUMN "common_file"."image_height" IS '이미지 원본 세로 (px)';
+COMMENT ON COLUMN "common_file"."dominant_color" IS '이미지 대표 색 (#rrggbb)';
+COMMENT ON COLUMN "common_file"."blur_hash" IS '이미지 BlurHash (로딩 전 자리표시)';
+
+-- 백필 대상: 썸네일은 있는데 자리표시 값이 없는 파일
+CREATE INDEX IF NOT EXISTS "ix_common_file_missing_blur_hash" ON "common_file" ("id")
+  WHERE "blur_hash" IS NULL AND "thumbnail_path" IS NOT NULL;
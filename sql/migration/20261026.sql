@@ -0,0 +1,7 @@
+-- 압축이 잘 되는 첨부(텍스트/CSV/JSON/구형 Office 등)는 gzip으로 저장한다 (경로에 .gz).
+-- 내용 해시/파일 크기는 원본 기준이므로 중복 제거와 표시 크기는 그대로다. 기존 파일은 NULL(원본 저장).
+ALTER TABLE "file_blob" ADD COLUMN IF NOT EXISTS "content_encoding" VARCHAR(10);
+ALTER TABLE "common_file" ADD COLUMN IF NOT EXISTS "content_encoding" VARCHAR(10);
+
+COMMENT ON COLUMN "file_blob"."content_encoding" IS '저장 인코딩 (gzip, NULL이면 원본 그대로)';
+COMMENT ON COLUMN "common_file"."content_encoding" IS '저장 인코딩 (gzip, NULL이면 원본 그대로). file_blob과 같은 값';
@@ -0,0 +1,37 @@
+-- 기존 게시글 초기 색인 (20261018.sql 로 만든 search_index 는 비어 있어 재색인 전까지 검색 결과가 없었다)
+-- SearchTokenizer 와 같은 규칙: HTML 태그/엔티티 제거 → NFKC → 소문자,
+-- 한글/한자/가나 연속 구간은 2글자 bigram(1글자면 그대로), 그 외 문자/숫자 연속 구간은 단어 그대로.
+-- 유니코드 범위가 Java 문자 클래스와 완전히 같지는 않으므로, 정확한 값은 POST /api/admin/jobs/search-reindex 로 다시 만들 수 있다.
+-- 이미 색인된 게시글은 건드리지 않는다 (애플리케이션이 먼저 색인했으면 그 값을 유지).
+
+CREATE OR REPLACE FUNCTION pg_temp.search_document(src text) RETURNS text AS $$
+  WITH cleaned AS (
+    -- 한글/한자/가나 구간 앞뒤에 공백을 넣어 영숫자와 붙어 있어도 별도 구간이 되게 한다
+    SELECT regexp_replace(
+             lower(normalize(regexp_replace(COALESCE(src, ''), '<[^>]*>|&[a-zA-Z#0-9]+;', ' ', 'g'), NFKC)),
+             '([가-힣ᄀ-ᇿ㄰-㆏ꥠ-꥿ힰ-퟿㐀-䶿一-鿿豈-﫿぀-ゟ゠-ヿㇰ-ㇿ]+)',
+             ' \1 ', 'g') AS text
+  ),
+  runs AS (
+    SELECT m.ord,
+           m.match[1] AS run,
+           m.match[1] ~ '^[가-힣ᄀ-ᇿ㄰-㆏ꥠ-꥿ힰ-퟿㐀-䶿一-鿿豈-﫿぀-ゟ゠-ヿㇰ-ㇿ]' AS cjk
+      FROM cleaned,
+           regexp_matches(cleaned.text, '([[:alnum:]가-힣ᄀ-ᇿ㄰-㆏ꥠ-꥿ힰ-퟿㐀-䶿一-鿿豈-﫿぀-ゟ゠-ヿㇰ-ㇿ]+)', 'g')
+             WITH ORDINALITY AS m(match, ord)
+  )
+  SELECT COALESCE(string_agg(
+           CASE WHEN r.cjk AND length(r.run) > 1 THEN substr(r.run, g.pos, 2) ELSE r.run END,
+           ' ' ORDER BY r.ord, g.pos), '')
+    FROM runs r
+    CROSS JOIN LATERAL generate_series(1, CASE WHEN r.cjk AND length(r.run) > 1 THEN length(r.run) - 1 ELSE 1 END) AS g(pos)
+$$ LANGUAGE sql IMMUTABLE;
+
+INSERT INTO "search_index" ("target_type", "target_id", "search_vector", "updated_at")
+SELECT 'TOPIC', t.id,
+       setweight(to_tsvector('simple', pg_temp.search_document(t.title)), 'A')
+         || setweight(to_tsvector('simple', pg_temp.search_document(t.content)), 'B'),
+       now()
+  FROM "topic" t
+ WHERE t.deleted_at IS NULL
+ON CONFLICT ("target_type", "target_id") DO NOTHING;